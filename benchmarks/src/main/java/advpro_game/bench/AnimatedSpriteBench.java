@@ -0,0 +1,51 @@
+package advpro_game.bench;
+
+import advpro_game.Launcher;
+import advpro_game.model.AnimatedSprite;
+import javafx.scene.image.Image;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Animation stepping for {@code entities} sprites sharing one sheet.
+ * {@code tick60} is a normal 60 Hz step (a frame advance every few calls);
+ * {@code advanceFrame} steps a whole frame delay so every call recomputes the viewport.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AnimatedSpriteBench {
+
+    @Param({"10", "100", "1000", "10000"})
+    int entities;
+
+    private static final int FRAME_MS = 80;
+    private AnimatedSprite[] sprites;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchWorld.headless();
+        Image sheet = new Image(Launcher.class.getResourceAsStream("/advpro_game/assets/Character.png"));
+        sprites = new AnimatedSprite[entities];
+        for (int i = 0; i < entities; i++) {
+            AnimatedSprite s = new AnimatedSprite(sheet, 32, 16, 2, 0, 0, 65, 65);
+            s.define(AnimatedSprite.Action.run, new AnimatedSprite.ActionSpec(0, 0, 6, 16, 65, 65, FRAME_MS));
+            s.setAction(AnimatedSprite.Action.run);
+            sprites[i] = s;
+        }
+    }
+
+    @Benchmark
+    public void tick60() {
+        for (AnimatedSprite s : sprites) s.update(1000.0 / 60.0);
+    }
+
+    @Benchmark
+    public void advanceFrame() {
+        for (AnimatedSprite s : sprites) s.update(FRAME_MS);
+    }
+}
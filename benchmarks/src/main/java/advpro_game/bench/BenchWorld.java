@@ -0,0 +1,48 @@
+package advpro_game.bench;
+
+import advpro_game.model.Bullet;
+import advpro_game.model.Minion;
+import advpro_game.util.Headless;
+import advpro_game.view.GameStage;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+
+/**
+ * Shared fixtures: a headless {@link GameStage} and deterministic entity layouts.
+ * Entities are laid out on a grid so that repeated invocations see the same geometry
+ * (no hits, no deaths), which keeps per-op state stable across iterations.
+ */
+final class BenchWorld {
+
+    /** Band the enemy grid occupies; bullets are placed above it so the pair scan never hits. */
+    static final double ENEMY_TOP = 300.0;
+    static final double BULLET_TOP = 120.0;
+
+    private BenchWorld() {}
+
+    /** Headless switch on, game logging down to warnings. Call from every {@code @Setup}. */
+    static void headless() {
+        Headless.setEnabled(true);
+        try { Configurator.setAllLevels("advpro_game", Level.WARN); } catch (Throwable ignored) {}
+    }
+
+    static GameStage newStage() {
+        headless();
+        return new GameStage();
+    }
+
+    /** Spriteless minion at grid cell {@code i} (enemies do not move: moveSpeed is 0). */
+    static Minion minion(int i) {
+        double x = 200 + (i % 20) * 28.0;
+        double y = ENEMY_TOP + (i / 20 % 8) * 44.0;
+        return new Minion(x, y);
+    }
+
+    /** Player bullet at grid cell {@code i}, flying horizontally. */
+    static Bullet playerBullet(int i) {
+        double x = 120 + (i % 40) * 16.0;
+        double y = BULLET_TOP + (i / 40 % 10) * 12.0;
+        return new Bullet(x, y, (i & 1) == 0 ? 1 : -1, 0, 480.0, 1, 1.6, false);
+    }
+}
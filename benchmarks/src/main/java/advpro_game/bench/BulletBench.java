@@ -0,0 +1,81 @@
+package advpro_game.bench;
+
+import advpro_game.model.Bullet;
+import advpro_game.model.BulletSystem;
+import advpro_game.model.MutableAabb;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tick bullet integration and hitbox queries over {@code entities} live bullets:
+ * one {@code Bullet.update} call per bullet vs the {@link BulletSystem} column loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulletBench {
+
+    @Param({"10", "100", "1000", "10000"})
+    int entities;
+
+    private Bullet[] bullets;
+    private BulletSystem system;
+    private final MutableAabb scratch = new MutableAabb();
+    private float[] minX, minY, maxX, maxY;
+    private static final double DT = 1.0 / 60.0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchWorld.headless();
+        bullets = new Bullet[entities];
+        for (int i = 0; i < entities; i++) bullets[i] = BenchWorld.playerBullet(i);
+        // Iteration order unrelated to allocation order, as after a few waves of swap-removes
+        Collections.shuffle(Arrays.asList(bullets), new Random(42));
+
+        minX = new float[entities]; minY = new float[entities];
+        maxX = new float[entities]; maxY = new float[entities];
+
+        system = new BulletSystem(entities);
+        for (int i = 0; i < entities; i++) system.add(BenchWorld.playerBullet(i));
+        system.commit();
+    }
+
+    @Benchmark
+    public void update() {
+        for (Bullet b : bullets) b.update(DT);
+    }
+
+    /** The old per-tick work: per-bullet update, then gathering swept boxes for the batch kernel. */
+    @Benchmark
+    public void updateAndGather(Blackhole bh) {
+        for (Bullet b : bullets) b.update(DT);
+        for (int i = 0; i < bullets.length; i++) {
+            MutableAabb path = bullets[i].sweptHitboxInto(scratch);
+            minX[i] = (float) path.minX;
+            minY[i] = (float) path.minY;
+            maxX[i] = (float) path.maxX;
+            maxY[i] = (float) path.maxY;
+        }
+        bh.consume(minX);
+    }
+
+    /** Same result from the column loop (swept boxes included). */
+    @Benchmark
+    public void systemUpdate(Blackhole bh) {
+        system.update(DT, DT);
+        bh.consume(system.sweptMinX());
+    }
+
+    @Benchmark
+    public void getHitbox(Blackhole bh) {
+        for (Bullet b : bullets) bh.consume(b.getHitbox());
+    }
+}
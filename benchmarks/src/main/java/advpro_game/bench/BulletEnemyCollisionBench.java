@@ -0,0 +1,42 @@
+package advpro_game.bench;
+
+import advpro_game.controller.GameLoop;
+import advpro_game.view.GameStage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The tick's COLLISIONS stage (bullet-vs-enemy pair scan, then player contact) with
+ * {@code entities} split 9:1 between player bullets and enemies. Layouts never overlap,
+ * so every op walks all bullet/enemy pairs: the worst case of the broadphase-free loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulletEnemyCollisionBench {
+
+    @Param({"10", "100", "1000", "10000"})
+    int entities;
+
+    private GameLoop loop;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        GameStage stage = BenchWorld.newStage();
+        loop = new GameLoop(stage);
+
+        int enemies = Math.max(1, entities / 10);
+        for (int i = 0; i < enemies; i++) stage.addEnemy(BenchWorld.minion(i));
+        for (int i = 0; i < entities - enemies; i++) stage.addBullet(BenchWorld.playerBullet(i));
+        stage.commitEntityChanges();
+    }
+
+    @Benchmark
+    public void collisions() {
+        loop.runStage(GameLoop.TickStage.COLLISIONS);
+    }
+}
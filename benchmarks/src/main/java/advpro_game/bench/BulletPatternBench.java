@@ -0,0 +1,62 @@
+package advpro_game.bench;
+
+import advpro_game.model.BulletPattern;
+import advpro_game.model.BulletPool;
+import advpro_game.model.BulletSystem;
+import advpro_game.model.Enemy;
+import advpro_game.model.EnemySystems;
+import advpro_game.model.EntityRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pattern stress load: {@code bosses} spiral emitters (12 arms, 20 volleys/s, i.e. 240
+ * bullets/s each) feeding a {@link BulletSystem}. One op is one tick in steady state:
+ * emission, commit, integration and culling, with culled bullets going back to the pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulletPatternBench {
+
+    private static final double DT = 1.0 / 60.0;
+
+    @Param({"1", "4"})
+    int bosses;
+
+    private EnemySystems systems;
+    private BulletSystem bullets;
+    private long nowMs;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchWorld.headless();
+        systems = new EnemySystems();
+        EntityRegistry<Enemy> enemies = new EntityRegistry<>(bosses);
+        enemies.setColumns(systems);
+        for (int i = 0; i < bosses; i++) {
+            Enemy boss = new Enemy(200 + i * 120, 100, 60, 60);
+            boss.setPattern(BulletPattern.spiral(12, 20, 75, 180));
+            enemies.add(boss);
+        }
+        enemies.commit();
+
+        bullets = new BulletSystem(4096);
+        bullets.setRemovalListener(BulletPool.shared()::release);
+    }
+
+    @Benchmark
+    public void tick(Blackhole bh) {
+        nowMs += 16;
+        systems.run(DT, null, nowMs, true, bullets::add);
+        bullets.commit();
+        bullets.update(DT, DT);
+        bh.consume(bullets.cull(-50, -50, 850, 450));
+        bullets.commit();
+    }
+}
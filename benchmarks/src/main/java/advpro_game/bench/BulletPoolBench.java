@@ -0,0 +1,46 @@
+package advpro_game.bench;
+
+import advpro_game.model.Bullet;
+import advpro_game.model.BulletConfig;
+import advpro_game.model.BulletPool;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/** A burst of {@code burst} shots fired and despawned: fresh bullets vs the pool. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulletPoolBench {
+
+    @Param({"10", "100", "1000"})
+    int burst;
+
+    private BulletPool pool;
+    private Bullet[] live;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchWorld.headless();
+        pool = new BulletPool();
+        pool.prewarm(BulletConfig.DEFAULT, burst);
+        live = new Bullet[burst];
+    }
+
+    @Benchmark
+    public void construct(Blackhole bh) {
+        for (int i = 0; i < burst; i++) live[i] = new Bullet(i, 100, 1, 0, 480.0, 1, 1.6, false);
+        bh.consume(live);
+    }
+
+    @Benchmark
+    public void pooled(Blackhole bh) {
+        for (int i = 0; i < burst; i++) live[i] = pool.acquire(BulletConfig.DEFAULT, i, 100, 1, 0, 480.0, 1, false);
+        bh.consume(live);
+        for (int i = 0; i < burst; i++) pool.release(live[i]);
+    }
+}
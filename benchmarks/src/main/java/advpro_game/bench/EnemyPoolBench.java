@@ -0,0 +1,66 @@
+package advpro_game.bench;
+
+import advpro_game.Launcher;
+import advpro_game.model.BulletPool;
+import advpro_game.model.Enemy;
+import advpro_game.model.EnemyPool;
+import advpro_game.model.Minion;
+import advpro_game.model.StageRoster;
+import javafx.scene.image.Image;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stage 3's minion wave (seven enemies, four on one sheet) spawned and cleared: decoding the
+ * sheet per enemy as the spawn code used to, building enemies on shared sheets, and the pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EnemyPoolBench {
+
+    private List<StageRoster.Spawn> wave;
+    private EnemyPool pool;
+    private Enemy[] live;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchWorld.headless();
+        wave = StageRoster.minions(3);
+        pool = new EnemyPool();
+        StageRoster.prewarm(pool, BulletPool.shared(), 3);
+        live = new Enemy[wave.size()];
+    }
+
+    @Benchmark
+    public void decodePerEnemy(Blackhole bh) {
+        for (StageRoster.Spawn s : wave) {
+            bh.consume(new Image(Launcher.class.getResourceAsStream(s.spec().spritePath())));
+        }
+        construct(bh);
+    }
+
+    @Benchmark
+    public void construct(Blackhole bh) {
+        for (int i = 0; i < live.length; i++) {
+            var s = wave.get(i);
+            var spec = s.spec();
+            live[i] = new Minion(s.x(), s.y(), spec.width(), spec.height(), spec.spritePath(),
+                    spec.frameCount(), spec.columns(), spec.rows(), spec.frameWidth(), spec.frameHeight());
+        }
+        bh.consume(live);
+    }
+
+    @Benchmark
+    public void pooled(Blackhole bh) {
+        for (int i = 0; i < live.length; i++) live[i] = wave.get(i).acquire(pool);
+        bh.consume(live);
+        for (Enemy e : live) pool.release(e);
+    }
+}
@@ -0,0 +1,49 @@
+package advpro_game.bench;
+
+import advpro_game.model.Enemy;
+import advpro_game.model.EnemySystems;
+import advpro_game.model.EntityRegistry;
+import advpro_game.model.GameCharacter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One enemy tick (history, chase, animate, shoot) over {@code count} spriteless walkers.
+ * Shooting is held off so the op stays the same across iterations; the shoot system still
+ * runs its query.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EnemySystemsBench {
+
+    @Param({"1000", "10000"})
+    int count;
+
+    private EnemySystems systems;
+    private GameCharacter player;
+    private long nowMs;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        player = BenchWorld.newStage().getGameCharacterList().get(0);
+        systems = new EnemySystems();
+        EntityRegistry<Enemy> enemies = new EntityRegistry<>(count);
+        enemies.setColumns(systems);
+        for (int i = 0; i < count; i++) {
+            enemies.add(new Enemy(20 + (i % 38) * 20.0, BenchWorld.ENEMY_TOP + (i / 38 % 8) * 44.0, 24, 40));
+        }
+        enemies.commit();
+    }
+
+    @Benchmark
+    public void tick(Blackhole bh) {
+        nowMs += 16;
+        systems.run(1.0 / 60, player, nowMs, false, bh::consume);
+    }
+}
@@ -0,0 +1,68 @@
+package advpro_game.bench;
+
+import advpro_game.util.SpatialHash;
+import advpro_game.view.GameStage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full-width diagonal laser against {@code entities} enemy boxes spread over the screen.
+ * {@code scan} is the old shape (test every enemy against the beam); {@code raycast} walks the
+ * broadphase grid along the beam, as GameStage.fireLaser does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LaserBeamBench {
+
+    @Param({"10", "100", "1000", "10000"})
+    int entities;
+
+    private static final double HALF_THICKNESS = 30.0;
+    private double[] boxes;                 // minX, minY, maxX, maxY per enemy
+    private final SpatialHash grid = new SpatialHash(GameStage.WIDTH, GameStage.HEIGHT, 64.0);
+    private final SpatialHash.RayHits hits = new SpatialHash.RayHits();
+    private double x1, y1, x2, y2;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchWorld.headless();
+        boxes = new double[entities * 4];
+        for (int i = 0; i < entities; i++) {
+            double x = (i * 37) % (GameStage.WIDTH - 60);
+            double y = (i * 53) % (GameStage.HEIGHT - 80);
+            boxes[i * 4] = x;           boxes[i * 4 + 1] = y;
+            boxes[i * 4 + 2] = x + 48;  boxes[i * 4 + 3] = y + 60;
+            grid.insert(i, x, y, x + 48, y + 60);
+        }
+        x1 = 40;  y1 = GameStage.HEIGHT - 60;
+        x2 = x1 + (GameStage.WIDTH + 200.0) * Math.sqrt(0.5);
+        y2 = y1 - (GameStage.WIDTH + 200.0) * Math.sqrt(0.5);
+    }
+
+    @Benchmark
+    public int scan() {
+        int n = 0;
+        for (int i = 0; i < entities; i++) {
+            int b = i * 4;
+            if (SpatialHash.segmentEntry(x1, y1, x2, y2, HALF_THICKNESS, HALF_THICKNESS,
+                    boxes[b], boxes[b + 1], boxes[b + 2], boxes[b + 3]) >= 0) n++;
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int raycast() {
+        return grid.raycast(x1, y1, x2, y2, HALF_THICKNESS, Integer.MAX_VALUE, null, hits);
+    }
+
+    /** First blocker only (line of sight / pierce 1). */
+    @Benchmark
+    public int raycastFirstHit() {
+        return grid.raycast(x1, y1, x2, y2, HALF_THICKNESS, 1, null, hits);
+    }
+}
@@ -0,0 +1,66 @@
+package advpro_game.bench;
+
+import advpro_game.model.Boss;
+import advpro_game.model.MutableAabb;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code entities} bullet-sized boxes scattered around the stage-3 boss (200 x 200, drawn from
+ * 80 x 71 frames of boss_3.png). {@code aabb} is the hitbox test alone; {@code aabbThenMask}
+ * adds the alpha-mask narrowphase for the boxes that pass it, as CollisionSystem does.
+ * CollisionMaskTest checks that this scatter really splits into box and pixel hits.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MaskNarrowphaseBench {
+
+    @Param({"10", "100", "1000", "10000"})
+    int entities;
+
+    private Boss boss;
+    private double[] boxes;                 // minX, minY, maxX, maxY per bullet
+    private final MutableAabb bossBox = new MutableAabb();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchWorld.headless();
+        boss = new Boss(500, 50, 200, 200, "/advpro_game/assets/boss_3.png", 8, 8, 1, 80, 71, 1);
+        boss.hitboxInto(bossBox);
+
+        Random rnd = new Random(18);
+        boxes = new double[entities * 4];
+        for (int i = 0; i < entities; i++) {
+            double x = 460 + rnd.nextDouble() * 280, y = 10 + rnd.nextDouble() * 280;
+            boxes[i * 4] = x;          boxes[i * 4 + 1] = y;
+            boxes[i * 4 + 2] = x + 10; boxes[i * 4 + 3] = y + 10;
+        }
+    }
+
+    @Benchmark
+    public int aabb() {
+        int hits = 0;
+        for (int i = 0; i < boxes.length; i += 4) {
+            if (MutableAabb.overlaps(boxes[i], boxes[i + 1], boxes[i + 2], boxes[i + 3],
+                    bossBox.minX, bossBox.minY, bossBox.maxX, bossBox.maxY)) hits++;
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int aabbThenMask() {
+        int hits = 0;
+        for (int i = 0; i < boxes.length; i += 4) {
+            if (MutableAabb.overlaps(boxes[i], boxes[i + 1], boxes[i + 2], boxes[i + 3],
+                    bossBox.minX, bossBox.minY, bossBox.maxX, bossBox.maxY)
+                    && boss.isSolidWithin(boxes[i], boxes[i + 1], boxes[i + 2], boxes[i + 3])) hits++;
+        }
+        return hits;
+    }
+}
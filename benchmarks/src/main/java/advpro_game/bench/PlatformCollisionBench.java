@@ -0,0 +1,61 @@
+package advpro_game.bench;
+
+import advpro_game.model.GameCharacter;
+import advpro_game.model.Platform;
+import advpro_game.model.PlatformIndex;
+import advpro_game.view.GameStage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GameCharacter#checkPlatformCollision} on a long stage of {@code entities} platforms.
+ * Platforms are 64 px ledges every 40 px along x, centred on the player, so only a couple lie
+ * under its collider; all of them are below its feet, so no call lands (state is the same on
+ * every call). {@code linearScan} walks the list, {@code indexed} queries the {@link PlatformIndex}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlatformCollisionBench {
+
+    @Param({"10", "100", "1000", "10000"})
+    int entities;
+
+    private GameCharacter player;
+    private List<Platform> platforms;
+    private PlatformIndex index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        GameStage stage = BenchWorld.newStage();
+        player = stage.getGameCharacterList().get(0);
+        player.respawn();                       // previous collider = current
+        player.setY(player.getY() + 4);         // ...then fall a few pixels
+
+        double left = player.getX() - entities / 2 * 40.0;
+        platforms = new ArrayList<>(entities);
+        for (int i = 0; i < entities; i++) {
+            double x = left + i * 40.0;
+            double y = 400 + (i % 32) * 6.0;
+            platforms.add((i & 1) == 0 ? Platform.solid(x, y, 64, 4)
+                                       : Platform.oneWay(x, y, 64, 4));
+        }
+        index = new PlatformIndex(platforms);
+    }
+
+    @Benchmark
+    public void linearScan() {
+        player.checkPlatformCollision(platforms);
+    }
+
+    @Benchmark
+    public void indexed() {
+        player.checkPlatformCollision(index);
+    }
+}
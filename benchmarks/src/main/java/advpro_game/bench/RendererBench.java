@@ -0,0 +1,63 @@
+package advpro_game.bench;
+
+import advpro_game.model.Bullet;
+import advpro_game.view.CanvasRenderer;
+import advpro_game.view.SnapshotRenderer;
+import advpro_game.view.ViewBinding;
+import advpro_game.view.WorldSnapshot;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FX-thread cost of one new tick (sync + apply) of {@code sprites} moving bullets: a node per
+ * render id vs one canvas per layer. Scene-graph layout and the GPU side are not included;
+ * they only grow with the node count, which the canvas keeps at one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RendererBench {
+
+    @Param({"100", "1000", "10000"})
+    int sprites;
+
+    @Param({"nodes", "canvas"})
+    String renderer;
+
+    private SnapshotRenderer r;
+    private final WorldSnapshot[] frames = new WorldSnapshot[2];
+    private int tick;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchWorld.headless();
+        Image img = new Bullet(0, 0, 1).getImage();
+        Rectangle2D vp = new Rectangle2D(0, 0, img.getWidth(), img.getHeight());
+        Pane layer = new Pane();
+        r = renderer.equals("canvas") ? new CanvasRenderer(800, 400) : new ViewBinding();
+        for (int f = 0; f < frames.length; f++) {
+            WorldSnapshot s = new WorldSnapshot().reset(f).layer(layer);
+            for (int i = 0; i < sprites; i++) {
+                double x = (i * 7 + f * 3) % 800, y = (i * 13) % 400;
+                s.add(1 + i, img, 8, 8, null, x - 3, y, x, y, 1, 1, vp);
+            }
+            frames[f] = s;
+        }
+    }
+
+    @Benchmark
+    public void tick(Blackhole bh) {
+        WorldSnapshot s = frames[tick++ & 1];
+        r.sync(s);
+        r.apply(s, 0.5);
+        bh.consume(s);
+    }
+}
@@ -0,0 +1,38 @@
+package advpro_game.bench;
+
+import advpro_game.controller.StageManager;
+import advpro_game.view.GameStage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StageManager#update} (dead-enemy purge and minion/boss bookkeeping) with
+ * {@code entities} live minions on the stage.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StageManagerBench {
+
+    @Param({"10", "100", "1000", "10000"})
+    int entities;
+
+    private StageManager manager;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        GameStage stage = BenchWorld.newStage();
+        manager = new StageManager(stage);
+        for (int i = 0; i < entities; i++) stage.addEnemy(BenchWorld.minion(i));
+        stage.commitEntityChanges();
+    }
+
+    @Benchmark
+    public void update() {
+        manager.update();
+    }
+}
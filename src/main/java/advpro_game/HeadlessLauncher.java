@@ -0,0 +1,72 @@
+package advpro_game;
+
+import advpro_game.controller.BotInput;
+import advpro_game.controller.GameLoop;
+import advpro_game.controller.HeadlessSession;
+import advpro_game.controller.InputSource;
+import advpro_game.controller.ScriptedInput;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command-line entry for headless runs (no display, no JavaFX toolkit).
+ * <pre>
+ *   mvn -q package -DskipTests
+ *   java -cp "target/ADVPro_Game-1.0-SNAPSHOT.jar:target/lib/*" advpro_game.HeadlessLauncher --ticks=36000 --hz=120
+ * </pre>
+ * Options:
+ *   --ticks=N          tick budget (default 36000)
+ *   --hz=60|120|240    simulation rate (default 60)
+ *   --input=bot|idle|FILE   bot player (default), no input, or a ScriptedInput file
+ *   --runs=N           repeat the session N times (throughput soak)
+ *   --require-clear    exit with status 1 unless every run clears all stages
+ *   --verbose          keep game logging at its configured levels
+ */
+public final class HeadlessLauncher {
+
+    private HeadlessLauncher() {}
+
+    public static void main(String[] args) throws Exception {
+        long ticks = 36_000;
+        int hz = 60;
+        String input = "bot";
+        int runs = 1;
+        boolean requireClear = false;
+        boolean verbose = false;
+
+        for (String a : args) {
+            if (a.startsWith("--ticks="))      ticks = Long.parseLong(a.substring(8));
+            else if (a.startsWith("--hz="))    hz = Integer.parseInt(a.substring(5));
+            else if (a.startsWith("--input=")) input = a.substring(8);
+            else if (a.startsWith("--runs="))  runs = Math.max(1, Integer.parseInt(a.substring(7)));
+            else if (a.equals("--require-clear")) requireClear = true;
+            else if (a.equals("--verbose"))       verbose = true;
+            else {
+                System.err.println("Unknown option: " + a);
+                System.exit(2);
+            }
+        }
+
+        boolean allCleared = true;
+        for (int i = 1; i <= runs; i++) {
+            HeadlessSession.Result r = new HeadlessSession()
+                    .tickRate(GameLoop.TickRate.fromHz(hz))
+                    .maxTicks(ticks)
+                    .input(inputFor(input))
+                    .quietLogs(!verbose)
+                    .run();
+            System.out.println("[headless] run " + i + "/" + runs + ": " + r);
+            allCleared &= r.allStagesCleared();
+        }
+        System.exit(requireClear && !allCleared ? 1 : 0);
+    }
+
+    private static InputSource inputFor(String spec) throws Exception {
+        return switch (spec) {
+            case "bot"  -> new BotInput();
+            case "idle" -> InputSource.IDLE;
+            default     -> ScriptedInput.parse(Files.readAllLines(Path.of(spec)));
+        };
+    }
+}
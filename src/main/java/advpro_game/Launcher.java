@@ -9,6 +9,7 @@ import advpro_game.view.MenuView;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
 import javafx.stage.Stage;
@@ -26,7 +27,7 @@ public class Launcher extends Application {
     private static final Logger LOG = LogManager.getLogger(Launcher.class);
 
     private Stage primaryStage;
-    private Thread gameThread, drawThread;
+    private Thread gameThread;
     private GameLoop gameLoop;
     private DrawingLoop drawingLoop;
     private StageManager stageManager; // new per session
@@ -106,13 +107,22 @@ public class Launcher extends Application {
             scene.addEventFilter(KeyEvent.KEY_RELEASED, e -> gameStage.getKeys().remove(e.getCode()));
             scene.addEventFilter(MouseEvent.MOUSE_PRESSED,  e -> gameStage.getKeys().add(e.getButton()));
             scene.addEventFilter(MouseEvent.MOUSE_RELEASED, e -> gameStage.getKeys().remove(e.getButton()));
+            // F2 switches between node and canvas rendering (-Dadvpro.renderer=canvas starts with canvas)
+            gameStage.getRenderCommit().setCanvasRendering("canvas".equalsIgnoreCase(System.getProperty("advpro.renderer")));
+            scene.addEventFilter(KeyEvent.KEY_PRESSED, e -> {
+                if (e.getCode() == KeyCode.F2) {
+                    var commit = gameStage.getRenderCommit();
+                    commit.setCanvasRendering(!commit.isCanvasRendering());
+                    LOG.info("Renderer: " + (commit.isCanvasRendering() ? "canvas" : "nodes"));
+                }
+            });
             // Click anywhere to restore keyboard focus to the game
             scene.addEventFilter(MouseEvent.MOUSE_CLICKED, e -> gameStage.requestFocus());
             Platform.runLater(gameStage::requestFocus);
 
-            // Create/attach StageManager AFTER scene is attached (FX timing safe)
+            // Create/attach StageManager AFTER scene is attached; it starts on the first sim tick
             stageManager = new StageManager(gameStage);
-            Platform.runLater(stageManager::start);
+            gameStage.runOnSimulation(stageManager::start);
 
             // Wire Retry / Exit-to-Menu actions called by GameOverOverlay buttons
             gameStage.setOnRetry(() -> {
@@ -128,15 +138,18 @@ public class Launcher extends Application {
             // Start loops
             gameLoop = new GameLoop(gameStage);
             gameLoop.attachStageManager(stageManager);
-            gameLoop.disableDebugDraw();
-            drawingLoop = new DrawingLoop(gameStage);
-
+            gameStage.setDebugOverlayVisible(false);
+            gameLoop.setTickRate(GameLoop.TickRate.fromHz(Integer.getInteger("advpro.simHz", 60)));
+            // -Dadvpro.loopHz=0 runs the loop unlocked (headroom measurements)
+            Integer loopHz = Integer.getInteger("advpro.loopHz");
+            if (loopHz != null) gameLoop.getPacer().setTargetHz(loopHz);
+            drawingLoop = new DrawingLoop(gameStage, gameLoop);
+
+            // One simulation thread; rendering rides the FX pulse
             gameThread = new Thread(gameLoop, "GameLoopThread");
-            drawThread = new Thread(drawingLoop, "DrawingLoopThread");
             gameThread.setDaemon(true);
-            drawThread.setDaemon(true);
             gameThread.start();
-            drawThread.start();
+            drawingLoop.start();
 
             // Window close → clean shutdown
             primaryStage.setOnCloseRequest(e -> {
@@ -158,12 +171,10 @@ public class Launcher extends Application {
         try { if (drawingLoop != null) drawingLoop.stop(); } catch (Throwable ignore) {}
 
         try { if (gameThread != null && gameThread.isAlive()) gameThread.join(200); } catch (InterruptedException ignore) {}
-        try { if (drawThread != null && drawThread.isAlive()) drawThread.join(200); } catch (InterruptedException ignore) {}
 
         gameLoop = null;
         drawingLoop = null;
         gameThread = null;
-        drawThread = null;
 
         // Stop any playing music
         AudioManager.stopBGM();
@@ -1,5 +1,6 @@
 package advpro_game.audio;
 
+import advpro_game.util.Headless;
 import javafx.scene.media.AudioClip;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
@@ -14,6 +15,7 @@ public class AudioManager {
     // Play Background Music
 
     public static void playBGM(String resourcePath) {
+        if (Headless.isEnabled()) return;
         stopBGM();
         try {
             URL url = AudioManager.class.getResource(resourcePath);
@@ -62,6 +64,7 @@ public class AudioManager {
     //  Play One-shot SFX
 
     public static void playSFX(String resourcePath) {
+        if (Headless.isEnabled()) return;
         try {
             URL url = AudioManager.class.getResource(resourcePath);
             if (url == null) {
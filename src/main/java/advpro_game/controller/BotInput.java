@@ -0,0 +1,94 @@
+package advpro_game.controller;
+
+import advpro_game.model.Enemy;
+import advpro_game.model.GameCharacter;
+import advpro_game.model.Keys;
+import advpro_game.view.GameStage;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+
+/**
+ * Simple scripted opponent for headless runs: picks the nearest live enemy, walks until it
+ * lies on a straight or 45-degree firing line, aims at it, holds the trigger and fires the
+ * laser whenever the cooldown allows.
+ * It only uses the same keys and aim point a human would, so it exercises the real input path.
+ */
+public final class BotInput implements InputSource {
+    private static final int LASER_TAP_TICKS = 6;    // hold E this long, then release (edge-triggered)
+    private static final double MUZZLE_Y_FACTOR = 0.77;
+    private static final double KEEP_DISTANCE_PX = 140.0;   // never walk into contact range
+
+    private long laserReleaseAt = -1L;
+
+    @Override
+    public void apply(long tick, GameStage stage, Keys keys) {
+        if (stage.getGameCharacterList().isEmpty()) return;
+        GameCharacter player = stage.getGameCharacterList().get(0);
+
+        keys.remove(player.getLeftKey());
+        keys.remove(player.getRightKey());
+
+        Rectangle2D target = nearestEnemy(stage, player);
+        if (target == null) {
+            keys.remove(MouseButton.PRIMARY);
+            keys.remove(KeyCode.E);
+            return;
+        }
+
+        double px = player.getX() + player.getCharacterWidth() * 0.5;
+        double py = player.getY() + player.getCharacterHeight() * MUZZLE_Y_FACTOR;
+        double tx = target.getMinX() + target.getWidth() * 0.5;
+        double ty = target.getMinY() + target.getHeight() * 0.5;
+        int toward = tx >= px ? 1 : -1;
+
+        // Shots only go straight or at 45 degrees: walk until the target sits on one of those lines
+        double adx = Math.abs(tx - px), ady = Math.abs(ty - py);
+        double tol = Math.max(20.0, target.getHeight() * 0.4);
+        int walk = 0;
+        if (ady > tol) {
+            if (adx > ady + tol && adx > KEEP_DISTANCE_PX) walk = toward;
+            else if (adx < ady - tol) walk = -toward;
+        }
+        // Not enough room to back off to the diagonal: go past the target and use the other side
+        if (walk == -toward && roomTowards(player, walk) < ady - adx) walk = toward;
+
+        if (walk != 0) {
+            keys.add(walk > 0 ? player.getRightKey() : player.getLeftKey());
+        } else if (toward != player.getFacingDir()) {
+            keys.add(toward > 0 ? player.getRightKey() : player.getLeftKey()); // one-tick turn
+        }
+
+        stage.setAimPoint(tx, ty);
+        keys.add(MouseButton.PRIMARY);
+
+        // Tap the laser key; the character enforces its own cooldown
+        if (laserReleaseAt < 0) {
+            keys.add(KeyCode.E);
+            laserReleaseAt = tick + LASER_TAP_TICKS;
+        } else if (tick >= laserReleaseAt) {
+            keys.remove(KeyCode.E);
+            if (tick >= laserReleaseAt + LASER_TAP_TICKS) laserReleaseAt = -1L;
+        }
+    }
+
+    private static double roomTowards(GameCharacter c, int dir) {
+        return dir < 0 ? c.getX() : GameStage.WIDTH - c.getCharacterWidth() - c.getX();
+    }
+
+    private static Rectangle2D nearestEnemy(GameStage stage, GameCharacter player) {
+        var enemies = stage.getEnemies();
+        Rectangle2D best = null;
+        double bestD2 = Double.MAX_VALUE;
+        for (int i = 0, n = enemies.size(); i < n; i++) {
+            Enemy e = enemies.get(i);
+            if (e.isDead()) continue;
+            Rectangle2D box = e.getHitbox();
+            double dx = box.getMinX() - player.getX();
+            double dy = box.getMinY() - player.getY();
+            double d2 = dx * dx + dy * dy;
+            if (d2 < bestD2) { bestD2 = d2; best = box; }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,168 @@
+package advpro_game.controller;
+
+import advpro_game.model.BulletSystem;
+import advpro_game.model.CollisionLayer;
+import advpro_game.model.ContactBuffer;
+import advpro_game.model.Enemy;
+import advpro_game.model.EntityRegistry;
+import advpro_game.model.GameCharacter;
+import advpro_game.model.MutableAabb;
+import advpro_game.util.BatchOverlap;
+import advpro_game.util.SpatialHash;
+import advpro_game.view.GameStage;
+
+import java.util.List;
+
+/**
+ * Pair tests for one tick. Every interacting pair is tested once and reported as a contact in
+ * the stage's {@link ContactBuffer}; game rules (damage, score, lives, flashes) live in
+ * contact resolution, not here.
+ * Pairs are filtered by layer/mask: a pair is tested only when each side's mask holds the
+ * other's layer. Masks start at {@link CollisionLayer#defaultMask} and can be narrowed at
+ * runtime (e.g. the player's mask is cleared during invincibility frames).
+ * Enemy pairs that pass the box test go through the sprite's {@code CollisionMask}
+ * (see {@link Enemy#isSolidWithin}), so transparent parts of a sprite never hit. Shots sample
+ * their own box along the path from the box entry time, so the contact time is where the
+ * shot first touches a visible pixel.
+ */
+public final class CollisionSystem {
+
+    private final int[] masks = new int[CollisionLayer.COUNT];
+
+    // Scratch hitboxes (no per-check allocation)
+    private final MutableAabb boxA = new MutableAabb();
+    private final MutableAabb boxB = new MutableAabb();
+
+    // The batch kernel reads the bullet system's swept-box columns directly
+    private static final float KERNEL_PAD_PX = 1f;   // float rounding must never drop a real hit
+    private static final double MASK_STEP_PX = 1.0;   // narrowphase sample spacing along a shot's path
+    private BatchOverlap kernel = BatchOverlap.best();
+    private int[] shotHits = new int[64];
+
+    public CollisionSystem() { resetMasks(); }
+
+    public void resetMasks() {
+        for (int i = 0; i < masks.length; i++) masks[i] = CollisionLayer.defaultMask(1 << i);
+    }
+
+    public void setMask(int layer, int mask) { masks[CollisionLayer.index(layer)] = mask; }
+    public int getMask(int layer)            { return masks[CollisionLayer.index(layer)]; }
+
+    /** Overlap kernel for shots vs players (defaults to {@link BatchOverlap#best()}). */
+    public void setKernel(BatchOverlap kernel) { this.kernel = kernel != null ? kernel : BatchOverlap.scalar(); }
+    public BatchOverlap getKernel()            { return kernel; }
+
+    /** Both sides accept each other. */
+    public boolean interacts(int layerA, int layerB) {
+        return (masks[CollisionLayer.index(layerA)] & layerB) != 0
+            && (masks[CollisionLayer.index(layerB)] & layerA) != 0;
+    }
+
+    /** Append this tick's contacts to {@code out} (callers clear it after resolution). */
+    public void detect(GameStage stage, ContactBuffer out) {
+        detectShotsVsEnemies(stage, out);
+        detectPlayerHits(stage, out);
+    }
+
+    // ===================== Shots vs enemies =====================
+
+    /** Each shot strikes at most one enemy: the earliest impact along its swept path. */
+    private void detectShotsVsEnemies(GameStage stage, ContactBuffer out) {
+        EntityRegistry<Enemy> enemies = stage.getEnemies();
+        BulletSystem bullets = stage.getBullets();
+        if (enemies.size() == 0) return;
+
+        // Broadphase: enemies by list index; each bullet only looks at the cells it crossed
+        SpatialHash enemyGrid = stage.enemyBroadphase();
+
+        for (int i = 0, nb = bullets.size(); i < nb; i++) {
+            int layer = bullets.collisionLayer(i);
+            if (!interacts(layer, CollisionLayer.ENEMY) || !bullets.contains(bullets.get(i))) continue;
+
+            double px = bullets.prevX(i), py = bullets.prevY(i), x = bullets.x(i), y = bullets.y(i);
+            double hw = bullets.halfWidth(i), hh = bullets.halfHeight(i);
+            MutableAabb path = boxA.set(Math.min(px, x) - hw, Math.min(py, y) - hh,
+                                        Math.max(px, x) + hw, Math.max(py, y) + hh);
+            int n = enemyGrid.query(path.minX, path.minY, path.maxX, path.maxY);
+            int target = -1;
+            double toi = Double.MAX_VALUE;
+            for (int k = 0; k < n; k++) {
+                int j = enemyGrid.hit(k);
+                Enemy e = enemies.get(j);
+                if (e.isDead()) continue;
+                double t = bullets.timeOfImpact(i, e.hitboxInto(boxB));
+                if (t < 0 || t > toi || (t == toi && j > target)) continue;
+                // Narrowphase: the shot has to reach a visible pixel, not just the box
+                t = firstSolidAlong(e, t, px, py, x, y, hw, hh);
+                if (t < 0 || t > toi || (t == toi && j > target)) continue;
+                toi = t; target = j;
+            }
+            if (target < 0) continue;
+
+            out.add(layer, bullets.get(i), CollisionLayer.ENEMY, enemies.get(target), bullets.damage(i), toi,
+                    lerp(px, x, toi), lerp(py, y, toi));
+        }
+    }
+
+    // ===================== Enemies and their shots vs players =====================
+
+    private void detectPlayerHits(GameStage stage, ContactBuffer out) {
+        List<GameCharacter> players = stage.getGameCharacterList();
+        EntityRegistry<Enemy> enemies = stage.getEnemies();
+        BulletSystem bullets = stage.getBullets();
+        if (players.isEmpty()) return;
+        int shots = bullets.size();
+        if (shotHits.length < shots) shotHits = new int[Math.max(shots, shotHits.length * 2)];
+
+        for (int p = 0, np = players.size(); p < np; p++) {
+            GameCharacter c = players.get(p);
+            int playerLayer = c.collisionLayer();
+            MutableAabb cb = c.hitboxInto(boxA);
+
+            if (interacts(CollisionLayer.ENEMY, playerLayer)) {
+                for (int i = 0, n = enemies.size(); i < n; i++) {
+                    Enemy e = enemies.get(i);
+                    MutableAabb eb = e.hitboxInto(boxB);
+                    if (!MutableAabb.overlaps(cb, eb)) continue;
+                    if (!e.isSolidWithin(cb.minX, cb.minY, cb.maxX, cb.maxY)) continue;
+                    out.add(CollisionLayer.ENEMY, e, playerLayer, c, 0, 0.0,
+                            (Math.max(cb.minX, eb.minX) + Math.min(cb.maxX, eb.maxX)) * 0.5,
+                            (Math.max(cb.minY, eb.minY) + Math.min(cb.maxY, eb.maxY)) * 0.5);
+                }
+            }
+
+            // Batch prefilter on all swept boxes, then owner/mask and the exact swept test on the survivors
+            int hits = kernel.overlaps(bullets.sweptMinX(), bullets.sweptMinY(),
+                    bullets.sweptMaxX(), bullets.sweptMaxY(), shots,
+                    (float) cb.minX - KERNEL_PAD_PX, (float) cb.minY - KERNEL_PAD_PX,
+                    (float) cb.maxX + KERNEL_PAD_PX, (float) cb.maxY + KERNEL_PAD_PX, shotHits);
+            for (int k = 0; k < hits; k++) {
+                int i = shotHits[k];
+                int layer = bullets.collisionLayer(i);
+                if (!interacts(layer, playerLayer) || !bullets.contains(bullets.get(i))) continue;
+                double t = bullets.timeOfImpact(i, cb);
+                if (t < 0) continue;
+                out.add(layer, bullets.get(i), playerLayer, c, bullets.damage(i), t,
+                        lerp(bullets.prevX(i), bullets.x(i), t), lerp(bullets.prevY(i), bullets.y(i), t));
+            }
+        }
+    }
+
+    /**
+     * Step the shot's box from {@code t0} (its box entry time) to t = 1 and return the first
+     * t at which it covers a visible pixel of {@code e}; -1 if it never does this tick.
+     */
+    private static double firstSolidAlong(Enemy e, double t0, double px, double py,
+                                          double x, double y, double hw, double hh) {
+        double len = Math.hypot(x - px, y - py) * (1.0 - t0);
+        int steps = Math.max(1, (int) Math.ceil(len / MASK_STEP_PX));
+        for (int s = 0; s <= steps; s++) {
+            double t = (s == steps) ? 1.0 : t0 + (1.0 - t0) * s / steps;
+            double cx = lerp(px, x, t), cy = lerp(py, y, t);
+            if (e.isSolidWithin(cx - hw, cy - hh, cx + hw, cy + hh)) return t;
+        }
+        return -1.0;
+    }
+
+    private static double lerp(double a, double b, double t) { return a + (b - a) * t; }
+}
@@ -1,154 +1,115 @@
 package advpro_game.controller;
 
-import advpro_game.model.Bullet;
-import advpro_game.model.Enemy;
-import advpro_game.model.GameCharacter;
 import advpro_game.view.GameStage;
+import advpro_game.view.WorldSnapshot;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 
-import java.util.ArrayList;
-
-public class DrawingLoop implements Runnable {
+/**
+ * Render/debug consumer driven by the FX pulse. It never simulates: it applies the newest
+ * world snapshot published by {@link GameLoop} at the current interpolation factor (older
+ * ones are dropped), and feeds the HUD and debug overlay from that same snapshot, so
+ * everything drawn in one pulse comes from one tick.
+ */
+public class DrawingLoop {
     private final GameStage gameStage;
-    private final int frameRate = 60;
-    private final float interval = 1000.0f / frameRate;
-    private volatile boolean running = true;
-
-    public DrawingLoop(GameStage gameStage) { this.gameStage = gameStage; }
-    public void stop() { running = false; }
-
-    // ---------------- Characters ----------------
-    private void stepCharacters(double dtMs) {
-        for (GameCharacter c : new ArrayList<>(gameStage.getGameCharacterList())) {
-            if (c == null) continue;
-
-            c.repaint(dtMs);
-            c.checkPlatformCollision(gameStage.getPlatforms());
-            c.checkReachHighest();
-            c.checkReachFloor();
+    private final GameLoop gameLoop;
+    private final AnimationTimer timer;
+
+    // Achieved FX pulse intervals (render-side counterpart of the loop pacer stats)
+    private final FramePacer.Stats frameTimes = new FramePacer.Stats(512);
+    private long lastPulse = 0L;
+
+    // Pacing lines of the debug overlay; the percentiles sort their rings, so refresh twice a second
+    private static final long PACING_REFRESH_NANOS = 500_000_000L;
+    private final String[] pacingLines = {"", "", ""};
+    private long lastPacingRefresh = 0L;
+
+    // Last values pushed to the HUD (avoid rebuilding nodes every frame)
+    private int shownScore = -1;
+    private int shownLives = -1;
+
+    public DrawingLoop(GameStage gameStage, GameLoop gameLoop) {
+        this.gameStage = gameStage;
+        this.gameLoop = gameLoop;
+        this.timer = new AnimationTimer() {
+            @Override public void handle(long now) {
+                if (lastPulse != 0L) frameTimes.record(now - lastPulse);
+                lastPulse = now;
+                frame();
+            }
+        };
+    }
 
-            // Clamp within world
-            int x = (int) c.getX();
-            int w = c.getCharacterWidth();
-            if (x < 0) c.setX(0);
-            else if (x + w > GameStage.WIDTH) c.setX(GameStage.WIDTH - w);
+    public void start() { Platform.runLater(timer::start); }
+    public void stop()  { Platform.runLater(timer::stop); }
+
+    // ---------------- Frame ----------------
+    private void frame() {
+        try {
+            double alpha = (gameLoop != null) ? gameLoop.getInterpolationAlpha(System.nanoTime()) : 1.0;
+            WorldSnapshot snap = gameStage.applyRenderFrame(alpha);
+            if (snap == null) return;
+            updateHud(snap);
+            paintDebug(snap);
+        } catch (Throwable t) {
+            t.printStackTrace();
         }
     }
 
-    // ---------------- Bullets ----------------
-    private void stepBullets(double dtSec) {
-        var bullets = gameStage.getBullets();
-        var enemies = gameStage.getEnemies();
-        var players = gameStage.getGameCharacterList();
-
-        // iterate over a snapshot to avoid concurrent modification
-        for (Bullet b : new ArrayList<>(bullets)) {
-            if (b == null) continue;
-            b.update(dtSec);
-
-            // remove off-screen bullets
-            if (b.getX() < -120 || b.getX() > GameStage.WIDTH + 120 ||
-                    b.getY() < -120 || b.getY() > GameStage.HEIGHT + 240) {
-                gameStage.removeBullet(b);
-                continue;
-            }
-
-            boolean hit = false;
-
-            // ---------- Player bullets vs enemies ----------
-            if (!b.isEnemyBullet()) {
-                for (Enemy e : new ArrayList<>(enemies)) {
-                    if (e == null) continue;
-                    if (b.getHitbox().intersects(e.getHitbox())) {
-                        boolean dead = e.hit(b.getDamage());
-
-                        if (!players.isEmpty()) {
-                            var p = players.get(0);
-                            p.addScore(dead ? 20 : 10);
-                        }
-
-                        gameStage.showHitFlash(b.getX(), b.getY());
-                        gameStage.removeBullet(b);
-                        hit = true;
-                        break;
-                    }
-                }
-            }
-
-            // ---------- Enemy bullets vs players ----------
-            else {
-                for (GameCharacter c : new ArrayList<>(players)) {
-                    if (c == null) continue;
-                    if (b.getHitbox().intersects(c.getHitbox())) {
-                        c.loseLife();
-                        gameStage.updateLivesHUD(c.getLives());
-
-                        if (c.getLives() > 0) {
-                            c.respawn();
-                        } else {
-                            System.out.println("Game Over - Hit by enemy bullet!");
-                            // optionally trigger GameOver overlay:
-                            Platform.runLater(gameStage::showGameOverOverlay);
-                        }
-
-                        gameStage.showHitFlash(b.getX(), b.getY());
-                        gameStage.removeBullet(b);
-                        hit = true;
-                        break;
-                    }
-                }
-            }
+    // ---------------- HUD ----------------
+    private void updateHud(WorldSnapshot snap) {
+        gameStage.updateSlowMoHUD(snap.getSlowMoEnergy());
+        if (!snap.hasPlayer()) return;
 
-            if (hit) continue;
+        int score = snap.getScore();
+        if (score != shownScore && !gameStage.getScoreList().isEmpty()) {
+            gameStage.getScoreList().get(0).setPoint(score);
+            shownScore = score;
+        }
+        int lives = snap.getLives();
+        if (lives != shownLives) {
+            gameStage.updateLivesHUD(lives);
+            shownLives = lives;
         }
     }
 
     // ---------------- Debug Overlay ----------------
-    // ---------------- Debug Overlay ----------------
-    private void paintDebug() {
+    private void paintDebug(WorldSnapshot snap) {
         if (!gameStage.isDebugOverlayVisible()) return;
-        Platform.runLater(() -> {
-            var gc = gameStage.getDebugGC();
-            gc.clearRect(0, 0, GameStage.WIDTH, GameStage.HEIGHT);
+        var gc = gameStage.getDebugGC();
+        gc.clearRect(0, 0, GameStage.WIDTH, GameStage.HEIGHT);
+
+        // platforms
+        for (int i = 0, n = snap.getPlatformCount(); i < n; i++) {
+            var r = snap.getPlatformBox(i);
+            gc.setStroke(snap.isPlatformSolid(i) ? javafx.scene.paint.Color.RED
+                    : javafx.scene.paint.Color.CYAN);
+            gc.strokeRect(r.getMinX(), r.getMinY(), r.getWidth(), r.getHeight());
+        }
 
-            // platforms
-            for (var p : gameStage.getPlatforms()) {
-                var r = p.getHitbox();
-                gc.setStroke(p.isSolid() ? javafx.scene.paint.Color.RED
-                        : javafx.scene.paint.Color.CYAN);
-                gc.strokeRect(r.getMinX(), r.getMinY(), r.getWidth(), r.getHeight());
-            }
+        // characters
+        gc.setStroke(javafx.scene.paint.Color.LIME);
+        for (int i = 0, n = snap.getCharacterCount(); i < n; i++) {
+            var hb = snap.getCharacterBox(i);
+            gc.strokeRect(hb.minX, hb.minY, hb.width(), hb.height());
+        }
 
-            // characters
-            gc.setStroke(javafx.scene.paint.Color.LIME);
-            for (var c : gameStage.getGameCharacterList()) {
-                var hb = c.getHitbox();
-                gc.strokeRect(hb.getMinX(), hb.getMinY(), hb.getWidth(), hb.getHeight());
+        // pacing: FX pulse intervals, then the loop pacer's intervals and busy time
+        long now = System.nanoTime();
+        if (now - lastPacingRefresh >= PACING_REFRESH_NANOS) {
+            lastPacingRefresh = now;
+            pacingLines[0] = "pulse " + frameTimes.summary();
+            if (gameLoop != null) {
+                FramePacer pacer = gameLoop.getPacer();
+                pacingLines[1] = "loop " + (pacer.isUnlocked() ? "unlocked" : pacer.getTargetHz() + "Hz")
+                        + " " + pacer.getIntervals().summary();
+                pacingLines[2] = "busy " + pacer.getBusy().summary();
             }
-        });
-    }
-
-    // ---------------- Loop ----------------
-    @Override
-    public void run() {
-        long last = System.nanoTime();
-        while (running) {
-            long now = System.nanoTime();
-            double dtMs  = (now - last) / 1_000_000.0;
-            double dtSec = dtMs / 1000.0;
-            last = now;
-
-            // draw/update safely
-            stepCharacters(dtMs);
-            stepBullets(dtSec);
-            paintDebug();
-
-            // regulate frame rate
-            long frameTime = (System.nanoTime() - now) / 1_000_000L;
-            long sleepMs = Math.max(1, (long) interval - frameTime);
-            try {
-                Thread.sleep(sleepMs);
-            } catch (InterruptedException ignored) {}
+        }
+        gc.setFill(javafx.scene.paint.Color.WHITE);
+        for (int i = 0; i < pacingLines.length; i++) {
+            gc.fillText(pacingLines[i], 8, GameStage.HEIGHT - 40 + i * 16);
         }
     }
 }
@@ -0,0 +1,146 @@
+package advpro_game.controller;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * High-precision frame pacer for loop threads.
+ * - Waits on an absolute deadline: parkNanos for the bulk, then a short calibrated spin.
+ * - Target rate is selectable at runtime from any thread; a rate of 0 (or less) runs unlocked.
+ *   The pacing thread picks the new rate up at its next wait and re-anchors there.
+ * - Records achieved frame intervals and busy time for percentile reports.
+ */
+public class FramePacer {
+
+    // Spin window bounds; the actual window is measured from park() overshoot
+    private static final long MIN_SPIN_NANOS = 50_000L;
+    private static final long MAX_SPIN_NANOS = 2_000_000L;
+
+    private volatile long requestedPeriodNanos; // 0 = unlocked; written by any thread
+    private long periodNanos = -1L;             // rate in effect; pacing thread only
+    private long nextDeadline = 0L;
+    private long spinNanos = -1L;              // calibrated lazily on the pacing thread
+    private long frameStart = 0L;
+
+    private final Stats intervals = new Stats(512);
+    private final Stats busy      = new Stats(512);
+
+    public FramePacer(int targetHz) {
+        setTargetHz(targetHz);
+    }
+
+    /** Frames per second to hold; {@code <= 0} means unlocked (never waits). Safe from any thread. */
+    public void setTargetHz(int hz) {
+        requestedPeriodNanos = (hz > 0) ? 1_000_000_000L / hz : 0L;
+    }
+
+    public int getTargetHz() {
+        long p = requestedPeriodNanos;
+        return (p > 0) ? (int) Math.round(1_000_000_000.0 / p) : 0;
+    }
+
+    public boolean isUnlocked() { return requestedPeriodNanos == 0L; }
+
+    /** Spin window chosen by calibration (ns); -1 until the first paced wait. */
+    public long getSpinNanos() { return spinNanos; }
+
+    /** Call at the top of every frame; returns the timestamp used as "now". */
+    public long beginFrame() {
+        long now = System.nanoTime();
+        if (frameStart != 0L) intervals.record(now - frameStart);
+        frameStart = now;
+        return now;
+    }
+
+    /** Block until the next frame boundary (no-op when unlocked). */
+    public void waitForNextFrame() {
+        long now = System.nanoTime();
+        if (frameStart != 0L) busy.record(now - frameStart);
+
+        long period = requestedPeriodNanos;
+        if (period != periodNanos) {
+            periodNanos = period;
+            nextDeadline = 0L; // rate changed: re-anchor on this frame
+        }
+        if (period == 0L) return;
+        if (spinNanos < 0L) spinNanos = calibrateSpinNanos();
+
+        if (nextDeadline == 0L) nextDeadline = frameStart + period;
+        else nextDeadline += period;
+
+        // Fell more than a frame behind: re-anchor rather than bursting to catch up
+        if (now - nextDeadline > period) nextDeadline = now + period;
+
+        long remaining;
+        while ((remaining = nextDeadline - System.nanoTime()) > spinNanos) {
+            LockSupport.parkNanos(remaining - spinNanos);
+            if (Thread.interrupted()) return;
+        }
+        while (nextDeadline - System.nanoTime() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /** Achieved frame-to-frame intervals. */
+    public Stats getIntervals() { return intervals; }
+
+    /** Work time per frame (frame start until the wait began). */
+    public Stats getBusy() { return busy; }
+
+    public String report() {
+        return String.format("target=%s interval[%s] busy[%s] spin=%.2fms",
+                isUnlocked() ? "unlocked" : getTargetHz() + "Hz",
+                intervals.summary(), busy.summary(), spinNanos / 1_000_000.0);
+    }
+
+    /** Measure how far parkNanos overshoots a 1 ms request and spin for that long. */
+    private static long calibrateSpinNanos() {
+        final int samples = 16;
+        long[] over = new long[samples];
+        for (int i = 0; i < samples; i++) {
+            long t0 = System.nanoTime();
+            LockSupport.parkNanos(1_000_000L);
+            over[i] = Math.max(0L, System.nanoTime() - t0 - 1_000_000L);
+        }
+        Arrays.sort(over);
+        long p90 = over[(int) Math.floor(0.9 * (samples - 1))];
+        return Math.max(MIN_SPIN_NANOS, Math.min(MAX_SPIN_NANOS, p90 + p90 / 4));
+    }
+
+    /** Fixed-size ring of nanosecond samples with percentile queries. */
+    public static final class Stats {
+        private final long[] ring;
+        private int next = 0;
+        private int count = 0;
+
+        public Stats(int capacity) { ring = new long[Math.max(1, capacity)]; }
+
+        public synchronized void record(long nanos) {
+            ring[next] = nanos;
+            next = (next + 1) % ring.length;
+            if (count < ring.length) count++;
+        }
+
+        public synchronized int size() { return count; }
+
+        public synchronized void clear() { next = 0; count = 0; }
+
+        /** p in [0,100]; 0 when no samples were recorded. */
+        public double percentileMillis(double p) {
+            long[] sorted;
+            synchronized (this) {
+                if (count == 0) return 0.0;
+                sorted = Arrays.copyOf(ring, count);
+            }
+            Arrays.sort(sorted);
+            double clamped = Math.max(0.0, Math.min(100.0, p));
+            int idx = (int) Math.ceil(clamped / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, idx)] / 1_000_000.0;
+        }
+
+        public String summary() {
+            return String.format("p50=%.2f p95=%.2f p99=%.2f max=%.2f ms",
+                    percentileMillis(50), percentileMillis(95), percentileMillis(99), percentileMillis(100));
+        }
+    }
+}
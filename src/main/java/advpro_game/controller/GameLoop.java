@@ -1,32 +1,88 @@
 package advpro_game.controller;
 
 import advpro_game.model.Bullet;
+import advpro_game.model.CollisionLayer;
+import advpro_game.model.ContactBuffer;
+import advpro_game.model.Enemy;
 import advpro_game.model.GameCharacter;
+import advpro_game.util.GameClock;
 import advpro_game.view.GameStage;
-import javafx.animation.PauseTransition;
-import javafx.application.Platform;
 import javafx.scene.input.KeyCode;
-import javafx.util.Duration;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The single authoritative simulation thread. Every fixed step runs the {@link TickStage}s
+ * in order; nothing else mutates world state. {@link DrawingLoop} only reads the result.
+ * Each step first advances the stage's {@link GameClock}; stages take their per-domain dt
+ * (player, enemies, world) from it instead of scaling the step themselves.
+ */
 public class GameLoop implements Runnable {
+    private static final Logger LOG = LogManager.getLogger(GameLoop.class);
+
     private final GameStage gameStage;
     private StageManager stageManager;     // optional
 
-    private final int frameRate  = 60;
-    private final float interval = 1000.0f / frameRate;
+    /** Ordered stages of one simulation tick. */
+    public enum TickStage { INPUT, CHARACTERS, ENEMIES, BULLETS, COLLISIONS, STAGE_LOGIC, TIMERS, ENTITY_COMMIT, RENDER_COMMIT }
+    private static final TickStage[] PIPELINE = TickStage.values();
+    // While the world is locked between stages only the stage-flow timers and commits keep running
+    private static final TickStage[] LOCKED_PIPELINE = { TickStage.TIMERS, TickStage.ENTITY_COMMIT };
+    private final long[] stageNanos = new long[PIPELINE.length]; // cumulative, for profiling
+
+    // COLLISIONS: pair tests write contacts, resolveContacts() applies the rules
+    private final CollisionSystem collisions = new CollisionSystem();
+    private static final int SCORE_SHOT_HIT  = 10, SCORE_SHOT_KILL  = 20;
+    private static final int SCORE_LASER_HIT = 25, SCORE_LASER_KILL = 50;
+
+    /** Fixed simulation rates; every tick advances the world by exactly one step. */
+    public enum TickRate {
+        HZ_30(30), HZ_60(60), HZ_120(120), HZ_240(240);
+
+        public final int hz;
+        TickRate(int hz) { this.hz = hz; }
+
+        public double stepSeconds() { return 1.0 / hz; }
+
+        /** Nearest supported rate (used for -Dadvpro.simHz=...). */
+        public static TickRate fromHz(int hz) {
+            if (hz >= 240) return HZ_240;
+            if (hz >= 120) return HZ_120;
+            if (hz >= 60)  return HZ_60;
+            return HZ_30;
+        }
+    }
+
+    private volatile TickRate tickRate = TickRate.HZ_60;
     private volatile boolean running = true;
 
-    // Invincibility after being hit (ms)
-    private long invincibleUntil = 0;
+    // Spiral-of-death guards: never simulate more than this per rendered frame
+    private static final int    MAX_STEPS_PER_FRAME = 5;
+    private static final double MAX_FRAME_SEC       = 0.25;
+    private double accumulator = 0.0;
+
+    // Loop pacing (defaults to one wake-up per tick; 0 Hz = unlocked)
+    private final FramePacer pacer = new FramePacer(TickRate.HZ_60.hz);
+    private static final long PACER_REPORT_NANOS = 10_000_000_000L;
+    private long lastPacerReport = 0L;
+
+    // Published for render-side interpolation (read on the FX thread)
+    private volatile double publishedAccumulator = 0.0;
+    private volatile long   publishedAtNanos     = System.nanoTime();
+    private long frameStartNanos = System.nanoTime();
 
-    private volatile boolean debugDrawEnabled = false;
+    // Invincibility after being hit (PLAYER-domain ms)
+    private long invincibleUntil = 0;
 
     // Edge detection for jump
     private boolean prevW = false, prevUp = false, prevSpace = false, prevE = false;
 
+    // Sampled once per tick in INPUT, consumed by later stages
+    private boolean worldReady, jumpEdge, laserEdge;
+
     // 0° = right, 90° = up, 180° = left, 270° = down
 // Uses WASD / Arrow keys to form 8-way aim; if no aim keys, defaults to facing.
     private double getSnappedAimAngleDeg(GameCharacter c) {
@@ -42,12 +98,7 @@ public class GameLoop implements Runnable {
 
         // If no directional input, aim where the character faces
         if (dx == 0 && dy == 0) {
-            // If your character uses scaleX sign for facing, this keeps it simple:
-            double facing = 0.0;                       // 0° = right
-            try {
-                facing = (c.getScaleX() >= 0) ? 0.0 : 180.0;
-            } catch (Throwable ignored) {}
-            return facing;
+            return (c.getFacingDir() >= 0) ? 0.0 : 180.0; // 0° = right
         }
 
         // Screen Y grows downward; negate dy so "up" is +90°.
@@ -71,178 +122,204 @@ public class GameLoop implements Runnable {
 
     public void stop() { running = false; }
 
+    /** False once stopped (e.g. a few ticks after game over). */
+    public boolean isRunning() { return running; }
+
+    /** Also re-targets the pacer to one loop iteration per tick. */
+    public void setTickRate(TickRate rate) {
+        if (rate == null) return;
+        tickRate = rate;
+        pacer.setTargetHz(rate.hz);
+    }
 
+    public FramePacer getPacer() { return pacer; }
 
-    public void setDebugDrawEnabled(boolean enabled) {
-        debugDrawEnabled = enabled;
-        if (gameStage != null) {
-            try {
-                gameStage.setDebugOverlayVisible(enabled);
-            } catch (Throwable ignored) {}
-        }
-        if (!enabled) {
-            Platform.runLater(() -> {
-                try {
-                    var gc = gameStage.getDebugGC();
-                    gc.clearRect(0, 0, GameStage.WIDTH, GameStage.HEIGHT);
-                } catch (Exception ignored) {}
-            });
-        }
+    public TickRate getTickRate() { return tickRate; }
+
+    /**
+     * Fraction (0..1) of a simulation step elapsed since the last published tick.
+     * Renderers blend each entity between its previous and current sim position with it.
+     */
+    public double getInterpolationAlpha(long nowNanos) {
+        double step = tickRate.stepSeconds();
+        double sinceTick = (nowNanos - publishedAtNanos) / 1_000_000_000.0;
+        double alpha = (publishedAccumulator + sinceTick) / step;
+        return Math.max(0.0, Math.min(1.0, alpha));
     }
 
-    public void disableDebugDraw() {
-        setDebugDrawEnabled(false);
+    /** Cumulative wall time spent in a pipeline stage since the loop started (ns). */
+    public long getStageNanos(TickStage stage) { return stageNanos[stage.ordinal()]; }
+
+    // ===================== INPUT =====================
+    private void sampleInput() {
+        var keys = gameStage.getKeys();
+        keys.beginFrame();
+        worldReady = gameStage.isWorldReady();
+
+        boolean wPressed     = keys.isPressed(KeyCode.W);
+        boolean upPressed    = keys.isPressed(KeyCode.UP);
+        boolean spacePressed = keys.isPressed(KeyCode.SPACE);
+        boolean ePressed     = keys.isPressed(KeyCode.E);
+
+        jumpEdge  = (!prevW && wPressed) || (!prevUp && upPressed) || (!prevSpace && spacePressed);
+        laserEdge = (!prevE && ePressed);
+
+        prevW     = wPressed     && worldReady;
+        prevUp    = upPressed    && worldReady;
+        prevSpace = spacePressed && worldReady;
+        prevE     = ePressed     && worldReady;
+
+        gameStage.tickSlowMo(keys.isPressed(KeyCode.SHIFT), gameStage.getClock().dtSeconds(GameClock.Domain.PLAYER));
     }
+
     // ===================== PLAYER =====================
-    private void updateCharacters(List<GameCharacter> list, double dtSec) {
+    private void updateCharacters(List<GameCharacter> list) {
         if (list.isEmpty()) return;
 
-        final boolean worldReady = gameStage.isWorldReady();
-        final double dtPlayer = dtSec; // player not slowed
+        final double dtPlayer = gameStage.getClock().dtSeconds(GameClock.Domain.PLAYER);
+        var keys = gameStage.getKeys();
 
         for (GameCharacter c : list) {
             try {
                 c.beginFrame();
 
-                boolean wPressed     = gameStage.getKeys().isPressed(KeyCode.W);
-                boolean upPressed    = gameStage.getKeys().isPressed(KeyCode.UP);
-                boolean spacePressed = gameStage.getKeys().isPressed(KeyCode.SPACE);
-                boolean left         = gameStage.getKeys().isPressed(c.getLeftKey());
-                boolean right        = gameStage.getKeys().isPressed(c.getRightKey());
-                boolean down         = gameStage.getKeys().isPressed(c.getDownKey());
-                boolean ePressed     = gameStage.getKeys().isPressed(KeyCode.E);
-
-                boolean upEdge    = (!prevW && wPressed) || (!prevUp && upPressed);
-                boolean spaceEdge = (!prevSpace && spacePressed);
-                boolean eEdge     = (!prevE && ePressed);
+                boolean left  = keys.isPressed(c.getLeftKey());
+                boolean right = keys.isPressed(c.getRightKey());
+                boolean down  = keys.isPressed(c.getDownKey());
 
                 if (down && !(left || right)) c.prone();
                 else if (left && !right)      c.moveLeft();
                 else if (right && !left)      c.moveRight();
                 else                          c.stop();
 
-                if (upEdge || spaceEdge) c.jump();
+                if (jumpEdge) c.jump();
                 c.handleDownKey(down);
 
                 if (worldReady && !c.isDisabled()) {
                     double aimDeg = gameStage.getSnappedAimAngleDeg(c);
 
-                    if (eEdge) {
-                        GameCharacter.Shot laser = c.tryCreateLaser(gameStage.getKeys(), aimDeg);
+                    if (laserEdge) {
+                        GameCharacter.Shot laser = c.tryCreateLaser(keys, aimDeg);
                         if (laser != null) gameStage.fireLaser(c, laser);
                     }
 
-                    Bullet b = c.tryCreateBullet(gameStage.getKeys(), aimDeg);
+                    Bullet b = c.tryCreateBullet(keys, aimDeg);
                     if (b != null) gameStage.addBullet(b);
                 }
 
                 c.repaint(dtPlayer * 1000.0);
-                c.checkPlatformCollision(gameStage.getPlatforms());
+                c.checkPlatformCollision(gameStage.getPlatformIndex());
                 c.checkReachHighest();
                 c.checkReachFloor();
             } catch (Throwable t) {
                 t.printStackTrace();
             }
         }
-
-        prevW     = gameStage.getKeys().isPressed(KeyCode.W)     && worldReady;
-        prevUp    = gameStage.getKeys().isPressed(KeyCode.UP)    && worldReady;
-        prevSpace = gameStage.getKeys().isPressed(KeyCode.SPACE) && worldReady;
-        prevE     = gameStage.getKeys().isPressed(KeyCode.E)     && worldReady;
     }
 
     // ===================== BULLETS =====================
-    private void updateBullets(double dtSeconds) {
-        final double s        = gameStage.getTimeScale();
-        final double dtEnemy  = dtSeconds * s;
-        final double dtPlayer = dtSeconds;
+    private void updateBullets() {
+        final GameClock clock = gameStage.getClock();
+        final double dtEnemy  = clock.dtSeconds(GameClock.Domain.ENEMIES);
+        final double dtPlayer = clock.dtSeconds(GameClock.Domain.PLAYER);
 
         var bullets = gameStage.getBullets();
-        var snapshot = new ArrayList<>(bullets);
-        var toRemove = new ArrayList<Bullet>();
-
-        for (Bullet b : snapshot) {
-            if (b == null) continue;
-            try {
-                boolean enemyShot = false;
-                try { enemyShot = b.isEnemyBullet(); } catch (Throwable ignored) {}
-                b.update(enemyShot ? dtEnemy : dtPlayer);
-            } catch (Throwable ignored) {}
-
-            if (b.getX() < -100 || b.getX() > GameStage.WIDTH + 100 ||
-                    b.getY() < -100 || b.getY() > GameStage.HEIGHT + 200) {
-                toRemove.add(b);
-            }
-        }
-        for (Bullet b : toRemove) gameStage.removeBullet(b);
+        bullets.update(dtPlayer, dtEnemy);
+        // off-screen or expired: committed at the end of the tick
+        bullets.cull(-100, -100, GameStage.WIDTH + 100, GameStage.HEIGHT + 200);
     }
 
     // ===================== ENEMIES =====================
-    private void updateEnemies(double dtSeconds) {
+    private void updateEnemies() {
         if (gameStage.getGameCharacterList().isEmpty()) return;
 
         final boolean worldReady = gameStage.isWorldReady();
-        final double scaled = dtSeconds * gameStage.getTimeScale();
+        final double scaled = gameStage.getClock().dtSeconds(GameClock.Domain.ENEMIES);
         GameCharacter player = gameStage.getGameCharacterList().get(0);
 
-        var snapshot = new ArrayList<>(gameStage.getEnemies());
-        for (var enemy : snapshot) {
-            try { enemy.update(scaled, player); } catch (Throwable ignored) {}
-            if (worldReady) {
-                try {
-                    Bullet b = enemy.tryShoot(player);
-                    if (b != null) gameStage.addBullet(b);
-                } catch (Throwable ignored) {}
+        // history, chase, animate, shoot: one linear pass each over the committed enemies
+        gameStage.getEnemySystems().run(scaled, player,
+                gameStage.getClock().nowMillis(GameClock.Domain.ENEMIES), worldReady, gameStage::addBullet);
+        if (gameStage.getEnemies().size() > 0) gameStage.invalidateEnemyBroadphase();
+    }
+
+    // ===================== COLLISIONS =====================
+    private void runCollisions() {
+        long now = gameStage.getClock().nowMillis(GameClock.Domain.PLAYER);
+        // i-frames: nothing reaches the player (its shots still land)
+        collisions.setMask(CollisionLayer.PLAYER,
+                now < invincibleUntil ? 0 : CollisionLayer.defaultMask(CollisionLayer.PLAYER));
+        ContactBuffer contacts = gameStage.getContacts();
+        try {
+            collisions.detect(gameStage, contacts);
+            resolveContacts(contacts);
+        } finally {
+            contacts.clear();
+        }
+    }
+
+    /**
+     * The only place hits change the world. Each contact is re-checked against what earlier
+     * contacts of the same tick did, so nothing is hit twice: a consumed bullet, an enemy that
+     * already died and a player who was just hit (now invincible or out of lives) are skipped.
+     */
+    private void resolveContacts(ContactBuffer contacts) {
+        for (int i = 0, n = contacts.size(); i < n; i++) {
+            try {
+                boolean flash = switch (contacts.targetLayer(i)) {
+                    case CollisionLayer.ENEMY  -> resolveEnemyHit(contacts, i);
+                    case CollisionLayer.PLAYER -> resolvePlayerHit(contacts, i);
+                    default -> false;
+                };
+                if (flash) gameStage.showHitFlash(contacts.x(i), contacts.y(i));
+            } catch (Throwable t) {
+                LOG.warn("Contact {} -> {} failed: {}", CollisionLayer.name(contacts.sourceLayer(i)),
+                        CollisionLayer.name(contacts.targetLayer(i)), t.toString());
             }
         }
     }
 
-    // ===================== HUD + SCORE =====================
-    private void updateScore(List<GameCharacter> chars) {
-        if (!gameStage.getScoreList().isEmpty() && !chars.isEmpty()) {
-            Platform.runLater(() -> {
-                try {
-                    gameStage.getScoreList().get(0).setPoint(chars.get(0).getScore());
-                    gameStage.updateLivesHUD(chars.get(0).getLives());
-                } catch (Throwable ignored) {}
-            });
+    /** Player shot or laser on an enemy: damage + score. */
+    private boolean resolveEnemyHit(ContactBuffer contacts, int i) {
+        Enemy e = (Enemy) contacts.target(i);
+        if (e.isDead()) return false;
+
+        if (contacts.sourceLayer(i) == CollisionLayer.LASER) {
+            boolean dead = e.hit(contacts.amount(i));
+            ((GameCharacter) contacts.source(i)).addScore(dead ? SCORE_LASER_KILL : SCORE_LASER_HIT);
+            return true;
         }
+        Bullet b = (Bullet) contacts.source(i);
+        if (!gameStage.getBullets().contains(b)) return false;
+        boolean dead = e.hit(contacts.amount(i));
+        var players = gameStage.getGameCharacterList();
+        if (!players.isEmpty()) players.get(0).addScore(dead ? SCORE_SHOT_KILL : SCORE_SHOT_HIT);
+        gameStage.removeBullet(b);
+        return true;
     }
 
-    // ===================== COLLISIONS =====================
-    private void checkCharacterEnemyCollisions() {
-        long now = System.currentTimeMillis();
-        if (now < invincibleUntil) return;
-
-        var bulletsSnap = new ArrayList<>(gameStage.getBullets());
-        var enemiesSnap = new ArrayList<>(gameStage.getEnemies());
-
-        for (GameCharacter c : gameStage.getGameCharacterList()) {
-            for (var e : enemiesSnap) {
-                if (c.getHitbox().intersects(e.getHitbox())) {
-                    onPlayerHit(c);
-                    return;
-                }
-            }
-            for (Bullet b : bulletsSnap) {
-                try {
-                    if (b.isEnemyBullet() && c.getHitbox().intersects(b.getHitbox())) {
-                        onPlayerHit(c);
-                        PauseTransition delay = new PauseTransition(Duration.millis(10));
-                        delay.setOnFinished(ev -> gameStage.removeBullet(b));
-                        Platform.runLater(delay::play);
-                        return;
-                    }
-                } catch (Throwable ignored) {}
-            }
+    /** Enemy body or enemy shot on a player: one life per hit, then i-frames. */
+    private boolean resolvePlayerHit(ContactBuffer contacts, int i) {
+        GameCharacter c = (GameCharacter) contacts.target(i);
+        long now = gameStage.getClock().nowMillis(GameClock.Domain.PLAYER);
+        if (now < invincibleUntil || c.isDisabled()) return false;
+
+        boolean shot = contacts.sourceLayer(i) == CollisionLayer.ENEMY_BULLET;
+        if (shot) {
+            Bullet b = (Bullet) contacts.source(i);
+            if (!gameStage.getBullets().contains(b)) return false;
+            gameStage.removeBullet(b);
+        } else if (((Enemy) contacts.source(i)).isDead()) {
+            return false;   // killed by an earlier contact in this buffer
         }
+        onPlayerHit(c);
+        return shot;   // body contact respawns without a flash
     }
 
     private void onPlayerHit(GameCharacter c) {
-        long now = System.currentTimeMillis();
+        long now = gameStage.getClock().nowMillis(GameClock.Domain.PLAYER);
 
-        c.loseLife();
-        Platform.runLater(() -> gameStage.updateLivesHUD(c.getLives()));
+        c.loseLife(); // HUD picks the new count up on the next DrawingLoop frame
 
         // Only respawn if still alive
         if (c.getLives() > 0) {
@@ -256,15 +333,64 @@ public class GameLoop implements Runnable {
             gc.setDisable(true);
         }
 
-        Platform.runLater(gameStage::showGameOverOverlay);
+        GameStage.Ui.later(gameStage::showGameOverOverlay);
 
-        // Give the FX thread a pulse to render overlay before stopping the loop
-        PauseTransition delayStop = new PauseTransition(Duration.millis(200));
-        delayStop.setOnFinished(e -> stop());
-        Platform.runLater(delayStop::play);
+        // Give the FX thread a few pulses to render overlay before stopping the loop
+        gameStage.getTimers().schedule(200, this::stop);
     }
 
     // ===================== MAIN LOOP =====================
+    /** One fixed simulation step: every stage, in pipeline order. */
+    private void tick(double stepSec) {
+        gameStage.getClock().advance((long) (stepSec * 1_000_000_000L));
+        gameStage.applySimCommands();
+        TickStage[] pipeline = gameStage.isWorldReady() ? PIPELINE : LOCKED_PIPELINE;
+        for (TickStage stage : pipeline) {
+            long t0 = System.nanoTime();
+            try {
+                runStage(stage, stepSec);
+            } catch (Throwable t) {
+                t.printStackTrace();
+            }
+            stageNanos[stage.ordinal()] += System.nanoTime() - t0;
+        }
+    }
+
+    private void runStage(TickStage stage, double stepSec) {
+        switch (stage) {
+            case INPUT         -> sampleInput();
+            case CHARACTERS    -> updateCharacters(gameStage.getGameCharacterList());
+            case ENEMIES       -> updateEnemies();
+            case BULLETS       -> updateBullets();
+            case COLLISIONS    -> runCollisions();
+            case STAGE_LOGIC   -> { if (stageManager != null) stageManager.update(); }
+            case TIMERS        -> gameStage.advanceTimers();
+            case ENTITY_COMMIT -> gameStage.commitEntityChanges();
+            case RENDER_COMMIT -> {
+                gameStage.commitRenderFrame();
+                publishedAccumulator = Math.max(0.0, accumulator - stepSec);
+                publishedAtNanos = frameStartNanos;
+            }
+        }
+    }
+
+    /**
+     * Run a single pipeline stage once at the current rate, outside the normal tick (benchmarks).
+     * The clock is not advanced; callers set up whatever state the stage reads.
+     */
+    public void runStage(TickStage stage) {
+        runStage(stage, tickRate.stepSeconds());
+    }
+
+    /**
+     * Run exactly one simulation tick at the current rate, without any wall-clock pacing.
+     * For drivers that own the thread (headless sessions, tests); never mix with {@link #run()}.
+     */
+    public void step() {
+        if (!gameStage.isWorldReady()) prevW = prevUp = prevSpace = prevE = false;
+        tick(tickRate.stepSeconds());
+    }
+
     @Override
     public void run() {
 
@@ -277,46 +403,32 @@ public class GameLoop implements Runnable {
 
         while (running) {
             if (!gameStage.isWorldReady()) {
-                prevW = prevUp = prevSpace = false;
-                try { Thread.sleep(4); } catch (InterruptedException ignored) {}
-                last = System.nanoTime();
-                continue;
+                prevW = prevUp = prevSpace = prevE = false;
             }
 
-            long now = System.nanoTime();
-            double dtSec = (now - last) / 1_000_000_000.0;
+            long now = pacer.beginFrame();
+            double frameSec = Math.min(MAX_FRAME_SEC, (now - last) / 1_000_000_000.0);
             last = now;
+            frameStartNanos = now;
 
-            boolean wantSlow = gameStage.getKeys().isPressed(KeyCode.SHIFT);
-            gameStage.tickSlowMo(wantSlow, dtSec);
-
-            updateCharacters(gameStage.getGameCharacterList(), dtSec);
-            updateBullets(dtSec);
-            updateEnemies(dtSec);
-            updateScore(gameStage.getGameCharacterList());
-            checkCharacterEnemyCollisions();
-
-            if (stageManager != null) stageManager.update();
-
-            if (debugDrawEnabled) {
-                Platform.runLater(() -> {
-                    try {
-                        var gc = gameStage.getDebugGC();
-                        gc.clearRect(0, 0, GameStage.WIDTH, GameStage.HEIGHT);
-                        for (var p : gameStage.getPlatforms()) p.drawDebug(gc);
-                        gc.setStroke(javafx.scene.paint.Color.LIME);
-                        for (var c : gameStage.getGameCharacterList()) {
-                            var hb = c.getHitbox();
-                            gc.strokeRect(hb.getMinX(), hb.getMinY(), hb.getWidth(), hb.getHeight());
-                        }
-                    } catch (Exception ignored) {}
-                });
+            final double step = tickRate.stepSeconds();
+            accumulator += frameSec;
+
+            int steps = 0;
+            while (accumulator >= step && steps < MAX_STEPS_PER_FRAME) {
+                tick(step);
+                accumulator -= step;
+                steps++;
             }
+            // Could not catch up: drop the backlog instead of spiralling further behind
+            if (accumulator >= step) accumulator %= step;
+            publishedAccumulator = accumulator;
 
-            long frameTime = (System.nanoTime() - now) / 1_000_000L;
-            long sleepMs = (long)(1000.0/60.0) - frameTime;
-            if (sleepMs < 1) sleepMs = 1;
-            try { Thread.sleep(sleepMs); } catch (InterruptedException ignored) {}
+            if (now - lastPacerReport >= PACER_REPORT_NANOS) {
+                lastPacerReport = now;
+                LOG.debug("Loop pacing: {}", pacer.report());
+            }
+            pacer.waitForNextFrame();
         }
     }
 }
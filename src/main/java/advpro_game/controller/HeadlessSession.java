@@ -0,0 +1,90 @@
+package advpro_game.controller;
+
+import advpro_game.model.GameCharacter;
+import advpro_game.util.GameClock;
+import advpro_game.util.Headless;
+import advpro_game.view.GameStage;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+
+/**
+ * Runs a full game session (GameStage + StageManager + GameLoop) on the calling thread with
+ * no JavaFX toolkit and no renderer: FX work is dropped (see {@link Headless}), snapshots are
+ * published to a render commit nobody reads, and ticks are stepped back to back instead of
+ * being paced to wall time. Input comes from an {@link InputSource}.
+ * <pre>
+ *   HeadlessSession.Result r = new HeadlessSession().input(new BotInput()).maxTicks(60 * 300).run();
+ * </pre>
+ */
+public final class HeadlessSession {
+
+    /** Outcome and throughput of one run. */
+    public record Result(long ticks, long wallNanos, int stageReached, boolean allStagesCleared,
+                         boolean gameOver, int score, int livesLeft, double simulatedSeconds) {
+
+        public double ticksPerSecond() {
+            return wallNanos <= 0 ? 0.0 : ticks * 1_000_000_000.0 / wallNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ticks=%d (%.1f s simulated) in %.2f s wall -> %.0f ticks/s | stage=%d cleared=%s gameOver=%s score=%d lives=%d",
+                    ticks, simulatedSeconds, wallNanos / 1e9, ticksPerSecond(),
+                    stageReached, allStagesCleared, gameOver, score, livesLeft);
+        }
+    }
+
+    private GameLoop.TickRate tickRate = GameLoop.TickRate.HZ_60;
+    private long maxTicks = 60L * 60 * 10;   // 10 simulated minutes at 60 Hz
+    private InputSource input = new BotInput();
+    private boolean quietLogs = true;
+
+    private static final Logger LOG = LogManager.getLogger(HeadlessSession.class);
+
+    public HeadlessSession tickRate(GameLoop.TickRate rate) { if (rate != null) tickRate = rate; return this; }
+    public HeadlessSession maxTicks(long ticks)             { maxTicks = Math.max(1, ticks); return this; }
+    public HeadlessSession input(InputSource source)        { input = (source != null ? source : InputSource.IDLE); return this; }
+    public HeadlessSession quietLogs(boolean quiet)         { quietLogs = quiet; return this; }
+
+    /**
+     * Build a fresh session and tick it until every stage is cleared, the player is out of
+     * lives (the loop stops itself), or {@code maxTicks} is reached.
+     */
+    public Result run() {
+        Headless.setEnabled(true);
+        if (quietLogs) silenceLogs();
+
+        GameStage stage = new GameStage();
+        StageManager stageManager = new StageManager(stage);
+        GameLoop loop = new GameLoop(stage);
+        loop.attachStageManager(stageManager);
+        loop.setTickRate(tickRate);
+        stageManager.start();
+
+        long ticks = 0;
+        long t0 = System.nanoTime();
+        while (ticks < maxTicks && loop.isRunning() && !stageManager.isAllStagesCleared()) {
+            input.apply(ticks, stage, stage.getKeys());
+            loop.step();
+            ticks++;
+        }
+        long wall = System.nanoTime() - t0;
+        if (!quietLogs) {
+            LOG.info("Enemy systems per tick:\n{}", stage.getEnemySystems().schedule().report());
+            LOG.info("{}", stage.getEnemyPool());
+        }
+
+        GameCharacter player = stage.getGameCharacterList().isEmpty() ? null : stage.getGameCharacterList().get(0);
+        int lives = player != null ? player.getLives() : 0;
+        return new Result(ticks, wall, stageManager.getCurrentStage(), stageManager.isAllStagesCleared(),
+                player != null && lives == 0, player != null ? player.getScore() : 0, lives,
+                stage.getClock().nowNanos(GameClock.Domain.UI) / 1e9);
+    }
+
+    private static void silenceLogs() {
+        try { Configurator.setAllLevels("advpro_game", Level.WARN); } catch (Throwable ignored) {}
+    }
+}
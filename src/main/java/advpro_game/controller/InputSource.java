@@ -0,0 +1,18 @@
+package advpro_game.controller;
+
+import advpro_game.model.Keys;
+import advpro_game.view.GameStage;
+
+/**
+ * Drives player input when there is no keyboard or mouse (headless sessions, tests).
+ * Called on the simulation thread right before every tick.
+ */
+@FunctionalInterface
+public interface InputSource {
+
+    /** Press/release keys in {@code keys} and/or move the aim point of {@code stage} for {@code tick}. */
+    void apply(long tick, GameStage stage, Keys keys);
+
+    /** Never touches anything. */
+    InputSource IDLE = (tick, stage, keys) -> {};
+}
@@ -0,0 +1,115 @@
+package advpro_game.controller;
+
+import advpro_game.model.Keys;
+import advpro_game.view.GameStage;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Replays a fixed list of input events keyed by simulation tick, e.g. for reproducible
+ * soak runs or regression scenarios. Text form, one event per line ('#' starts a comment):
+ * <pre>
+ *   0   press   D
+ *   90  release D
+ *   90  press   PRIMARY
+ *   120 aim     600 200
+ * </pre>
+ * Key names are {@link KeyCode} constants; PRIMARY/SECONDARY/MIDDLE are mouse buttons.
+ */
+public final class ScriptedInput implements InputSource {
+
+    private interface Action { void run(GameStage stage, Keys keys); }
+
+    private final List<Long> ticks = new ArrayList<>();
+    private final List<Action> actions = new ArrayList<>();
+    private int cursor = 0;
+
+    private ScriptedInput() {}
+
+    @Override
+    public void apply(long tick, GameStage stage, Keys keys) {
+        while (cursor < ticks.size() && ticks.get(cursor) <= tick) {
+            actions.get(cursor++).run(stage, keys);
+        }
+    }
+
+    // ===================== Building =====================
+
+    public static Builder builder() { return new Builder(); }
+
+    public static final class Builder {
+        private final List<long[]> order = new ArrayList<>();   // {tick, sequence}
+        private final List<Action> actions = new ArrayList<>();
+
+        private Builder at(long tick, Action a) {
+            order.add(new long[]{ tick, order.size() });
+            actions.add(a);
+            return this;
+        }
+
+        public Builder press(long tick, KeyCode key)       { return at(tick, (s, k) -> k.add(key)); }
+        public Builder release(long tick, KeyCode key)     { return at(tick, (s, k) -> k.remove(key)); }
+        public Builder press(long tick, MouseButton b)     { return at(tick, (s, k) -> k.add(b)); }
+        public Builder release(long tick, MouseButton b)   { return at(tick, (s, k) -> k.remove(b)); }
+        public Builder aim(long tick, double x, double y)  { return at(tick, (s, k) -> s.setAimPoint(x, y)); }
+
+        /** Hold {@code key} for ticks [from, to). */
+        public Builder hold(long from, long to, KeyCode key) {
+            return press(from, key).release(to, key);
+        }
+
+        public ScriptedInput build() {
+            ScriptedInput in = new ScriptedInput();
+            order.stream()
+                    .sorted(Comparator.<long[]>comparingLong(e -> e[0]).thenComparingLong(e -> e[1]))
+                    .forEach(e -> {
+                        in.ticks.add(e[0]);
+                        in.actions.add(actions.get((int) e[1]));
+                    });
+            return in;
+        }
+    }
+
+    /** Parse the text form described in the class comment. */
+    public static ScriptedInput parse(List<String> lines) {
+        Builder b = builder();
+        int lineNo = 0;
+        for (String raw : lines) {
+            lineNo++;
+            String line = raw.strip();
+            int hash = line.indexOf('#');
+            if (hash >= 0) line = line.substring(0, hash).strip();
+            if (line.isEmpty()) continue;
+
+            String[] p = line.split("\\s+");
+            try {
+                long tick = Long.parseLong(p[0]);
+                switch (p[1].toLowerCase()) {
+                    case "press"   -> pressOrRelease(b, tick, p[2], true);
+                    case "release" -> pressOrRelease(b, tick, p[2], false);
+                    case "aim"     -> b.aim(tick, Double.parseDouble(p[2]), Double.parseDouble(p[3]));
+                    default -> throw new IllegalArgumentException("unknown action '" + p[1] + "'");
+                }
+            } catch (RuntimeException ex) {
+                throw new IllegalArgumentException("Input script line " + lineNo + ": " + raw.strip()
+                        + " (" + ex.getMessage() + ")", ex);
+            }
+        }
+        return b.build();
+    }
+
+    private static void pressOrRelease(Builder b, long tick, String name, boolean down) {
+        String upper = name.toUpperCase();
+        if (upper.equals("PRIMARY") || upper.equals("SECONDARY") || upper.equals("MIDDLE")) {
+            MouseButton mb = MouseButton.valueOf(upper);
+            if (down) b.press(tick, mb); else b.release(tick, mb);
+        } else {
+            KeyCode kc = KeyCode.valueOf(upper);
+            if (down) b.press(tick, kc); else b.release(tick, kc);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package advpro_game.ecs;
+
+import java.util.Arrays;
+
+/**
+ * Table of all entities that have exactly one set of components (the mask).
+ * - One primitive column per component field, rows 0..size-1 packed; removal is a
+ *   swap-remove, so a system's inner loop runs over dense arrays.
+ * - Columns are replaced when the table grows: fetch them per run, not once for good.
+ * - Each row also carries its entity id and an owner object (e.g. the game object
+ *   the entity stands for).
+ */
+public final class Archetype {
+
+    private final int mask;
+    private int size = 0;
+    private int[] entities;
+    private Object[] owners;
+
+    // [type id][field][row]; null for types outside the mask
+    private final double[][][] doubles = new double[ComponentType.MAX_TYPES][][];
+    private final long[][][] longs = new long[ComponentType.MAX_TYPES][][];
+    private final int[][][] ints = new int[ComponentType.MAX_TYPES][][];
+    private final Object[][][] refs = new Object[ComponentType.MAX_TYPES][][];
+
+    Archetype(int mask, int capacity) {
+        this.mask = mask;
+        int cap = Math.max(8, capacity);
+        entities = new int[cap];
+        owners = new Object[cap];
+        for (int id = 0; id < ComponentType.MAX_TYPES; id++) {
+            if ((mask & (1 << id)) == 0) continue;
+            ComponentType t = ComponentType.byId(id);
+            doubles[id] = new double[t.doubles][cap];
+            longs[id] = new long[t.longs][cap];
+            ints[id] = new int[t.ints][cap];
+            refs[id] = new Object[t.refs][cap];
+        }
+    }
+
+    public int mask()                  { return mask; }
+    public int size()                  { return size; }
+    public boolean has(ComponentType t) { return (mask & t.bit()) != 0; }
+    public int entity(int row)         { return entities[row]; }
+    public Object owner(int row)       { return owners[row]; }
+
+    // ===================== Columns =====================
+
+    public double[] doubles(ComponentType t, int field) { return doubles[t.id()][field]; }
+    public long[] longs(ComponentType t, int field)     { return longs[t.id()][field]; }
+    public int[] ints(ComponentType t, int field)       { return ints[t.id()][field]; }
+    public Object[] refs(ComponentType t, int field)    { return refs[t.id()][field]; }
+
+    // ===================== Rows (EcsWorld) =====================
+
+    int append(int entity, Object owner) {
+        if (size == entities.length) grow(size * 2);
+        entities[size] = entity;
+        owners[size] = owner;
+        return size++;
+    }
+
+    /**
+     * Swap-remove {@code row}: the last row moves into it.
+     * @return entity now at {@code row}, or -1 when {@code row} was the last one
+     */
+    int remove(int row) {
+        int last = --size;
+        int moved = -1;
+        if (row != last) {
+            copyRow(last, this, row);
+            entities[row] = entities[last];
+            owners[row] = owners[last];
+            moved = entities[row];
+        }
+        owners[last] = null;
+        for (Object[][] cols : refs) {
+            if (cols == null) continue;
+            for (Object[] c : cols) c[last] = null;
+        }
+        return moved;
+    }
+
+    /** Copy the fields of every component both tables have from {@code row} to {@code to[toRow]}. */
+    void copyRow(int row, Archetype to, int toRow) {
+        int shared = mask & to.mask;
+        for (int id = 0; id < ComponentType.MAX_TYPES; id++) {
+            if ((shared & (1 << id)) == 0) continue;
+            copyFields(doubles[id], to.doubles[id], row, toRow);
+            copyFields(longs[id], to.longs[id], row, toRow);
+            copyFields(ints[id], to.ints[id], row, toRow);
+            copyFields(refs[id], to.refs[id], row, toRow);
+        }
+    }
+
+    private static void copyFields(double[][] from, double[][] to, int row, int toRow) {
+        for (int f = 0; f < from.length; f++) to[f][toRow] = from[f][row];
+    }
+
+    private static void copyFields(long[][] from, long[][] to, int row, int toRow) {
+        for (int f = 0; f < from.length; f++) to[f][toRow] = from[f][row];
+    }
+
+    private static void copyFields(int[][] from, int[][] to, int row, int toRow) {
+        for (int f = 0; f < from.length; f++) to[f][toRow] = from[f][row];
+    }
+
+    private static void copyFields(Object[][] from, Object[][] to, int row, int toRow) {
+        for (int f = 0; f < from.length; f++) to[f][toRow] = from[f][row];
+    }
+
+    private void grow(int cap) {
+        entities = Arrays.copyOf(entities, cap);
+        owners = Arrays.copyOf(owners, cap);
+        for (int id = 0; id < ComponentType.MAX_TYPES; id++) {
+            if (doubles[id] == null) continue;
+            for (int f = 0; f < doubles[id].length; f++) doubles[id][f] = Arrays.copyOf(doubles[id][f], cap);
+            for (int f = 0; f < longs[id].length; f++)   longs[id][f] = Arrays.copyOf(longs[id][f], cap);
+            for (int f = 0; f < ints[id].length; f++)    ints[id][f] = Arrays.copyOf(ints[id][f], cap);
+            for (int f = 0; f < refs[id].length; f++)    refs[id][f] = Arrays.copyOf(refs[id][f], cap);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Archetype[");
+        for (int id = 0; id < ComponentType.MAX_TYPES; id++) {
+            if ((mask & (1 << id)) == 0) continue;
+            if (sb.length() > 10) sb.append('+');
+            sb.append(ComponentType.byId(id).name());
+        }
+        return sb.append(", ").append(size).append(" rows]").toString();
+    }
+}
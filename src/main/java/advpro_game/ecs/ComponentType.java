@@ -0,0 +1,51 @@
+package advpro_game.ecs;
+
+/**
+ * A component as a fixed set of primitive fields: {@code doubles} double fields, {@code longs}
+ * long fields, {@code ints} int fields and {@code refs} object fields. Each field becomes one
+ * column per {@link Archetype}, so systems stream over plain arrays.
+ * Field numbers are the owner's constants (e.g. {@code X = 0, Y = 1}); at most 32 types.
+ */
+public final class ComponentType {
+
+    public static final int MAX_TYPES = 32;   // archetype masks are ints
+    private static final ComponentType[] BY_ID = new ComponentType[MAX_TYPES];
+    private static int nextId = 0;
+
+    private final int id;
+    private final String name;
+    final int doubles, longs, ints, refs;
+
+    private ComponentType(int id, String name, int doubles, int longs, int ints, int refs) {
+        this.id = id;
+        this.name = name;
+        this.doubles = doubles;
+        this.longs = longs;
+        this.ints = ints;
+        this.refs = refs;
+    }
+
+    /** Register a component type (once, from a static initializer). */
+    public static synchronized ComponentType define(String name, int doubles, int longs, int ints, int refs) {
+        if (nextId == MAX_TYPES) throw new IllegalStateException("too many component types (" + MAX_TYPES + ")");
+        ComponentType t = new ComponentType(nextId, name, doubles, longs, ints, refs);
+        BY_ID[nextId++] = t;
+        return t;
+    }
+
+    static synchronized ComponentType byId(int id) { return BY_ID[id]; }
+
+    /** Mask of the given types. */
+    public static int maskOf(ComponentType... types) {
+        int m = 0;
+        for (ComponentType t : types) m |= t.bit();
+        return m;
+    }
+
+    public int id()       { return id; }
+    public int bit()      { return 1 << id; }
+    public String name()  { return name; }
+
+    @Override
+    public String toString() { return name; }
+}
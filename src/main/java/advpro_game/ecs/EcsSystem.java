@@ -0,0 +1,10 @@
+package advpro_game.ecs;
+
+/** One pass over the entities a system cares about; run in order by a {@link SystemSchedule}. */
+public interface EcsSystem {
+
+    /** Label in profiling reports. */
+    String name();
+
+    void run(EcsWorld world, double dtSeconds);
+}
@@ -0,0 +1,234 @@
+package advpro_game.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entities and their component data, stored by archetype (see {@link Archetype}).
+ * - An entity id is {@code generation << 16 | slot}; destroying an entity bumps the slot's
+ *   generation, so stale ids never resolve to a recycled slot.
+ * - Adding or removing a component moves the entity's row to the table for its new mask;
+ *   systems never test for "has component" per entity, they query the tables that match.
+ * - Single-threaded (simulation thread). Structural changes (create, destroy, add, remove)
+ *   must not happen while a system is iterating a query.
+ */
+public final class EcsWorld {
+
+    public static final int NONE = -1;
+
+    private static final int INDEX_BITS = 16;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final int GEN_MASK   = 0x7FFF;
+    private static final int MAX_SLOTS  = INDEX_MASK;
+
+    private final List<Archetype> archetypes = new ArrayList<>();
+    private final Map<Integer, Archetype> byMask = new HashMap<>();
+    private int version = 0;            // bumped when a table is created (queries re-match)
+
+    // ---------- Entity slots ----------
+    private int[] slotGen = new int[64];
+    private Archetype[] slotTable = new Archetype[64];
+    private int[] slotRow = new int[64];
+    private int[] freeSlots = new int[64];
+    private int freeCount = 0;
+    private int slotCount = 0;
+    private int alive = 0;
+
+    // ===================== Entities =====================
+
+    /** New entity with the components in {@code mask}, fields zeroed. */
+    public int create(int mask, Object owner) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount >= MAX_SLOTS) throw new IllegalStateException("EcsWorld full (" + MAX_SLOTS + ")");
+            if (slotCount == slotGen.length) growSlots();
+            slot = slotCount++;
+        }
+        int entity = (slotGen[slot] << INDEX_BITS) | slot;
+        Archetype table = table(mask);
+        slotTable[slot] = table;
+        slotRow[slot] = table.append(entity, owner);
+        clearRow(table, slotRow[slot]);
+        alive++;
+        return entity;
+    }
+
+    public void destroy(int entity) {
+        int slot = resolve(entity);
+        if (slot < 0) return;
+        detachRow(slot);
+        slotTable[slot] = null;
+        slotGen[slot] = (slotGen[slot] + 1) & GEN_MASK;
+        if (freeCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        freeSlots[freeCount++] = slot;
+        alive--;
+    }
+
+    public boolean isAlive(int entity) { return resolve(entity) >= 0; }
+
+    /** Live entities. */
+    public int size() { return alive; }
+
+    // ===================== Components =====================
+
+    public boolean has(int entity, ComponentType t) {
+        int slot = resolve(entity);
+        return slot >= 0 && slotTable[slot].has(t);
+    }
+
+    /** Give {@code entity} component {@code t} (fields zeroed); no-op when it already has it. */
+    public void add(int entity, ComponentType t) {
+        int slot = resolve(entity);
+        if (slot < 0 || slotTable[slot].has(t)) return;
+        move(slot, slotTable[slot].mask() | t.bit());
+    }
+
+    /** Drop component {@code t} from {@code entity}; no-op when it does not have it. */
+    public void remove(int entity, ComponentType t) {
+        int slot = resolve(entity);
+        if (slot < 0 || !slotTable[slot].has(t)) return;
+        move(slot, slotTable[slot].mask() & ~t.bit());
+    }
+
+    /** Table currently holding {@code entity}, or null when it is not alive. */
+    public Archetype tableOf(int entity) {
+        int slot = resolve(entity);
+        return slot < 0 ? null : slotTable[slot];
+    }
+
+    /** Row of {@code entity} in {@link #tableOf}, or -1. */
+    public int rowOf(int entity) {
+        int slot = resolve(entity);
+        return slot < 0 ? -1 : slotRow[slot];
+    }
+
+    // Single-field access, for code outside the systems (handles, tests); systems use columns
+
+    public double getDouble(int entity, ComponentType t, int field) {
+        int slot = slotOf(entity);
+        return slotTable[slot].doubles(t, field)[slotRow[slot]];
+    }
+
+    public void setDouble(int entity, ComponentType t, int field, double v) {
+        int slot = slotOf(entity);
+        slotTable[slot].doubles(t, field)[slotRow[slot]] = v;
+    }
+
+    public long getLong(int entity, ComponentType t, int field) {
+        int slot = slotOf(entity);
+        return slotTable[slot].longs(t, field)[slotRow[slot]];
+    }
+
+    public void setLong(int entity, ComponentType t, int field, long v) {
+        int slot = slotOf(entity);
+        slotTable[slot].longs(t, field)[slotRow[slot]] = v;
+    }
+
+    public int getInt(int entity, ComponentType t, int field) {
+        int slot = slotOf(entity);
+        return slotTable[slot].ints(t, field)[slotRow[slot]];
+    }
+
+    public void setInt(int entity, ComponentType t, int field, int v) {
+        int slot = slotOf(entity);
+        slotTable[slot].ints(t, field)[slotRow[slot]] = v;
+    }
+
+    public Object getRef(int entity, ComponentType t, int field) {
+        int slot = slotOf(entity);
+        return slotTable[slot].refs(t, field)[slotRow[slot]];
+    }
+
+    public void setRef(int entity, ComponentType t, int field, Object v) {
+        int slot = slotOf(entity);
+        slotTable[slot].refs(t, field)[slotRow[slot]] = v;
+    }
+
+    // ===================== Queries =====================
+
+    /** Tables having every type in {@code all}; the match list follows new tables. */
+    public Query query(ComponentType... all) {
+        return new Query(this, ComponentType.maskOf(all), 0);
+    }
+
+    int version() { return version; }
+
+    /** Tables whose mask holds all of {@code all} and none of {@code none}. */
+    Archetype[] match(int all, int none) {
+        int n = 0;
+        Archetype[] out = new Archetype[archetypes.size()];
+        for (Archetype a : archetypes) {
+            if ((a.mask() & all) == all && (a.mask() & none) == 0) out[n++] = a;
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    public List<Archetype> archetypes() { return List.copyOf(archetypes); }
+
+    // ===================== Internals =====================
+
+    private Archetype table(int mask) {
+        Archetype a = byMask.get(mask);
+        if (a == null) {
+            a = new Archetype(mask, 16);
+            byMask.put(mask, a);
+            archetypes.add(a);
+            version++;
+        }
+        return a;
+    }
+
+    private void move(int slot, int newMask) {
+        Archetype from = slotTable[slot];
+        int row = slotRow[slot];
+        Archetype to = table(newMask);
+        int toRow = to.append(from.entity(row), from.owner(row));
+        clearRow(to, toRow);
+        from.copyRow(row, to, toRow);
+        detachRow(slot);
+        slotTable[slot] = to;
+        slotRow[slot] = toRow;
+    }
+
+    /** Take {@code slot}'s row out of its table, fixing up the row that moved into the hole. */
+    private void detachRow(int slot) {
+        int moved = slotTable[slot].remove(slotRow[slot]);
+        if (moved >= 0) slotRow[moved & INDEX_MASK] = slotRow[slot];
+    }
+
+    private static void clearRow(Archetype a, int row) {
+        for (int id = 0; id < ComponentType.MAX_TYPES; id++) {
+            if ((a.mask() & (1 << id)) == 0) continue;
+            ComponentType t = ComponentType.byId(id);
+            for (int f = 0; f < t.doubles; f++) a.doubles(t, f)[row] = 0;
+            for (int f = 0; f < t.longs; f++)   a.longs(t, f)[row] = 0;
+            for (int f = 0; f < t.ints; f++)    a.ints(t, f)[row] = 0;
+            for (int f = 0; f < t.refs; f++)    a.refs(t, f)[row] = null;
+        }
+    }
+
+    private int slotOf(int entity) {
+        int slot = resolve(entity);
+        if (slot < 0) throw new IllegalArgumentException("entity " + entity + " is not alive");
+        return slot;
+    }
+
+    private int resolve(int entity) {
+        if (entity < 0) return -1;
+        int slot = entity & INDEX_MASK;
+        if (slot >= slotCount || slotTable[slot] == null) return -1;
+        return (slotGen[slot] == (entity >>> INDEX_BITS)) ? slot : -1;
+    }
+
+    private void growSlots() {
+        int cap = Math.min(MAX_SLOTS, slotGen.length * 2);
+        slotGen = Arrays.copyOf(slotGen, cap);
+        slotTable = Arrays.copyOf(slotTable, cap);
+        slotRow = Arrays.copyOf(slotRow, cap);
+    }
+}
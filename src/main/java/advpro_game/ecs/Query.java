@@ -0,0 +1,47 @@
+package advpro_game.ecs;
+
+/**
+ * Archetype query: the tables holding all required components and none of the excluded
+ * ones. The match list is cached and only rebuilt after the world creates a new table, so
+ * a system's per-tick cost is one loop per matching table.
+ * <pre>
+ *   for (Archetype a : query.tables()) {
+ *       double[] x = a.doubles(TRANSFORM, X);
+ *       for (int r = 0, n = a.size(); r &lt; n; r++) x[r] += ...;
+ *   }
+ * </pre>
+ */
+public final class Query {
+
+    private final EcsWorld world;
+    private final int all, none;
+    private Archetype[] matched = new Archetype[0];
+    private int matchedVersion = -1;
+
+    Query(EcsWorld world, int all, int none) {
+        this.world = world;
+        this.all = all;
+        this.none = none;
+    }
+
+    /** Same query, also excluding tables that have any of {@code types}. */
+    public Query without(ComponentType... types) {
+        return new Query(world, all, none | ComponentType.maskOf(types));
+    }
+
+    /** Matching tables (some may be empty); do not modify the array. */
+    public Archetype[] tables() {
+        if (matchedVersion != world.version()) {
+            matched = world.match(all, none);
+            matchedVersion = world.version();
+        }
+        return matched;
+    }
+
+    /** Entities matching right now. */
+    public int count() {
+        int n = 0;
+        for (Archetype a : tables()) n += a.size();
+        return n;
+    }
+}
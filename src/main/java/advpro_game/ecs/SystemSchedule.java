@@ -0,0 +1,75 @@
+package advpro_game.ecs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Ordered list of systems with per-system profiling: last, mean and worst run time and how
+ * many entities the system's query matched. Timing is two {@code System.nanoTime()} calls per
+ * system per run, so it stays on in normal play.
+ */
+public final class SystemSchedule {
+
+    private final List<EcsSystem> systems = new ArrayList<>();
+    private final List<Query> counted = new ArrayList<>();   // per system, may hold nulls
+    private long[] lastNanos = new long[0], totalNanos = new long[0], worstNanos = new long[0];
+    private long runs = 0;
+
+    /** Append {@code system}; {@code query} (optional) is what its entity count is reported from. */
+    public SystemSchedule add(EcsSystem system, Query query) {
+        systems.add(system);
+        counted.add(query);
+        int n = systems.size();
+        lastNanos = Arrays.copyOf(lastNanos, n);
+        totalNanos = Arrays.copyOf(totalNanos, n);
+        worstNanos = Arrays.copyOf(worstNanos, n);
+        return this;
+    }
+
+    public void run(EcsWorld world, double dtSeconds) {
+        for (int i = 0, n = systems.size(); i < n; i++) {
+            long t0 = System.nanoTime();
+            systems.get(i).run(world, dtSeconds);
+            long dt = System.nanoTime() - t0;
+            lastNanos[i] = dt;
+            totalNanos[i] += dt;
+            if (dt > worstNanos[i]) worstNanos[i] = dt;
+        }
+        runs++;
+    }
+
+    public int size()                  { return systems.size(); }
+    public String name(int i)          { return systems.get(i).name(); }
+    public long lastNanos(int i)       { return lastNanos[i]; }
+    public long worstNanos(int i)      { return worstNanos[i]; }
+    public long runs()                 { return runs; }
+
+    public double meanNanos(int i) {
+        return runs == 0 ? 0.0 : (double) totalNanos[i] / runs;
+    }
+
+    /** Entities the system's query matches right now (-1 when it was added without one). */
+    public int entities(int i) {
+        Query q = counted.get(i);
+        return q == null ? -1 : q.count();
+    }
+
+    public void resetStats() {
+        Arrays.fill(lastNanos, 0);
+        Arrays.fill(totalNanos, 0);
+        Arrays.fill(worstNanos, 0);
+        runs = 0;
+    }
+
+    /** One line per system: name, entities, mean/worst microseconds. */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < systems.size(); i++) {
+            sb.append(String.format(Locale.ROOT, "%-10s entities=%-5d mean=%.2fus worst=%.2fus%n",
+                    name(i), entities(i), meanNanos(i) / 1000.0, worstNanos[i] / 1000.0));
+        }
+        return sb.toString();
+    }
+}
@@ -2,20 +2,20 @@ package advpro_game.model;
 
 import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 
 import java.util.EnumMap;
 import java.util.Objects;
 
 /**
- * AnimatedSprite (FX-safe)
- * - Extends ImageView.
+ * AnimatedSprite (plain data, no node)
  * - Per-action sprite regions & timing via ActionSpec.
- * - All mutations happen on the JavaFX thread.
+ * - Action/frame state is owned by the simulation thread; the resulting viewport
+ *   (getFrameViewport()) and display size (fit width/height) travel in the world snapshot,
+ *   and the view's ImageView for this sprite is updated from there.
  * - dt is milliseconds for update(...).
  * - Supports time scaling (slow-mo): setTimeScale(0.5) to run at half speed.
  */
-public class AnimatedSprite extends ImageView {
+public class AnimatedSprite {
 
     // Actions used across your codebase
     public enum Action {
@@ -58,6 +58,7 @@ public class AnimatedSprite extends ImageView {
     private ActionSpec spec;        // current action spec (never null after ctor)
     private int frame = 0;          // frame index within current spec
     private double accMs = 0;       // accumulator (ms) for update()
+    private volatile Rectangle2D frameViewport; // logical viewport for the current frame
 
     // Optional: original sheet meta (kept for compatibility)
     private final int count, columns, rows, offsetX, offsetY, width, height;
@@ -65,14 +66,8 @@ public class AnimatedSprite extends ImageView {
     // Time scaling (1.0 = normal, <1 faster, >1 slower)
     private double timeScale = 1.0;
 
-    // --------------- FX helpers ---------------
-    private static boolean onFx() {
-        return javafx.application.Platform.isFxApplicationThread();
-    }
-    private static void fx(Runnable r) {
-        if (r == null) return;
-        if (onFx()) r.run(); else javafx.application.Platform.runLater(r);
-    }
+    // Display size in px (0 = frame size)
+    private double fitWidth = 0, fitHeight = 0;
 
     /**
      * @param image   sprite sheet
@@ -95,10 +90,6 @@ public class AnimatedSprite extends ImageView {
         this.width   = width;
         this.height  = height;
 
-        setSmooth(false);
-        setPreserveRatio(false);
-        fx(() -> setImage(image));
-
         // Derive starting grid cell from pixel offsets (within bounds)
         final int safeW = Math.max(1, width);
         final int safeH = Math.max(1, height);
@@ -146,12 +137,12 @@ public class AnimatedSprite extends ImageView {
 
     /** Switch to a mapped action; falls back to IDLE if not defined. */
     public void setAction(Action action) {
-        fx(() -> applyAction(action));
+        applyAction(action);
     }
 
     /** Force re-applying the same action (useful for "pose nudge"). */
     public void setActionForce(Action action) {
-        fx(() -> applyActionForce(action));
+        applyActionForce(action);
     }
 
     /** Advance time in milliseconds; will tick frames when delay is exceeded. */
@@ -166,8 +157,7 @@ public class AnimatedSprite extends ImageView {
 
         while (accMs >= spec.delayMs) {
             accMs -= spec.delayMs;
-            // Tick must mutate viewport on FX
-            fx(this::tickOnceFx);
+            tickOnce();
         }
     }
 
@@ -176,8 +166,8 @@ public class AnimatedSprite extends ImageView {
         this.timeScale = Double.isFinite(scale) ? Math.max(0.0001, scale) : 1.0;
     }
 
-    /** Advance one frame with wrapping (FX thread only). */
-    private void tickOnceFx() {
+    /** Advance one frame with wrapping. */
+    private void tickOnce() {
         if (spec == null) return;
 
         // compute local indices within spec grid
@@ -193,8 +183,19 @@ public class AnimatedSprite extends ImageView {
     // --------------- Getters ---------------
 
     public Action getCurrentAction() { return currentAction; }
+    /** The sprite sheet (fixed at construction; safe to read off the FX thread). */
+    public Image getSheet()          { return sheet; }
     public int getCurrentFrame()     { return frame; }
 
+    /** Viewport of the current logical frame (what the node should show). */
+    public Rectangle2D getFrameViewport() { return frameViewport; }
+
+    /** Size the frame is drawn at (px); 0 = its own size. */
+    public double getFitWidth()  { return fitWidth; }
+    public double getFitHeight() { return fitHeight; }
+    public void setFitWidth(double w)  { fitWidth = Math.max(0, w); }
+    public void setFitHeight(double h) { fitHeight = Math.max(0, h); }
+
     // --------------- Optional helpers ---------------
 
     /** Quickly change the per-frame delay (ms) for a given action, if defined. */
@@ -247,7 +248,7 @@ public class AnimatedSprite extends ImageView {
         applyViewport(0, 0);
     }
 
-    /** Applies viewport using current spec and local (col,row) indices (FX thread only). */
+    /** Computes the logical viewport from the current spec and local (col,row) indices. */
     private void applyViewport(int localCol, int localRow) {
         if (spec == null) return;
 
@@ -271,6 +272,10 @@ public class AnimatedSprite extends ImageView {
         if (pxX + spec.frameW > sheetW) pxX = Math.max(0, (int)sheetW - spec.frameW);
         if (pxY + spec.frameH > sheetH) pxY = Math.max(0, (int)sheetH - spec.frameH);
 
-        setViewport(new Rectangle2D(pxX, pxY, spec.frameW, spec.frameH));
+        Rectangle2D old = frameViewport;
+        if (old == null || old.getMinX() != pxX || old.getMinY() != pxY
+                || old.getWidth() != spec.frameW || old.getHeight() != spec.frameH) {
+            frameViewport = new Rectangle2D(pxX, pxY, spec.frameW, spec.frameH);
+        }
     }
 }
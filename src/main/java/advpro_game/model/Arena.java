@@ -0,0 +1,13 @@
+package advpro_game.model;
+
+/**
+ * Playfield dimensions in world pixels, shared by the model (spawn rosters, movement bounds)
+ * and the view, which sizes its stage from them.
+ */
+public final class Arena {
+    public static final int WIDTH  = 800;
+    public static final int HEIGHT = 400;
+    public static final int GROUND = 350; // unified ground level
+
+    private Arena() {}
+}
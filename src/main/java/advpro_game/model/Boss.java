@@ -5,7 +5,6 @@ import javafx.scene.paint.Color;
 public class Boss extends Enemy {
     private static final int BASE_HP = 12;
     private final int bossType;
-    private BulletConfig bulletConfig = null;
 
     // Original constructor (for backward compatibility)
     public Boss(double x, double y) {
@@ -22,13 +21,12 @@ public class Boss extends Enemy {
         this.moveSpeed = 0;
         this.shootCooldownMs = 1000;
         this.shootRange = 99999;
+        this.shootPoseMs = 400;    // shoot pose after each shot
 
-        this.lastShotTime = System.currentTimeMillis() - (long)(Math.random() * 1000);
+        this.lastShotTime = nowMs() - (long)(Math.random() * 1000);
 
         // Set color for fallback rectangle
-        if (fallbackNode != null) {
-            fallbackNode.setFill(getBossColor());
-        }
+        fallbackFill = getBossColor();
 
         // Define animations for boss (customize based on your sprite sheets)
         if (sprite != null) {
@@ -102,56 +100,16 @@ public class Boss extends Enemy {
     @Override
     public boolean hit(int dmg) {
         boolean dead = super.hit(dmg);
-        if (!dead && fallbackNode != null) {
+        if (!dead) {
             if (getHp() > BASE_HP / 2) {
-                fallbackNode.setFill(Color.MEDIUMPURPLE);
+                fallbackFill = Color.MEDIUMPURPLE;
             } else {
-                fallbackNode.setFill(Color.ORCHID);
+                fallbackFill = Color.ORCHID;
             }
         }
         return dead;
     }
 
-    @Override
-    public Bullet tryShoot(GameCharacter player) {
-        long now = System.currentTimeMillis();
-        if (now - lastShotTime < shootCooldownMs) {
-            return null;
-        }
-
-        double dx = player.getX() - x;
-        double dy = player.getY() - y;
-        double distance = Math.hypot(dx, dy);
-
-        if (distance > shootRange) {
-            return null;
-        }
-
-        lastShotTime = now;
-
-        double bulletX = x + w / 2;
-        double bulletY = y + h / 2;
-
-        // Play shoot animation
-        if (sprite != null) {
-            javafx.application.Platform.runLater(() -> {
-                sprite.setAction(AnimatedSprite.Action.shoot);
-                javafx.animation.PauseTransition pause =
-                        new javafx.animation.PauseTransition(javafx.util.Duration.millis(400));
-                pause.setOnFinished(e -> sprite.setAction(AnimatedSprite.Action.idle));
-                pause.play();
-            });
-        }
-
-
-        // Use custom bullet if set, otherwise use default
-        if (bulletConfig != null) {
-            return bulletConfig.createBullet(bulletX, bulletY, dx, dy, 300.0, 1, true);
-        } else {
-            return new Bullet(bulletX, bulletY, dx, dy, 300.0, 1, 1.6, true);
-        }
-    }
-
     public int getBossType() {
         return bossType;
     }
@@ -1,32 +1,47 @@
 package advpro_game.model;
 
-import advpro_game.Launcher;
 import javafx.geometry.Rectangle2D;
-import javafx.scene.Node;
-import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-
-import java.io.InputStream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-
-public class Bullet {
+/**
+ * One projectile: its look (sheet, config) plus its motion. While a bullet is
+ * committed to a {@link BulletSystem}, the motion lives in the system's columns and this
+ * object is only a handle onto its row; before it is added and after it is removed the
+ * bullet holds its own state.
+ */
+public class Bullet implements EntityRegistry.Member, Collider {
     private static final Logger LOG = LogManager.getLogger(Bullet.class);
+    static final String DEFAULT_SPRITE = "/advpro_game/assets/Bullet.png";
+    /** Lifetime cap; bullets that stay on screen (slow or stalled pattern shots) still expire. */
+    public static final double DEFAULT_TTL_SECONDS = 8.0;
+
     private double x, y;
+    private double prevX, prevY;   // position before the last update (render interpolation)
     private double vx, vy;
     private double speed;
     private int damage;
     private boolean isEnemyBullet = false;
+    private double ttl = DEFAULT_TTL_SECONDS;
 
+    // Row in the owning system while committed (null / -1 otherwise)
+    private BulletSystem system;
+    private int row = -1;
+
+    private BulletConfig config;
     private Image img;
     private AnimatedSprite sprite;
-    private ImageView fallbackNode;
+    private final int renderId = RenderId.next();
     private double baseW = 8, baseH = 8;
     private double scale = 1.6;
     private boolean isAnimated = false;
+    private int registryHandle = EntityRegistry.NONE;
+
+    // Pooling: the bucket this bullet returns to (null = not pooled) and whether it is idle there
+    private BulletConfig poolKey;
+    private boolean idleInPool = false;
 
     public Bullet(double x, double y, double dirX, double dirY, double speed, int damage) {
         this(x, y, dirX, dirY, speed, damage, 1.6, false);
@@ -50,31 +65,21 @@ public class Bullet {
     public Bullet(double x, double y, double dirX, double dirY, double speed, int damage,
                   double renderScale, boolean isEnemyBullet, String customSpritePath,
                   int frameCount, int columns, int rows, int frameWidth, int frameHeight) {
-        this.x = x;
-        this.y = y;
-        this.speed = speed;
-        this.damage = damage;
         this.scale = renderScale;
-        this.isEnemyBullet = isEnemyBullet;
-
-        double len = Math.hypot(dirX, dirY);
-        if (len == 0) {
-            dirX = 1;
-            dirY = 0;
-            len = 1;
-        }
-        this.vx = dirX / len;
-        this.vy = dirY / len;
+        launch(x, y, dirX, dirY, speed, damage, isEnemyBullet);
 
         // Determine if this should be animated
         this.isAnimated = (frameCount > 1 && columns > 0 && rows > 0 && frameWidth > 0 && frameHeight > 0);
 
         // Load sprite (custom or default)
-        String spritePath = (customSpritePath != null) ? customSpritePath : "/advpro_game/assets/Bullet.png";
+        String spritePath = (customSpritePath != null) ? customSpritePath : DEFAULT_SPRITE;
+        this.config = isAnimated
+                ? new BulletConfig(spritePath, renderScale, frameCount, columns, rows, frameWidth, frameHeight)
+                : new BulletConfig(spritePath, renderScale);
 
-        try (InputStream in = Launcher.class.getResourceAsStream(spritePath)) {
-            if (in != null) {
-                img = new Image(in);
+        try {
+            img = SpriteSheets.get(spritePath);
+            if (img != null) {
 
                 if (isAnimated) {
                     // Create animated sprite
@@ -83,7 +88,6 @@ public class Bullet {
                     baseH = frameHeight;
                     sprite.setFitWidth(baseW * scale);
                     sprite.setFitHeight(baseH * scale);
-                    sprite.relocate(x - (baseW * scale) / 2.0, y - (baseH * scale) / 2.0);
 
                     // Define idle animation (loops through all frames)
                     sprite.define(AnimatedSprite.Action.idle, new AnimatedSprite.ActionSpec(
@@ -94,26 +98,102 @@ public class Bullet {
                     // Static image
                     baseW = img.getWidth();
                     baseH = img.getHeight();
-                    fallbackNode = new ImageView(img);
-                    fallbackNode.setManaged(false);
-                    fallbackNode.setFitWidth(baseW * scale);
-                    fallbackNode.setFitHeight(baseH * scale);
-                    fallbackNode.relocate(x - (baseW * scale) / 2.0, y - (baseH * scale) / 2.0);
                 }
             } else {
-                LOG.warn("Bullet sprite not found: {}; using fallback.", spritePath);
-                createFallbackNode();
+                LOG.warn("Bullet sprite not found: {}; it will not be drawn.", spritePath);
             }
         } catch (Exception ex) {
             LOG.error("Error loading bullet sprite", ex);
-            createFallbackNode();
+            img = null;
         }
     }
 
-    private void createFallbackNode() {
-        fallbackNode = new ImageView();
-        fallbackNode.setManaged(false);
-        fallbackNode.relocate(x - (baseW * scale) / 2.0, y - (baseH * scale) / 2.0);
+    /** Kinematics and role; shared by construction and pool reuse. */
+    private void launch(double x, double y, double dirX, double dirY, double speed, int damage,
+                        boolean isEnemyBullet) {
+        this.x = x;
+        this.y = y;
+        this.prevX = x;
+        this.prevY = y;
+        this.speed = speed;
+        this.damage = damage;
+        this.isEnemyBullet = isEnemyBullet;
+        this.ttl = DEFAULT_TTL_SECONDS;
+
+        double len = Math.hypot(dirX, dirY);
+        if (len == 0) {
+            dirX = 1;
+            dirY = 0;
+            len = 1;
+        }
+        this.vx = dirX / len;
+        this.vy = dirY / len;
+    }
+
+    // ---------- Pool hooks (BulletPool, simulation thread) ----------
+
+    /**
+     * Taken from the pool: a new shot with the same sprite and render id, so the view finds
+     * its node again; the next render commit moves it.
+     */
+    void onAcquire(double x, double y, double dirX, double dirY, double speed, int damage,
+                   boolean isEnemyBullet) {
+        idleInPool = false;
+        launch(x, y, dirX, dirY, speed, damage, isEnemyBullet);
+        if (isAnimated && sprite != null) sprite.setActionForce(AnimatedSprite.Action.idle);
+    }
+
+    /** Back in the pool, after the registry dropped it. */
+    void onRelease() {
+        idleInPool = true;
+        vx = vy = speed = 0;
+    }
+
+    BulletConfig getPoolKey() { return poolKey; }
+    void setPoolKey(BulletConfig key) { poolKey = key; config = key; }
+    boolean isIdleInPool() { return idleInPool; }
+
+    // ---------- Row hooks (BulletSystem, during commit) ----------
+
+    /** Copy this bullet's own state into row {@code i}. */
+    void writeTo(BulletSystem s, int i) {
+        s.x[i] = x;
+        s.y[i] = y;
+        s.prevX[i] = prevX;
+        s.prevY[i] = prevY;
+        s.vx[i] = vx * speed;   // same product the per-bullet update forms first
+        s.vy[i] = vy * speed;
+        s.speed[i] = speed;
+        s.halfW[i] = (baseW * scale) / 2.0;
+        s.halfH[i] = (baseH * scale) / 2.0;
+        s.damage[i] = damage;
+        s.enemy[i] = isEnemyBullet;
+        s.ttl[i] = (float) ttl;
+        s.animated[i] = isAnimated && sprite != null;
+    }
+
+    /** Now backed by row {@code i} (also called when a swap-remove moves the row). */
+    void attach(BulletSystem s, int i) {
+        system = s;
+        row = i;
+    }
+
+    /** Leaving row {@code i}: take the row's state back. */
+    void detach(BulletSystem s, int i) {
+        x = s.x[i];
+        y = s.y[i];
+        prevX = s.prevX[i];
+        prevY = s.prevY[i];
+        ttl = s.ttl[i];
+        system = null;
+        row = -1;
+    }
+
+    /** AnimatedSprite.update expects milliseconds; it only advances the logical frame. */
+    void animate(double dtSeconds) {
+        if (isAnimated && sprite != null) {
+            try { sprite.update(dtSeconds * 1000.0); } catch (Throwable ignored) {}
+        }
     }
 
     // Convenience overloads
@@ -125,81 +205,101 @@ public class Bullet {
         this(x, y, dirX, dirY, 480.0, 1, 1.6, false);
     }
 
+    /** Step this bullet alone; committed bullets are normally moved by {@link BulletSystem#update}. */
     public void update(double dtSeconds) {
-        // --- logic (any thread) ---
+        if (system != null) {
+            system.step(row, dtSeconds);
+            return;
+        }
+        prevX = x;
+        prevY = y;
         x += vx * speed * dtSeconds;
         y += vy * speed * dtSeconds;
+        ttl -= dtSeconds;
+        animate(dtSeconds);
+    }
 
-        final double newX = x - (baseW * scale) / 2.0;
-        final double newY = y - (baseH * scale) / 2.0;
-        final double ms   = dtSeconds * 1000.0;
-
-        // --- visuals (FX thread only) ---
-        Fx.runLater(() -> {
-            if (isAnimated && sprite != null) {
-                sprite.relocate(newX, newY);
-                // AnimatedSprite.update expects milliseconds
-                try { sprite.update(ms); } catch (Throwable ignored) {}
-            } else if (fallbackNode != null) {
-                fallbackNode.relocate(newX, newY);
-            }
-        });
-    }
-
-
-    public void draw(GraphicsContext gc, double camX, double camY) {
-        // If this bullet is animated, its AnimatedSprite node handles rendering.
-        if (isAnimated && sprite != null) return;
-
-        if (img != null) {
-            gc.drawImage(
-                    img,
-                    x - camX - (baseW * scale) / 2.0,
-                    y - camY - (baseH * scale) / 2.0,
-                    baseW * scale,
-                    baseH * scale
-            );
-        } else {
-            gc.fillOval(
-                    x - camX - (baseW * scale) / 2.0,
-                    y - camY - (baseH * scale) / 2.0,
-                    baseW * scale,
-                    baseH * scale
-            );
-        }
+
+
+    @Override
+    public MutableAabb hitboxInto(MutableAabb out) {
+        double w = baseW * scale, h = baseH * scale;
+        return out.setRect(getX() - w / 2.0, getY() - h / 2.0, w, h);
     }
 
+    @Override
+    public int collisionLayer() {
+        return isEnemyBullet() ? CollisionLayer.ENEMY_BULLET : CollisionLayer.PLAYER_BULLET;
+    }
+
+    /** Box covering the whole path of the last update (broadphase for swept checks). */
+    public MutableAabb sweptHitboxInto(MutableAabb out) {
+        double hw = (baseW * scale) / 2.0, hh = (baseH * scale) / 2.0;
+        double px = getPrevX(), py = getPrevY(), cx = getX(), cy = getY();
+        return out.set(Math.min(px, cx) - hw, Math.min(py, cy) - hh,
+                       Math.max(px, cx) + hw, Math.max(py, cy) + hh);
+    }
+
+    /**
+     * Earliest point of the last update's path, from 0 (previous position) to 1 (current),
+     * at which this bullet touches {@code box}; -1 if it never does. Hits no longer depend on
+     * the step size: a bullet that jumped clean over a thin enemy still reports the crossing.
+     */
+    public double timeOfImpact(MutableAabb box) {
+        return MutableAabb.sweep(getPrevX(), getPrevY(), getX(), getY(),
+                (baseW * scale) / 2.0, (baseH * scale) / 2.0, box);
+    }
 
+    /** Allocating variant; collision code uses {@link #hitboxInto}. */
     public Rectangle2D getHitbox() {
-        return new Rectangle2D(
-                x - (baseW * scale) / 2.0,
-                y - (baseH * scale) / 2.0,
-                baseW * scale,
-                baseH * scale
-        );
-    }
-
-    public final class Fx {
-        private Fx() {}
-        public static void runLater(Runnable r) {
-            if (r == null) return;
-            if (javafx.application.Platform.isFxApplicationThread()) r.run();
-            else javafx.application.Platform.runLater(r);
-        }
+        return hitboxInto(new MutableAabb()).toRectangle2D();
+    }
+
+    /** Id the view binds this bullet's node to; kept across pool reuse. */
+    public int getRenderId() {
+        return renderId;
     }
 
+    /** Decoded sheet (or static image); null when the sprite failed to load. */
+    public Image getImage() {
+        return img;
+    }
 
+    /** Displayed size (the hitbox size); positions are the box centre. */
+    public double getWidth()  { return baseW * scale; }
+    public double getHeight() { return baseH * scale; }
 
-    public Node getNode() {
-        return isAnimated ? sprite : fallbackNode;
+    /** Sheet region shown this tick; null for a static image. */
+    public Rectangle2D getFrameViewport() {
+        return (isAnimated && sprite != null) ? sprite.getFrameViewport() : null;
     }
 
+    /** Position before the last update (start of the swept path). */
+    public double getPrevX() { return system != null ? system.prevX[row] : prevX; }
+    public double getPrevY() { return system != null ? system.prevY[row] : prevY; }
+
     public double getX() {
-        return x;
+        return system != null ? system.x[row] : x;
     }
 
     public double getY() {
-        return y;
+        return system != null ? system.y[row] : y;
+    }
+
+    /** Seconds left before the bullet expires. */
+    public double getTimeToLive() {
+        return system != null ? system.ttl[row] : ttl;
+    }
+
+    /** Lifetime from now on; set before adding the bullet (patterns with slow shots). */
+    public void setTimeToLive(double seconds) {
+        ttl = seconds;
+        if (system != null) system.ttl[row] = (float) seconds;
+    }
+
+    /** Look of this bullet; equal configs share a pool bucket and a system config id. */
+    public BulletConfig getConfig() {
+        return config;
     }
 
     public int getDamage() {
@@ -213,4 +313,7 @@ public class Bullet {
     public boolean isAnimated() {
         return isAnimated;
     }
+
+    @Override public int getRegistryHandle() { return registryHandle; }
+    @Override public void setRegistryHandle(int handle) { registryHandle = handle; }
 }
\ No newline at end of file
@@ -1,9 +1,15 @@
 package advpro_game.model;
 
+import java.util.Objects;
+
 /**
- * Configuration class for custom bullet sprites and animations
+ * Configuration class for custom bullet sprites and animations.
+ * Value type: equal configs share one {@link BulletPool} bucket.
  */
 public class BulletConfig {
+    /** The stock bullet (Bullet.png at 1.6x), used by the player and by enemies without a custom sprite. */
+    public static final BulletConfig DEFAULT = new BulletConfig(Bullet.DEFAULT_SPRITE, 1.6);
+
     public final String spritePath;
     public final double scale;
     public final int frameCount;
@@ -13,6 +19,8 @@ public class BulletConfig {
     public final int frameHeight;
     public final boolean isAnimated;
 
+    private int hash;   // cached: the pool looks the config up on every shot
+
     // Static bullet (no animation)
     public BulletConfig(String spritePath, double scale) {
         this.spritePath = spritePath;
@@ -38,14 +46,42 @@ public class BulletConfig {
         this.isAnimated = true;
     }
 
-    // Create bullet with this config
+    // Create bullet with this config (recycled from the shared pool when possible)
     public Bullet createBullet(double x, double y, double dirX, double dirY, double speed,
                                int damage, boolean isEnemyBullet) {
+        return BulletPool.shared().acquire(this, x, y, dirX, dirY, speed, damage, isEnemyBullet);
+    }
+
+    /** A fresh bullet built from this config (what the pool creates on a miss). */
+    Bullet newBullet() {
         if (isAnimated) {
-            return new Bullet(x, y, dirX, dirY, speed, damage, scale, isEnemyBullet,
+            return new Bullet(0, 0, 1, 0, 0, 0, scale, false,
                     spritePath, frameCount, columns, rows, frameWidth, frameHeight);
-        } else {
-            return new Bullet(x, y, dirX, dirY, speed, damage, scale, isEnemyBullet, spritePath);
         }
+        return new Bullet(0, 0, 1, 0, 0, 0, scale, false, spritePath);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BulletConfig c)) return false;
+        return Double.compare(scale, c.scale) == 0 && frameCount == c.frameCount && columns == c.columns
+                && rows == c.rows && frameWidth == c.frameWidth && frameHeight == c.frameHeight
+                && isAnimated == c.isAnimated && Objects.equals(spritePath, c.spritePath);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(spritePath, scale, frameCount, columns, rows, frameWidth, frameHeight, isAnimated);
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "BulletConfig[" + spritePath + " x" + scale + (isAnimated ? ", " + frameCount + " frames" : "") + "]";
     }
 }
\ No newline at end of file
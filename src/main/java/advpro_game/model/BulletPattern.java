@@ -0,0 +1,100 @@
+package advpro_game.model;
+
+/**
+ * Declarative bullet pattern: volleys of {@code count} shots, {@code volleysPerSecond} times a
+ * second, spread over {@code arcDeg} around a centre direction. The centre is the player
+ * (aimed) or straight right, turned further by {@code spinDegPerSec} over time and swung by
+ * a sine of {@code waveAmplitudeDeg} at {@code waveHz}. An arc of 360 spaces the shots evenly
+ * around the full circle. The factories below name the usual shapes.
+ * Emission is batched per tick by the enemies' pattern system (see {@link EnemySystems});
+ * bullets come from {@link BulletPool}, keyed by {@code bullet}.
+ * @param timeToLive seconds each shot lives; 0 = {@link Bullet#DEFAULT_TTL_SECONDS}
+ * @param bullet     look of the shots, null = {@link BulletConfig#DEFAULT}
+ */
+public record BulletPattern(int count, double volleysPerSecond, double arcDeg, boolean aimed,
+                            double spinDegPerSec, double waveAmplitudeDeg, double waveHz,
+                            double speed, int damage, double timeToLive, BulletConfig bullet) {
+
+    public BulletPattern {
+        count = Math.max(1, count);
+        volleysPerSecond = Math.max(0, volleysPerSecond);
+        arcDeg = Math.max(0, Math.min(360, arcDeg));
+        damage = Math.max(0, damage);
+        timeToLive = Math.max(0, timeToLive);
+    }
+
+    /** {@code count} shots evenly around the circle. */
+    public static BulletPattern radial(int count, double volleysPerSecond, double speed) {
+        return new BulletPattern(count, volleysPerSecond, 360, false, 0, 0, 0, speed, 1, 0, null);
+    }
+
+    /** Radial volleys whose arms turn at {@code spinDegPerSec}. */
+    public static BulletPattern spiral(int arms, double volleysPerSecond, double spinDegPerSec, double speed) {
+        return new BulletPattern(arms, volleysPerSecond, 360, false, spinDegPerSec, 0, 0, speed, 1, 0, null);
+    }
+
+    /** {@code count} shots over {@code arcDeg}, centred on the player. */
+    public static BulletPattern aimedFan(int count, double arcDeg, double volleysPerSecond, double speed) {
+        return new BulletPattern(count, volleysPerSecond, arcDeg, true, 0, 0, 0, speed, 1, 0, null);
+    }
+
+    /** Aimed fan whose centre sweeps ±{@code amplitudeDeg} around the player at {@code hz}. */
+    public static BulletPattern wave(int count, double arcDeg, double volleysPerSecond,
+                                     double amplitudeDeg, double hz, double speed) {
+        return new BulletPattern(count, volleysPerSecond, arcDeg, true, 0, amplitudeDeg, hz, speed, 1, 0, null);
+    }
+
+    public BulletPattern withBullet(BulletConfig config) {
+        return new BulletPattern(count, volleysPerSecond, arcDeg, aimed, spinDegPerSec, waveAmplitudeDeg, waveHz,
+                speed, damage, timeToLive, config);
+    }
+
+    public BulletPattern withDamage(int dmg) {
+        return new BulletPattern(count, volleysPerSecond, arcDeg, aimed, spinDegPerSec, waveAmplitudeDeg, waveHz,
+                speed, dmg, timeToLive, bullet);
+    }
+
+    public BulletPattern withTimeToLive(double seconds) {
+        return new BulletPattern(count, volleysPerSecond, arcDeg, aimed, spinDegPerSec, waveAmplitudeDeg, waveHz,
+                speed, damage, seconds, bullet);
+    }
+
+    /** Look of the shots (never null). */
+    public BulletConfig config() {
+        return bullet != null ? bullet : BulletConfig.DEFAULT;
+    }
+
+    /** Shots per second. */
+    public double bulletsPerSecond() { return count * volleysPerSecond; }
+
+    /** Rough peak of shots alive at once (until they cross the arena or expire); sizes the pool. */
+    public int peakLive() {
+        double life = speed > 0 ? 1000.0 / speed : Bullet.DEFAULT_TTL_SECONDS;
+        life = Math.min(life, timeToLive > 0 ? timeToLive : Bullet.DEFAULT_TTL_SECONDS);
+        return (int) Math.ceil(bulletsPerSecond() * life) + count;
+    }
+
+    /**
+     * Directions of one volley into {@code dirX}/{@code dirY}[0..count).
+     * @param aimDeg   direction to the player (used when aimed)
+     * @param spinDeg  accumulated spin
+     * @param tSeconds time since the pattern started (wave phase)
+     */
+    public void directions(double aimDeg, double spinDeg, double tSeconds, double[] dirX, double[] dirY) {
+        double centre = (aimed ? aimDeg : 0) + spinDeg;
+        if (waveAmplitudeDeg != 0) centre += waveAmplitudeDeg * Math.sin(2 * Math.PI * waveHz * tSeconds);
+        double step, first;
+        if (arcDeg >= 360) {
+            step = 360.0 / count;
+            first = centre;
+        } else {
+            step = count > 1 ? arcDeg / (count - 1) : 0;
+            first = count > 1 ? centre - arcDeg / 2 : centre;     // a single shot goes down the middle
+        }
+        for (int i = 0; i < count; i++) {
+            double rad = Math.toRadians(first + i * step);
+            dirX[i] = Math.cos(rad);
+            dirY[i] = Math.sin(rad);
+        }
+    }
+}
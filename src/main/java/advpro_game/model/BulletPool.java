@@ -0,0 +1,79 @@
+package advpro_game.model;
+
+/**
+ * Recycles bullets per {@link BulletConfig}. A reused bullet keeps its render id, so the view
+ * binds it to the same node again.
+ * - {@link #acquire} hands out an idle bullet of the same config (or builds one on a miss);
+ *   {@link #release} takes it back. GameStage releases bullets as its registry commit removes
+ *   them, so a recycled node is never in two places in the same frame.
+ * - Each bucket remembers its high-water mark (most bullets out at once); {@link #prewarm}
+ *   at stage load fills a bucket up to it, so steady firing never builds bullets mid-fight.
+ * - Bullets built with {@code new Bullet(...)} are not pooled and are simply dropped.
+ * Buckets and counters live in a {@link KeyedPool}. Shared by the whole game
+ * ({@link #shared()}); calls are serialized, but in practice they all come from the
+ * simulation thread.
+ */
+public final class BulletPool {
+
+    private static final BulletPool SHARED = new BulletPool();
+
+    private final KeyedPool<BulletConfig, Bullet> pool = new KeyedPool<>(config -> {
+        Bullet b = config.newBullet();
+        b.setPoolKey(config);
+        return b;
+    }, Bullet::getPoolKey, Bullet::isIdleInPool, Bullet::onRelease);
+
+    public static BulletPool shared() { return SHARED; }
+
+    /** A separate pool (tests, benchmarks); the game itself uses {@link #shared()}. */
+    public BulletPool() {}
+
+    /** A bullet of {@code config} launched from (x, y) towards (dirX, dirY). */
+    public synchronized Bullet acquire(BulletConfig config, double x, double y, double dirX, double dirY,
+                                       double speed, int damage, boolean isEnemyBullet) {
+        Bullet b = pool.take(config);
+        b.onAcquire(x, y, dirX, dirY, speed, damage, isEnemyBullet);
+        return b;
+    }
+
+    /**
+     * A volley: {@code n} bullets of {@code config} from (x, y), bullet i towards
+     * (dirX[i], dirY[i]), into {@code out}[0..n). One bucket lookup and lock for the batch.
+     */
+    public synchronized void acquireAll(BulletConfig config, double x, double y, double[] dirX, double[] dirY,
+                                        int n, double speed, int damage, boolean isEnemyBullet, Bullet[] out) {
+        for (int i = 0; i < n; i++) {
+            Bullet b = pool.take(config);
+            b.onAcquire(x, y, dirX[i], dirY[i], speed, damage, isEnemyBullet);
+            out[i] = b;
+        }
+    }
+
+    /** Return a bullet that left the world; ignored for unpooled or already released bullets. */
+    public synchronized void release(Bullet b) { pool.release(b); }
+
+    /** Make sure {@code config} has at least max(count, its high-water mark) idle bullets. */
+    public synchronized void prewarm(BulletConfig config, int count) { pool.prewarm(config, count); }
+
+    // ===================== Stats =====================
+
+    public synchronized int idleCount(BulletConfig config) { return pool.idleCount(config); }
+
+    /** Bullets of {@code config} currently handed out. */
+    public synchronized int outstanding(BulletConfig config) { return pool.outstanding(config); }
+
+    /** Most bullets of {@code config} ever out at once. */
+    public synchronized int highWaterMark(BulletConfig config) { return pool.highWaterMark(config); }
+
+    /** Bullets built so far (misses + prewarming). */
+    public synchronized long getCreated() { return pool.getCreated(); }
+
+    /** Acquisitions served from idle bullets. */
+    public synchronized long getReused() { return pool.getReused(); }
+
+    @Override
+    public synchronized String toString() {
+        return "BulletPool[created=" + pool.getCreated() + ", reused=" + pool.getReused()
+                + ", buckets=" + pool.bucketCount() + "]";
+    }
+}
@@ -0,0 +1,246 @@
+package advpro_game.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Live bullets as struct-of-arrays columns (position, velocity, speed, damage, owner,
+ * config id, time to live, swept box), one row per committed bullet.
+ * - Rows follow the dense order of an {@link EntityRegistry}, which keeps the queued
+ *   add/remove/clear semantics; removal is a swap-remove, so the columns stay packed.
+ * - {@link #update} integrates every bullet in one loop over primitive arrays, no per-bullet
+ *   calls, and refreshes the float swept boxes the batch overlap kernel reads as they are.
+ * - {@link Bullet} is the handle callers keep (and the pool recycles): while committed its
+ *   getters read the row, once removed it holds the last state again.
+ * Columns are read and written on the simulation thread only.
+ */
+public final class BulletSystem implements EntityRegistry.Columns<Bullet> {
+
+    private final EntityRegistry<Bullet> registry;
+
+    // ---------- Columns (row i = dense index i) ----------
+    Bullet[] handle;
+    double[] x, y, prevX, prevY;
+    double[] vx, vy, speed;        // velocity (direction * speed) and speed, px/s
+    double[] halfW, halfH;
+    int[] damage;
+    boolean[] enemy;               // owner: enemy shot (ENEMIES clock) or player shot (PLAYER clock)
+    int[] config;                  // id from configId(...)
+    float[] ttl;                   // seconds left
+    boolean[] animated;
+    private int animatedCount = 0;
+    private float[] sweptMinX, sweptMinY, sweptMaxX, sweptMaxY;
+
+    // Distinct bullet looks seen so far (renderers key images by id)
+    private final Map<BulletConfig, Integer> configIds = new HashMap<>();
+    private final List<BulletConfig> configs = new ArrayList<>();
+
+    public BulletSystem() { this(256); }
+
+    public BulletSystem(int initialCapacity) {
+        registry = new EntityRegistry<>(initialCapacity);
+        registry.setColumns(this);
+        allocate(Math.max(8, initialCapacity));
+    }
+
+    // ===================== Membership (queued, like EntityRegistry) =====================
+
+    public boolean add(Bullet b)      { return registry.add(b); }
+    public boolean remove(Bullet b)   { return registry.remove(b); }
+    public void clear()               { registry.clear(); }
+
+    /** Apply queued changes (simulation thread, end of tick). */
+    public boolean commit()           { return registry.commit(); }
+
+    /** Told about every bullet that leaves, after its row is gone (e.g. to recycle it). */
+    public void setRemovalListener(Consumer<? super Bullet> listener) { registry.setRemovalListener(listener); }
+
+    /** Committed bullets; rows 0..size-1. */
+    public int size()                 { return registry.size(); }
+    public int expectedSize()         { return registry.expectedSize(); }
+    public Bullet get(int row)        { return handle[row]; }
+    public boolean contains(Bullet b) { return registry.contains(b); }
+
+    // ===================== Simulation =====================
+
+    /** Move every bullet by its own clock domain's step and count down its time to live. */
+    public void update(double dtPlayer, double dtEnemy) {
+        final int n = size();
+        final double[] x = this.x, y = this.y, prevX = this.prevX, prevY = this.prevY;
+        final double[] vx = this.vx, vy = this.vy;
+        final boolean[] enemy = this.enemy;
+        final float[] ttl = this.ttl;
+        for (int i = 0; i < n; i++) {
+            double dt = enemy[i] ? dtEnemy : dtPlayer;
+            double px = x[i], py = y[i];
+            prevX[i] = px;
+            prevY[i] = py;
+            x[i] = px + vx[i] * dt;
+            y[i] = py + vy[i] * dt;
+            ttl[i] -= (float) dt;
+        }
+        refreshSwept(0, n);
+        if (animatedCount == 0) return;
+        for (int i = 0; i < n; i++) {
+            if (animated[i]) handle[i].animate(enemy[i] ? dtEnemy : dtPlayer);
+        }
+    }
+
+    /** One bullet's step (what {@link Bullet#update} does for a committed bullet). */
+    void step(int i, double dt) {
+        double px = x[i], py = y[i];
+        prevX[i] = px;
+        prevY[i] = py;
+        x[i] = px + vx[i] * dt;
+        y[i] = py + vy[i] * dt;
+        ttl[i] -= (float) dt;
+        refreshSwept(i, i + 1);
+        if (animated[i]) handle[i].animate(dt);
+    }
+
+    /**
+     * Queue removal of every bullet outside [minX, maxX] x [minY, maxY] or out of time.
+     * @return number of bullets queued
+     */
+    public int cull(double minX, double minY, double maxX, double maxY) {
+        int removed = 0;
+        for (int i = 0, n = size(); i < n; i++) {
+            double bx = x[i], by = y[i];
+            if (bx < minX || bx > maxX || by < minY || by > maxY || ttl[i] <= 0f) {
+                if (registry.remove(handle[i])) removed++;
+            }
+        }
+        return removed;
+    }
+
+    // ===================== Row reads =====================
+
+    public double x(int i)          { return x[i]; }
+    public double y(int i)          { return y[i]; }
+    public double prevX(int i)      { return prevX[i]; }
+    public double prevY(int i)      { return prevY[i]; }
+    public double halfWidth(int i)  { return halfW[i]; }
+    public double halfHeight(int i) { return halfH[i]; }
+    public int damage(int i)        { return damage[i]; }
+    public boolean isEnemyShot(int i) { return enemy[i]; }
+    public int configId(int i)      { return config[i]; }
+    public double timeToLive(int i) { return ttl[i]; }
+
+    public int collisionLayer(int i) {
+        return enemy[i] ? CollisionLayer.ENEMY_BULLET : CollisionLayer.PLAYER_BULLET;
+    }
+
+    /** Same as {@link Bullet#timeOfImpact} for row {@code i}. */
+    public double timeOfImpact(int i, MutableAabb box) {
+        return MutableAabb.sweep(prevX[i], prevY[i], x[i], y[i], halfW[i], halfH[i], box);
+    }
+
+    /**
+     * Swept boxes of the last step as float columns, rows 0..size-1, for
+     * {@code BatchOverlap}; read-only and only valid until the next update or commit.
+     */
+    public float[] sweptMinX() { return sweptMinX; }
+    public float[] sweptMinY() { return sweptMinY; }
+    public float[] sweptMaxX() { return sweptMaxX; }
+    public float[] sweptMaxY() { return sweptMaxY; }
+
+    // ===================== Configs =====================
+
+    /** Stable small id for {@code c} (equal configs share one). */
+    public int configId(BulletConfig c) {
+        Integer id = configIds.get(c);
+        if (id != null) return id;
+        int next = configs.size();
+        configs.add(c);
+        configIds.put(c, next);
+        return next;
+    }
+
+    public BulletConfig config(int id) { return configs.get(id); }
+    public int configCount()           { return configs.size(); }
+
+    // ===================== Registry columns =====================
+
+    @Override
+    public void inserted(Bullet b, int i) {
+        if (i >= x.length) allocate(x.length * 2);
+        handle[i] = b;
+        b.writeTo(this, i);
+        config[i] = configId(b.getConfig());
+        if (animated[i]) animatedCount++;
+        refreshSwept(i, i + 1);
+        b.attach(this, i);
+    }
+
+    @Override
+    public void erased(Bullet b, int i, int last) {
+        b.detach(this, i);
+        if (animated[i]) animatedCount--;
+        if (i != last) {
+            handle[i] = handle[last];
+            x[i] = x[last];           y[i] = y[last];
+            prevX[i] = prevX[last];   prevY[i] = prevY[last];
+            vx[i] = vx[last];         vy[i] = vy[last];
+            speed[i] = speed[last];
+            halfW[i] = halfW[last];   halfH[i] = halfH[last];
+            damage[i] = damage[last];
+            enemy[i] = enemy[last];
+            config[i] = config[last];
+            ttl[i] = ttl[last];
+            animated[i] = animated[last];
+            sweptMinX[i] = sweptMinX[last]; sweptMinY[i] = sweptMinY[last];
+            sweptMaxX[i] = sweptMaxX[last]; sweptMaxY[i] = sweptMaxY[last];
+            handle[i].attach(this, i);
+        }
+        handle[last] = null;
+    }
+
+    /** Float swept boxes for rows [from, to), in their own loop so it stays branch-free. */
+    private void refreshSwept(int from, int to) {
+        final double[] x = this.x, y = this.y, prevX = this.prevX, prevY = this.prevY;
+        final double[] halfW = this.halfW, halfH = this.halfH;
+        final float[] minX = sweptMinX, minY = sweptMinY, maxX = sweptMaxX, maxY = sweptMaxY;
+        for (int i = from; i < to; i++) {
+            minX[i] = (float) (Math.min(prevX[i], x[i]) - halfW[i]);
+            minY[i] = (float) (Math.min(prevY[i], y[i]) - halfH[i]);
+            maxX[i] = (float) (Math.max(prevX[i], x[i]) + halfW[i]);
+            maxY[i] = (float) (Math.max(prevY[i], y[i]) + halfH[i]);
+        }
+    }
+
+    private void allocate(int cap) {
+        if (handle == null) {
+            handle = new Bullet[cap];
+            x = new double[cap];      y = new double[cap];
+            prevX = new double[cap];  prevY = new double[cap];
+            vx = new double[cap];     vy = new double[cap];
+            speed = new double[cap];
+            halfW = new double[cap];  halfH = new double[cap];
+            damage = new int[cap];
+            enemy = new boolean[cap];
+            config = new int[cap];
+            ttl = new float[cap];
+            animated = new boolean[cap];
+            sweptMinX = new float[cap]; sweptMinY = new float[cap];
+            sweptMaxX = new float[cap]; sweptMaxY = new float[cap];
+            return;
+        }
+        handle = Arrays.copyOf(handle, cap);
+        x = Arrays.copyOf(x, cap);          y = Arrays.copyOf(y, cap);
+        prevX = Arrays.copyOf(prevX, cap);  prevY = Arrays.copyOf(prevY, cap);
+        vx = Arrays.copyOf(vx, cap);        vy = Arrays.copyOf(vy, cap);
+        speed = Arrays.copyOf(speed, cap);
+        halfW = Arrays.copyOf(halfW, cap);  halfH = Arrays.copyOf(halfH, cap);
+        damage = Arrays.copyOf(damage, cap);
+        enemy = Arrays.copyOf(enemy, cap);
+        config = Arrays.copyOf(config, cap);
+        ttl = Arrays.copyOf(ttl, cap);
+        animated = Arrays.copyOf(animated, cap);
+        sweptMinX = Arrays.copyOf(sweptMinX, cap); sweptMinY = Arrays.copyOf(sweptMinY, cap);
+        sweptMaxX = Arrays.copyOf(sweptMaxX, cap); sweptMaxY = Arrays.copyOf(sweptMaxY, cap);
+    }
+}
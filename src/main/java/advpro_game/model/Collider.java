@@ -0,0 +1,10 @@
+package advpro_game.model;
+
+/** Anything with a world-space hitbox that collision code can read without allocating. */
+public interface Collider {
+    /** Write the current hitbox into {@code out} (and return it, for chaining). */
+    MutableAabb hitboxInto(MutableAabb out);
+
+    /** The single {@link CollisionLayer} bit this collider sits on. */
+    int collisionLayer();
+}
@@ -0,0 +1,45 @@
+package advpro_game.model;
+
+/**
+ * Collision layers as single bits. Every {@link Collider} sits on exactly one layer; a pair is
+ * tested only when each side's mask contains the other's layer (see {@link #defaultMask}).
+ */
+public final class CollisionLayer {
+    public static final int PLAYER        = 1;
+    public static final int ENEMY         = 1 << 1;
+    public static final int PLAYER_BULLET = 1 << 2;
+    public static final int ENEMY_BULLET  = 1 << 3;
+    public static final int LASER         = 1 << 4;
+    public static final int PLATFORM      = 1 << 5;
+
+    public static final int COUNT = 6;
+
+    private CollisionLayer() {}
+
+    /** Bit position of a layer, for per-layer tables. */
+    public static int index(int layer) { return Integer.numberOfTrailingZeros(layer); }
+
+    /** Who hurts whom: players and their shots against enemies, enemies and theirs against players. */
+    public static int defaultMask(int layer) {
+        return switch (layer) {
+            case PLAYER        -> ENEMY | ENEMY_BULLET;
+            case ENEMY         -> PLAYER | PLAYER_BULLET | LASER;
+            case PLAYER_BULLET -> ENEMY;
+            case ENEMY_BULLET  -> PLAYER;
+            case LASER         -> ENEMY;
+            default            -> 0;   // platforms resolve through PlatformIndex, not contacts
+        };
+    }
+
+    public static String name(int layer) {
+        return switch (layer) {
+            case PLAYER        -> "PLAYER";
+            case ENEMY         -> "ENEMY";
+            case PLAYER_BULLET -> "PLAYER_BULLET";
+            case ENEMY_BULLET  -> "ENEMY_BULLET";
+            case LASER         -> "LASER";
+            case PLATFORM      -> "PLATFORM";
+            default            -> "0x" + Integer.toHexString(layer);
+        };
+    }
+}
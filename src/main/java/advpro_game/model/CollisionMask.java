@@ -0,0 +1,138 @@
+package advpro_game.model;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Bit-packed opacity mask of one sprite frame, used as a narrowphase after an AABB test.
+ * - One bit per pixel, rows of 64-pixel {@code long} words; a rectangle query ORs the rows'
+ *   words together and ANDs the result with the edge masks, about one word per row.
+ * - Built at the resolution the frame is drawn at (the collider's size), from the sheet's
+ *   alpha channel. When a frame is shrunk, a mask pixel is set if any source pixel it covers
+ *   is opaque, so thin details are never lost.
+ * - Masks are built once per (sheet, frame, size) and cached per sheet
+ *   ({@link #forFrame}); the sheets are held weakly.
+ */
+public final class CollisionMask {
+
+    /** Pixels at least this opaque (0..255) count as solid. */
+    public static final int ALPHA_THRESHOLD = 128;
+
+    private final int width, height, words;
+    private final long[] bits;
+
+    CollisionMask(int width, int height) {
+        this.width = Math.max(1, width);
+        this.height = Math.max(1, height);
+        this.words = (this.width + 63) >>> 6;
+        this.bits = new long[words * this.height];
+    }
+
+    public int getWidth()  { return width; }
+    public int getHeight() { return height; }
+
+    public boolean get(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return false;
+        return (bits[y * words + (x >>> 6)] & (1L << (x & 63))) != 0;
+    }
+
+    void set(int x, int y) {
+        bits[y * words + (x >>> 6)] |= 1L << (x & 63);
+    }
+
+    public int countSolid() {
+        int n = 0;
+        for (long w : bits) n += Long.bitCount(w);
+        return n;
+    }
+
+    /** Any solid pixel in [x0, x1) x [y0, y1)? The rectangle is clipped to the mask. */
+    public boolean anyInRect(int x0, int y0, int x1, int y1) {
+        if (x0 < 0) x0 = 0;
+        if (y0 < 0) y0 = 0;
+        if (x1 > width) x1 = width;
+        if (y1 > height) y1 = height;
+        if (x0 >= x1 || y0 >= y1) return false;
+
+        int w0 = x0 >>> 6, w1 = (x1 - 1) >>> 6;
+        long first = -1L << (x0 & 63);
+        long last = -1L >>> (63 - ((x1 - 1) & 63));
+        if (w0 == w1) first &= last;
+
+        // OR the rows together and test once: query rectangles are a few rows tall, and a
+        // branch-free loop beats an early exit that mispredicts on every other row
+        long acc = 0;
+        if (w0 == w1) {
+            for (int i = y0 * words + w0, end = y1 * words; i < end; i += words) acc |= bits[i];
+            return (acc & first) != 0;
+        }
+        for (int y = y0; y < y1; y++) {
+            int row = y * words;
+            acc |= bits[row + w0] & first | bits[row + w1] & last;
+            for (int w = w0 + 1; w < w1; w++) acc |= bits[row + w];
+        }
+        return acc != 0;
+    }
+
+    // ===================== Building =====================
+
+    /**
+     * Mask of the sheet region {@code (srcX, srcY, srcW, srcH)} drawn at {@code outW x outH}.
+     * @return null when the image has no readable pixels (not loaded, or an error)
+     */
+    public static CollisionMask fromAlpha(Image sheet, int srcX, int srcY, int srcW, int srcH,
+                                          int outW, int outH) {
+        PixelReader px = sheet != null && !sheet.isError() ? sheet.getPixelReader() : null;
+        if (px == null) return null;
+        int sheetW = (int) sheet.getWidth(), sheetH = (int) sheet.getHeight();
+
+        CollisionMask m = new CollisionMask(outW, outH);
+        double sx = (double) srcW / m.width, sy = (double) srcH / m.height;
+        for (int y = 0; y < m.height; y++) {
+            int fromY = srcY + (int) Math.floor(y * sy);
+            int toY = Math.min(sheetH, srcY + Math.max((int) Math.ceil((y + 1) * sy), (int) Math.floor(y * sy) + 1));
+            for (int x = 0; x < m.width; x++) {
+                int fromX = srcX + (int) Math.floor(x * sx);
+                int toX = Math.min(sheetW, srcX + Math.max((int) Math.ceil((x + 1) * sx), (int) Math.floor(x * sx) + 1));
+                if (anyOpaque(px, fromX, fromY, toX, toY)) m.set(x, y);
+            }
+        }
+        return m;
+    }
+
+    private static boolean anyOpaque(PixelReader px, int x0, int y0, int x1, int y1) {
+        for (int y = Math.max(0, y0); y < y1; y++) {
+            for (int x = Math.max(0, x0); x < x1; x++) {
+                if ((px.getArgb(x, y) >>> 24) >= ALPHA_THRESHOLD) return true;
+            }
+        }
+        return false;
+    }
+
+    // ===================== Per-sheet cache =====================
+
+    private record FrameKey(int x, int y, int w, int h, int outW, int outH) {}
+
+    private static final Map<Image, Map<FrameKey, CollisionMask>> CACHE = new WeakHashMap<>();
+    private static final CollisionMask NONE = new CollisionMask(1, 1);   // cached "no pixels"
+
+    /** Cached mask of the frame at {@code viewport}, drawn at {@code outW x outH}; null if unreadable. */
+    public static CollisionMask forFrame(Image sheet, Rectangle2D viewport, int outW, int outH) {
+        if (sheet == null || viewport == null) return null;
+        FrameKey key = new FrameKey((int) viewport.getMinX(), (int) viewport.getMinY(),
+                (int) viewport.getWidth(), (int) viewport.getHeight(), outW, outH);
+        synchronized (CACHE) {
+            CollisionMask m = CACHE.computeIfAbsent(sheet, s -> new HashMap<>())
+                    .computeIfAbsent(key, k -> {
+                        CollisionMask built = fromAlpha(sheet, k.x(), k.y(), k.w(), k.h(), k.outW(), k.outH());
+                        return built != null ? built : NONE;
+                    });
+            return m == NONE ? null : m;
+        }
+    }
+}
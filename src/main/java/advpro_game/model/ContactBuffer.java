@@ -0,0 +1,82 @@
+package advpro_game.model;
+
+import java.util.Arrays;
+
+/**
+ * One tick's collision results, written by the collision stage (and the laser) and consumed
+ * once by contact resolution (damage, score, hit flashes), then cleared.
+ * A contact reads "{@code source} on layer {@code sourceLayer} struck {@code target}":
+ * a bullet, a laser shooter or an enemy body as the source, the one taking the hit as target.
+ * Stored as parallel arrays that grow geometrically and are reused, so a warm buffer
+ * never allocates. Simulation thread only.
+ */
+public final class ContactBuffer {
+    private int count = 0;
+    private int[] sourceLayer;
+    private int[] targetLayer;
+    private Collider[] source;
+    private Collider[] target;
+    private int[] amount;
+    private double[] t, x, y;
+
+    public ContactBuffer() { this(64); }
+
+    public ContactBuffer(int initialCapacity) {
+        int cap = Math.max(8, initialCapacity);
+        sourceLayer = new int[cap];
+        targetLayer = new int[cap];
+        source = new Collider[cap];
+        target = new Collider[cap];
+        amount = new int[cap];
+        t = new double[cap];
+        x = new double[cap];
+        y = new double[cap];
+    }
+
+    /**
+     * @param amount damage carried by the contact (0 when the rules decide, e.g. body contact)
+     * @param toi    time of impact within the tick, 0..1
+     * @param x      impact point (for hit flashes)
+     */
+    public void add(int sourceLayer, Collider source, int targetLayer, Collider target,
+                    int amount, double toi, double x, double y) {
+        if (count == this.source.length) grow();
+        this.sourceLayer[count] = sourceLayer;
+        this.targetLayer[count] = targetLayer;
+        this.source[count] = source;
+        this.target[count] = target;
+        this.amount[count] = amount;
+        this.t[count] = toi;
+        this.x[count] = x;
+        this.y[count] = y;
+        count++;
+    }
+
+    public int size()                   { return count; }
+    public int sourceLayer(int i)       { return sourceLayer[i]; }
+    public int targetLayer(int i)       { return targetLayer[i]; }
+    public Collider source(int i)       { return source[i]; }
+    public Collider target(int i)       { return target[i]; }
+    public int amount(int i)            { return amount[i]; }
+    public double timeOfImpact(int i)   { return t[i]; }
+    public double x(int i)              { return x[i]; }
+    public double y(int i)              { return y[i]; }
+
+    /** Drops the references too, so removed entities are not kept alive until the next hit. */
+    public void clear() {
+        for (int i = 0; i < count; i++) { source[i] = null; target[i] = null; }
+        count = 0;
+    }
+
+    private void grow() {
+        int cap = source.length * 2;
+        sourceLayer = Arrays.copyOf(sourceLayer, cap);
+        targetLayer = Arrays.copyOf(targetLayer, cap);
+        source = Arrays.copyOf(source, cap);
+        target = Arrays.copyOf(target, cap);
+        amount = Arrays.copyOf(amount, cap);
+        t = Arrays.copyOf(t, cap);
+        x = Arrays.copyOf(x, cap);
+        y = Arrays.copyOf(y, cap);
+    }
+}
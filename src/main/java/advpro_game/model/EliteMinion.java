@@ -11,12 +11,9 @@ public class EliteMinion extends Enemy {
 
         setHp(5);
         this.moveSpeed = 25.0;
-        this.shootCooldownMs = 999999;
-        this.shootRange = 0;
+        this.shoots = false;
 
-        if (fallbackNode != null) {
-            fallbackNode.setFill(Color.DARKBLUE);
-        }
+        fallbackFill = Color.DARKBLUE;
 
         if (sprite != null) {
             sprite.define(AnimatedSprite.Action.idle, new AnimatedSprite.ActionSpec(
@@ -36,12 +33,9 @@ public class EliteMinion extends Enemy {
 
         setHp(5);
         this.moveSpeed = moveSpeed;
-        this.shootCooldownMs = 999999;
-        this.shootRange = 0;
+        this.shoots = false;
 
-        if (fallbackNode != null) {
-            fallbackNode.setFill(Color.DARKBLUE);
-        }
+        fallbackFill = Color.DARKBLUE;
 
         if (sprite != null) {
             sprite.define(AnimatedSprite.Action.idle, new AnimatedSprite.ActionSpec(
@@ -60,8 +54,7 @@ public class EliteMinion extends Enemy {
 
         setHp(5);
         this.moveSpeed = 25.0;
-        this.shootCooldownMs = 999999;
-        this.shootRange = 0;
+        this.shoots = false;
 
         // Define animations for custom sprite
         if (sprite != null) {
@@ -74,9 +67,7 @@ public class EliteMinion extends Enemy {
         }
 
         // Set color for fallback rectangle
-        if (fallbackNode != null) {
-            fallbackNode.setFill(Color.DARKBLUE);
-        }
+        fallbackFill = Color.DARKBLUE;
     }
 
     // Constructor with custom sprite parameters AND custom move speed
@@ -87,8 +78,7 @@ public class EliteMinion extends Enemy {
 
         setHp(5);
         this.moveSpeed = moveSpeed;
-        this.shootCooldownMs = 999999;
-        this.shootRange = 0;
+        this.shoots = false;
 
         // Define animations for custom sprite
         if (sprite != null) {
@@ -101,22 +91,15 @@ public class EliteMinion extends Enemy {
         }
 
         // Set color for fallback rectangle
-        if (fallbackNode != null) {
-            fallbackNode.setFill(Color.DARKBLUE);
-        }
+        fallbackFill = Color.DARKBLUE;
     }
 
     @Override
     public boolean hit(int dmg) {
         boolean dead = super.hit(dmg);
-        if (!dead && fallbackNode != null) {
-            fallbackNode.setFill(Color.MEDIUMBLUE);
+        if (!dead) {
+            fallbackFill = Color.MEDIUMBLUE;
         }
         return dead;
     }
-
-    @Override
-    public Bullet tryShoot(GameCharacter player) {
-        return null;
-    }
 }
\ No newline at end of file
@@ -1,27 +1,72 @@
 package advpro_game.model;
 
-import advpro_game.Launcher;
+import advpro_game.ecs.Archetype;
+import advpro_game.ecs.EcsWorld;
+import advpro_game.model.EnemyComponents.AiState;
+import advpro_game.model.EnemyComponents.Health;
+import advpro_game.model.EnemyComponents.Pattern;
+import advpro_game.model.EnemyComponents.Shooter;
+import advpro_game.model.EnemyComponents.Sprite;
+import advpro_game.model.EnemyComponents.Transform;
+import advpro_game.model.EnemyComponents.Velocity;
+import advpro_game.util.GameClock;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
-import javafx.scene.layout.Pane;
-import javafx.scene.shape.Rectangle;
 import javafx.scene.paint.Color;
 
-public class Enemy extends Pane {
+/**
+ * An enemy: its look and spawn parameters, and the handle onto its ECS entity.
+ * Subclasses are spawn factories: their constructors only choose sprite, size and the
+ * fields below. Behavior runs in {@link EnemySystems}; while the enemy is committed to a
+ * stage its state lives in the entity's components and the getters read them.
+ */
+public class Enemy implements EntityRegistry.Member, Collider {
+    // Spawn parameters, and the enemy's state whenever it is not in a world
     protected double x, y, w, h;
+    protected double prevX, prevY;   // position before the last update (render interpolation)
+    private double viewScaleX = 1;   // facing applied to the node; flips only while walking
+    private double viewOpacity = 1;  // dimmed once dead
     private int hp = 1;
     protected AnimatedSprite sprite;
-    protected Rectangle fallbackNode;  // Fallback if no sprite
+    protected Color fallbackFill = Color.DARKRED;  // box drawn instead when there is no sprite
+    private final int renderId = RenderId.next();
+    private int registryHandle = EntityRegistry.NONE;
 
-    // Movement
-    protected double vx = 0;
+    // Entity while committed to a stage (see EnemySystems)
+    private EcsWorld world;
+    private int entity = EcsWorld.NONE;
+
+    // Narrowphase: current frame's opacity at hitbox size (rebuilt only when the frame changes)
+    private Rectangle2D maskViewport;
+    private CollisionMask mask;
+
+    // Movement (no Velocity component when 0)
     protected double moveSpeed = 30.0;
     protected int direction = -1;
 
-    // Shooting
-    protected long lastShotTime = 0;
+    // Animation: a one-shot pose (e.g. shoot) holds until then
+    protected long holdActionUntilMs = 0;
+
+    // Shooting (no Shooter component when false)
+    protected boolean shoots = true;
+    protected long lastShotTime = Long.MIN_VALUE / 2; // never (clock time starts at 0)
     protected int shootCooldownMs = 2000;
     protected double shootRange = 400;
+    protected double bulletSpeed = 300.0;
+    protected int bulletDamage = 1;
+    protected int shootPoseMs = 0;          // > 0: show the shoot pose this long after firing
+    protected BulletConfig bulletConfig;    // null = BulletConfig.DEFAULT
+    protected BulletPattern pattern;        // volleys besides the aimed shot (no Pattern component when null)
+
+    // Timing: ENEMIES-domain time of the stage's clock (0 until attached)
+    protected GameClock clock;
+
+    // Pooling (EnemyPool): archetype, and the spawn state a reused enemy starts from again
+    private EnemySpec poolKey;
+    private boolean idleInPool;
+    private int spawnHp;
+    private Color spawnFill;
+    private long spawnShotOffsetMs;
 
     public Enemy(double x, double y, double w, double h, String spritePath,
                  int frameCount, int columns, int rows, int frameWidth, int frameHeight) {
@@ -29,17 +74,18 @@ public class Enemy extends Pane {
         this.y = y;
         this.w = w;
         this.h = h;
+        this.prevX = x;
+        this.prevY = y;
 
-        // Try to load sprite sheet
+        // Sprite sheet: decoded once per path and shared by every enemy showing it
         try {
-            Image img = new Image(Launcher.class.getResourceAsStream(spritePath));
+            Image img = SpriteSheets.get(spritePath);
+            if (img == null) throw new IllegalStateException("missing sheet");
             sprite = new AnimatedSprite(img, frameCount, columns, rows, 0, 0, frameWidth, frameHeight);
 
             sprite.setFitWidth(w);
             sprite.setFitHeight(h);
 
-            getChildren().add(sprite);
-
             sprite.define(AnimatedSprite.Action.idle, new AnimatedSprite.ActionSpec(
                     0, 0, Math.min(frameCount, columns), columns, frameWidth, frameHeight, 150
             ));
@@ -51,13 +97,8 @@ public class Enemy extends Pane {
 
         } catch (Exception e) {
             System.err.println("Failed to load enemy sprite: " + spritePath + ", using fallback rectangle");
-            // Use fallback rectangle
-            fallbackNode = new Rectangle(w, h, Color.DARKRED);
-            getChildren().add(fallbackNode);
+            sprite = null;
         }
-
-        setTranslateX(x);
-        setTranslateY(y);
     }
 
     // Fallback constructor for enemies without sprites
@@ -66,111 +107,246 @@ public class Enemy extends Pane {
         this.y = y;
         this.w = w;
         this.h = h;
+        this.prevX = x;
+        this.prevY = y;
+    }
 
-        // Create fallback rectangle
-        fallbackNode = new Rectangle(w, h, Color.DARKRED);
-        getChildren().add(fallbackNode);
-        setTranslateX(x);
-        setTranslateY(y);
+    // ===================== Entity (EnemySystems, during registry commit) =====================
+
+    /** Create this enemy's entity from its own state; what it can do decides its components. */
+    void spawn(EcsWorld w) {
+        boolean alive = hp > 0;
+        int mask = Transform.TYPE.bit() | Health.TYPE.bit() | Sprite.TYPE.bit();
+        if (alive) mask |= AiState.TYPE.bit();
+        if (alive && moveSpeed > 0) mask |= Velocity.TYPE.bit();
+        if (alive && shoots) mask |= Shooter.TYPE.bit();
+        if (alive && pattern != null) mask |= Pattern.TYPE.bit();
+
+        int e = w.create(mask, this);
+        Archetype a = w.tableOf(e);
+        int r = w.rowOf(e);
+        a.doubles(Transform.TYPE, Transform.X)[r] = x;
+        a.doubles(Transform.TYPE, Transform.Y)[r] = y;
+        a.doubles(Transform.TYPE, Transform.PREV_X)[r] = prevX;
+        a.doubles(Transform.TYPE, Transform.PREV_Y)[r] = prevY;
+        a.doubles(Transform.TYPE, Transform.W)[r] = this.w;
+        a.doubles(Transform.TYPE, Transform.H)[r] = h;
+        a.ints(Health.TYPE, Health.HP)[r] = hp;
+        a.doubles(Sprite.TYPE, Sprite.SCALE_X)[r] = viewScaleX;
+        a.doubles(Sprite.TYPE, Sprite.OPACITY)[r] = viewOpacity;
+        a.refs(Sprite.TYPE, Sprite.ANIMATION)[r] = sprite;
+        if (a.has(AiState.TYPE)) {
+            a.longs(AiState.TYPE, AiState.HOLD_UNTIL_MS)[r] = holdActionUntilMs;
+        }
+        if (a.has(Velocity.TYPE)) {
+            a.doubles(Velocity.TYPE, Velocity.MOVE_SPEED)[r] = moveSpeed;
+            a.ints(Velocity.TYPE, Velocity.DIRECTION)[r] = direction;
+        }
+        if (a.has(Shooter.TYPE)) {
+            a.doubles(Shooter.TYPE, Shooter.RANGE)[r] = shootRange;
+            a.doubles(Shooter.TYPE, Shooter.BULLET_SPEED)[r] = bulletSpeed;
+            a.longs(Shooter.TYPE, Shooter.LAST_SHOT_MS)[r] = lastShotTime;
+            a.ints(Shooter.TYPE, Shooter.COOLDOWN_MS)[r] = shootCooldownMs;
+            a.ints(Shooter.TYPE, Shooter.DAMAGE)[r] = bulletDamage;
+            a.ints(Shooter.TYPE, Shooter.POSE_MS)[r] = shootPoseMs;
+            a.refs(Shooter.TYPE, Shooter.CONFIG)[r] = getBulletConfig();
+        }
+        if (a.has(Pattern.TYPE)) {
+            a.refs(Pattern.TYPE, Pattern.PATTERN)[r] = pattern;
+        }
+        world = w;
+        entity = e;
     }
 
-    public Rectangle2D getHitbox() {
-        return new Rectangle2D(x, y, w, h);
+    /** Leaving the world: keep the entity's last state, then free it. */
+    void despawn(EcsWorld w) {
+        x = getX();
+        y = getY();
+        prevX = w.getDouble(entity, Transform.TYPE, Transform.PREV_X);
+        prevY = w.getDouble(entity, Transform.TYPE, Transform.PREV_Y);
+        hp = getHp();
+        viewScaleX = w.getDouble(entity, Sprite.TYPE, Sprite.SCALE_X);
+        viewOpacity = w.getDouble(entity, Sprite.TYPE, Sprite.OPACITY);
+        if (w.has(entity, Shooter.TYPE)) lastShotTime = w.getLong(entity, Shooter.TYPE, Shooter.LAST_SHOT_MS);
+        w.destroy(entity);
+        world = null;
+        entity = EcsWorld.NONE;
     }
 
-    // For compatibility - returns the visual node
-    public Pane getNode() {
-        return this;
+    /** Entity id while committed to a stage, else {@link EcsWorld#NONE}. */
+    public int getEntity() { return entity; }
+
+    // ===================== Pooling (EnemyPool) =====================
+
+    /** Mark as pooled under {@code key}; the state it was built with is what reuse restores. */
+    void setPoolKey(EnemySpec key) {
+        poolKey = key;
+        spawnHp = hp;
+        spawnFill = fallbackFill;
+        spawnShotOffsetMs = lastShotTime - nowMs();
     }
 
-    // HP API
-    public int getHp() { return hp; }
-    public void setHp(int hp) { this.hp = Math.max(0, hp); }
-    public void addHp(int delta) { setHp(this.hp + delta); }
-    public boolean isDead() { return hp <= 0; }
+    /** Archetype this enemy is pooled under; null when built directly. */
+    public EnemySpec getPoolKey() { return poolKey; }
 
-    public boolean hit(int dmg) {
-        setHp(hp - Math.max(0, dmg));
-        if (isDead()) {
-            if (sprite != null) {
-                sprite.setOpacity(0.5);
-            }
-            if (fallbackNode != null) {
-                fallbackNode.setFill(Color.GRAY);
-            }
-        } else {
-            if (fallbackNode != null) {
-                fallbackNode.setFill(Color.FIREBRICK);
-            }
-        }
-        return isDead();
+    boolean isIdleInPool() { return idleInPool; }
+
+    /** Back to its spawn state at (x, y): full HP, alive look, facing left, idle pose. */
+    void onAcquire(double x, double y) {
+        idleInPool = false;
+        this.x = x;
+        this.y = y;
+        this.prevX = x;
+        this.prevY = y;
+        hp = spawnHp;
+        fallbackFill = spawnFill;
+        viewScaleX = 1;
+        viewOpacity = 1;
+        direction = -1;
+        holdActionUntilMs = 0;
+        lastShotTime = nowMs() + spawnShotOffsetMs;
+        if (sprite != null) sprite.setActionForce(AnimatedSprite.Action.idle);
     }
 
-    // Movement API
-    public void update(double dtSeconds, GameCharacter player) {
-        if (isDead()) return;
+    void onRelease() { idleInPool = true; }
 
-        double playerX = player.getX() + player.getCharacterWidth() / 2.0;
-        double enemyX = x + w / 2.0;
-        double dx = playerX - enemyX;
+    // ===================== Collision =====================
 
-        if (Math.abs(dx) > 50 && moveSpeed > 0) {
-            direction = dx > 0 ? 1 : -1;
-            vx = direction * moveSpeed;
-            x += vx * dtSeconds;
+    @Override
+    public MutableAabb hitboxInto(MutableAabb out) {
+        return out.setRect(getX(), getY(), w, h);
+    }
 
-            if (x < 0) x = 0;
-            if (x > 800 - w) x = 800 - w;
+    @Override
+    public int collisionLayer() { return CollisionLayer.ENEMY; }
 
-            if (sprite != null) {
-                sprite.setAction(AnimatedSprite.Action.run);
-                javafx.application.Platform.runLater(() -> setScaleX(direction));
-            }
-        } else {
-            vx = 0;
-            if (sprite != null) {
-                sprite.setAction(AnimatedSprite.Action.idle);
-            }
+    /** Allocating variant; collision code uses {@link #hitboxInto}. */
+    public Rectangle2D getHitbox() {
+        return new Rectangle2D(getX(), getY(), w, h);
+    }
+
+    /** Opacity mask of the frame being shown, at hitbox size; null when there is no sprite. */
+    public CollisionMask currentMask() {
+        if (sprite == null) return null;
+        Rectangle2D vp = sprite.getFrameViewport();
+        if (vp != maskViewport) {
+            mask = CollisionMask.forFrame(sprite.getSheet(), vp, (int) Math.ceil(w), (int) Math.ceil(h));
+            maskViewport = vp;
         }
+        return mask;
+    }
 
-        if (sprite != null) {
-            sprite.update(dtSeconds * 1000);
+    /**
+     * Narrowphase, after the hitbox test passed: does the world-space box cover a visible
+     * pixel of this enemy? Always true without a sprite (the box is the shape).
+     */
+    public boolean isSolidWithin(double minX, double minY, double maxX, double maxY) {
+        CollisionMask m = currentMask();
+        if (m == null) return true;
+        double ex = getX(), ey = getY();
+        double left = minX - ex, right = maxX - ex;
+        if (getViewScaleX() < 0) {            // node is mirrored about its centre
+            double l = w - right;
+            right = w - left;
+            left = l;
         }
+        return m.anyInRect((int) Math.floor(left), (int) Math.floor(minY - ey),
+                (int) Math.ceil(right), (int) Math.ceil(maxY - ey));
+    }
+
+    /** Id the view binds this enemy's node to. */
+    public int getRenderId() { return renderId; }
 
-        final double finalX = x;
-        final double finalY = y;
-        javafx.application.Platform.runLater(() -> {
-            setTranslateX(finalX);
-            setTranslateY(finalY);
-        });
+    // HP API
+    public int getHp() { return world != null ? world.getInt(entity, Health.TYPE, Health.HP) : hp; }
+
+    public void setHp(int hp) {
+        int v = Math.max(0, hp);
+        if (world != null) world.setInt(entity, Health.TYPE, Health.HP, v);
+        else this.hp = v;
     }
 
-    // Shooting API
-    public Bullet tryShoot(GameCharacter player) {
-        long now = System.currentTimeMillis();
-        if (now - lastShotTime < shootCooldownMs) {
-            return null;
+    public void addHp(int delta) { setHp(getHp() + delta); }
+    public boolean isDead() { return getHp() <= 0; }
+
+    public boolean hit(int dmg) {
+        setHp(getHp() - Math.max(0, dmg));
+        if (isDead()) {
+            setViewOpacity(0.5);
+            if (world != null) {
+                // the dead neither walk, fire nor animate
+                world.remove(entity, Velocity.TYPE);
+                world.remove(entity, Shooter.TYPE);
+                world.remove(entity, Pattern.TYPE);
+                world.remove(entity, AiState.TYPE);
+            }
+            fallbackFill = Color.GRAY;
+        } else {
+            fallbackFill = Color.FIREBRICK;
         }
+        return isDead();
+    }
 
-        double dx = player.getX() - x;
-        double dy = player.getY() - y;
-        double distance = Math.hypot(dx, dy);
+    private void setViewOpacity(double opacity) {
+        if (world != null) world.setDouble(entity, Sprite.TYPE, Sprite.OPACITY, opacity);
+        else viewOpacity = opacity;
+    }
 
-        if (distance > shootRange) {
-            return null;
-        }
+    /**
+     * Bind this enemy to the clock of the stage it joins. Timestamps taken before that
+     * (e.g. a randomized first shot in a constructor) were relative to 0 and are rebased.
+     * Call before the enemy is added (GameStage.addEnemy does).
+     */
+    public void attachClock(GameClock clock) {
+        if (clock == null || this.clock == clock) return;
+        long base = clock.nowMillis(GameClock.Domain.ENEMIES) - nowMs();
+        this.clock = clock;
+        lastShotTime += base;
+        if (holdActionUntilMs != 0) holdActionUntilMs += base;
+    }
 
-        lastShotTime = now;
+    /** Current ENEMIES-domain time in ms; follows slow-mo and pause. */
+    protected long nowMs() {
+        return clock != null ? clock.nowMillis(GameClock.Domain.ENEMIES) : 0L;
+    }
 
-        double bulletX = x + w / 2;
-        double bulletY = y + h / 2;
+    // ---------- Render state (read by the view when it fills a snapshot) ----------
+    /** Decoded sheet; null when the enemy is drawn as a box of {@link #getFallbackFill()}. */
+    public Image getSheet()                { return sprite != null ? sprite.getSheet() : null; }
+    public Rectangle2D getFrameViewport()  { return sprite != null ? sprite.getFrameViewport() : null; }
+    public Color getFallbackFill()         { return fallbackFill; }
+    public double getWidth()               { return w; }
+    public double getHeight()              { return h; }
+    /** Position before the last update (render interpolation). */
+    public double getPrevX() { return world != null ? world.getDouble(entity, Transform.TYPE, Transform.PREV_X) : prevX; }
+    public double getPrevY() { return world != null ? world.getDouble(entity, Transform.TYPE, Transform.PREV_Y) : prevY; }
+    /** Facing applied to the node as scaleX. */
+    public double getViewScaleX() {
+        return world != null ? world.getDouble(entity, Sprite.TYPE, Sprite.SCALE_X) : viewScaleX;
+    }
+    public double getViewOpacity() {
+        return world != null ? world.getDouble(entity, Sprite.TYPE, Sprite.OPACITY) : viewOpacity;
+    }
 
-        return new Bullet(bulletX, bulletY, dx, dy, 300.0, 1, 1.6, true);
+    // Shooting API
+    /** What this enemy fires (GameStage prewarms the bullet pool with it). */
+    public BulletConfig getBulletConfig() {
+        return bulletConfig != null ? bulletConfig : BulletConfig.DEFAULT;
     }
 
+    /** Whether this enemy fires aimed shots (it has a Shooter component). */
+    public boolean canShoot() { return shoots; }
+
+    /** Bullet pattern this enemy runs, or null. */
+    public BulletPattern getPattern() { return pattern; }
+
+    /** Run {@code p} (null: none); set before the enemy is added. */
+    public void setPattern(BulletPattern p) { this.pattern = p; }
+
     // Getters
-    public double getX() { return x; }
-    public double getY() { return y; }
-//    public double getWidth() { return w; }
-//    public double getHeight() { return h; }
-}
\ No newline at end of file
+    public double getX() { return world != null ? world.getDouble(entity, Transform.TYPE, Transform.X) : x; }
+    public double getY() { return world != null ? world.getDouble(entity, Transform.TYPE, Transform.Y) : y; }
+
+    @Override public int getRegistryHandle() { return registryHandle; }
+    @Override public void setRegistryHandle(int handle) { registryHandle = handle; }
+}
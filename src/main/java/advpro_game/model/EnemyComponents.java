@@ -0,0 +1,69 @@
+package advpro_game.model;
+
+import advpro_game.ecs.ComponentType;
+
+/**
+ * Component types of enemy entities and their field numbers (see {@link EnemySystems}).
+ * Which components an enemy has is its behavior: no {@link Velocity}, it never walks; no
+ * {@link Shooter} or {@link Pattern}, it never fires. Dying strips those, plus {@link AiState}.
+ */
+public final class EnemyComponents {
+
+    private EnemyComponents() {}
+
+    /** Position (top-left), position before the last tick (render interpolation), size. */
+    public static final class Transform {
+        public static final ComponentType TYPE = ComponentType.define("Transform", 6, 0, 0, 0);
+        public static final int X = 0, Y = 1, PREV_X = 2, PREV_Y = 3, W = 4, H = 5;
+        private Transform() {}
+    }
+
+    /** Walks towards the player along x. */
+    public static final class Velocity {
+        public static final ComponentType TYPE = ComponentType.define("Velocity", 2, 0, 1, 0);
+        public static final int VX = 0, MOVE_SPEED = 1;   // px/s
+        public static final int DIRECTION = 0;            // int field: -1 / 1
+        private Velocity() {}
+    }
+
+    public static final class Health {
+        public static final ComponentType TYPE = ComponentType.define("Health", 0, 0, 1, 0);
+        public static final int HP = 0;
+        private Health() {}
+    }
+
+    /** Aimed shots at the player, at most one per cooldown, within range. */
+    public static final class Shooter {
+        public static final ComponentType TYPE = ComponentType.define("Shooter", 2, 1, 3, 1);
+        public static final int RANGE = 0, BULLET_SPEED = 1;               // double fields
+        public static final int LAST_SHOT_MS = 0;                           // long field
+        public static final int COOLDOWN_MS = 0, DAMAGE = 1, POSE_MS = 2;   // int fields; POSE_MS 0 = no shoot pose
+        public static final int CONFIG = 0;                                 // ref field: BulletConfig
+        private Shooter() {}
+    }
+
+    /** Bullet pattern volleys (see {@link BulletPattern}); fires besides any aimed Shooter shot. */
+    public static final class Pattern {
+        public static final ComponentType TYPE = ComponentType.define("Pattern", 3, 0, 0, 1);
+        public static final int SPIN_DEG = 0, CLOCK_S = 1, DUE = 2;         // DUE: volleys owed (fraction carried)
+        public static final int PATTERN = 0;                                // ref field: BulletPattern
+        private Pattern() {}
+    }
+
+    /** Node state: facing and opacity, plus the animated sprite (null for the fallback box). */
+    public static final class Sprite {
+        public static final ComponentType TYPE = ComponentType.define("Sprite", 2, 0, 0, 1);
+        public static final int SCALE_X = 0, OPACITY = 1;
+        public static final int ANIMATION = 0;                              // ref field: AnimatedSprite
+        private Sprite() {}
+    }
+
+    /** Pose the animation system shows, and until when a one-shot pose (e.g. shoot) holds. */
+    public static final class AiState {
+        public static final ComponentType TYPE = ComponentType.define("AiState", 0, 1, 1, 0);
+        public static final int HOLD_UNTIL_MS = 0;                          // long field, 0 = none
+        public static final int POSE = 0;                                   // int field
+        public static final int POSE_IDLE = 0, POSE_RUN = 1;
+        private AiState() {}
+    }
+}
@@ -0,0 +1,60 @@
+package advpro_game.model;
+
+/**
+ * Recycles enemies per {@link EnemySpec} (class, sprite sheet, frame layout, size), so a
+ * wave spawn neither decodes a sheet nor builds an enemy.
+ * - {@link #acquire} hands out an idle enemy of the same archetype, reset to its spawn
+ *   state at the given position (or builds one on a miss); {@link #release} takes it back.
+ *   GameStage releases enemies as its registry commit removes them.
+ * - {@link #prewarm} builds idle enemies ahead of time, up to the roster's count or the
+ *   bucket's high-water mark if a wave ever needed more; StageManager does it for the next
+ *   stage's roster during the stage-clear pause.
+ * - A reused enemy keeps its render id and sprite; its sheet is shared through
+ *   {@link SpriteSheets} either way.
+ * - Enemies built with {@code new Minion(...)} etc. are not pooled and are simply dropped.
+ * Buckets and counters live in a {@link KeyedPool}. One per stage; calls are serialized, but
+ * in practice they all come from the simulation thread.
+ */
+public final class EnemyPool {
+
+    private final KeyedPool<EnemySpec, Enemy> pool = new KeyedPool<>(spec -> {
+        Enemy e = spec.newEnemy(0, 0);
+        e.setPoolKey(spec);
+        return e;
+    }, Enemy::getPoolKey, Enemy::isIdleInPool, Enemy::onRelease);
+
+    /** An enemy of {@code spec} at (x, y), in its spawn state. */
+    public synchronized Enemy acquire(EnemySpec spec, double x, double y) {
+        Enemy e = pool.take(spec);
+        e.onAcquire(x, y);
+        return e;
+    }
+
+    /** Return an enemy that left the world; ignored for unpooled or already released enemies. */
+    public synchronized void release(Enemy e) { pool.release(e); }
+
+    /** Make sure {@code spec} has at least max(count, its high-water mark) idle enemies. */
+    public synchronized void prewarm(EnemySpec spec, int count) { pool.prewarm(spec, count); }
+
+    // ===================== Stats =====================
+
+    public synchronized int idleCount(EnemySpec spec) { return pool.idleCount(spec); }
+
+    /** Enemies of {@code spec} currently handed out. */
+    public synchronized int outstanding(EnemySpec spec) { return pool.outstanding(spec); }
+
+    /** Most enemies of {@code spec} ever out at once. */
+    public synchronized int highWaterMark(EnemySpec spec) { return pool.highWaterMark(spec); }
+
+    /** Enemies built so far (misses + prewarming). */
+    public synchronized long getCreated() { return pool.getCreated(); }
+
+    /** Acquisitions served from idle enemies. */
+    public synchronized long getReused() { return pool.getReused(); }
+
+    @Override
+    public synchronized String toString() {
+        return "EnemyPool[created=" + pool.getCreated() + ", reused=" + pool.getReused()
+                + ", buckets=" + pool.bucketCount() + "]";
+    }
+}
@@ -0,0 +1,55 @@
+package advpro_game.model;
+
+/**
+ * Archetype of a spawned enemy: what it is, its sprite sheet and frame layout, size, and
+ * what it fires (aimed shot and bullet pattern). Equal specs build interchangeable enemies, so {@link EnemyPool} keys its
+ * buckets on it; the stage rosters keep one constant per archetype.
+ * @param variant  elite: move speed; boss: boss type; unused for minions
+ * @param bullet   what it fires, null = the class default
+ * @param pattern  bullet pattern it runs, null = none
+ */
+public record EnemySpec(Kind kind, double width, double height, String spritePath,
+                        int frameCount, int columns, int rows, int frameWidth, int frameHeight,
+                        double variant, BulletConfig bullet, BulletPattern pattern) {
+
+    public enum Kind { MINION, ELITE, BOSS }
+
+    public static EnemySpec minion(double w, double h, String spritePath,
+                                   int frameCount, int columns, int rows, int frameWidth, int frameHeight) {
+        return new EnemySpec(Kind.MINION, w, h, spritePath, frameCount, columns, rows, frameWidth, frameHeight, 0, null, null);
+    }
+
+    public static EnemySpec elite(double w, double h, String spritePath,
+                                  int frameCount, int columns, int rows, int frameWidth, int frameHeight,
+                                  double moveSpeed) {
+        return new EnemySpec(Kind.ELITE, w, h, spritePath, frameCount, columns, rows, frameWidth, frameHeight, moveSpeed, null, null);
+    }
+
+    public static EnemySpec boss(double w, double h, String spritePath,
+                                 int frameCount, int columns, int rows, int frameWidth, int frameHeight,
+                                 int bossType) {
+        return new EnemySpec(Kind.BOSS, w, h, spritePath, frameCount, columns, rows, frameWidth, frameHeight, bossType, null, null);
+    }
+
+    /** Same archetype, firing {@code config}. */
+    public EnemySpec withBullet(BulletConfig config) {
+        return new EnemySpec(kind, width, height, spritePath, frameCount, columns, rows, frameWidth, frameHeight, variant, config, pattern);
+    }
+
+    /** Same archetype, running {@code p}. */
+    public EnemySpec withPattern(BulletPattern p) {
+        return new EnemySpec(kind, width, height, spritePath, frameCount, columns, rows, frameWidth, frameHeight, variant, bullet, p);
+    }
+
+    /** A fresh enemy of this archetype at (x, y); only the pool calls this on a miss. */
+    Enemy newEnemy(double x, double y) {
+        Enemy e = switch (kind) {
+            case MINION -> new Minion(x, y, width, height, spritePath, frameCount, columns, rows, frameWidth, frameHeight);
+            case ELITE  -> new EliteMinion(x, y, width, height, spritePath, frameCount, columns, rows, frameWidth, frameHeight, variant);
+            case BOSS   -> new Boss(x, y, width, height, spritePath, frameCount, columns, rows, frameWidth, frameHeight, (int) variant);
+        };
+        if (bullet != null) e.bulletConfig = bullet;
+        e.pattern = pattern;
+        return e;
+    }
+}
@@ -0,0 +1,284 @@
+package advpro_game.model;
+
+import advpro_game.ecs.Archetype;
+import advpro_game.ecs.EcsSystem;
+import advpro_game.ecs.EcsWorld;
+import advpro_game.ecs.Query;
+import advpro_game.ecs.SystemSchedule;
+import advpro_game.model.EnemyComponents.AiState;
+import advpro_game.model.EnemyComponents.Pattern;
+import advpro_game.model.EnemyComponents.Shooter;
+import advpro_game.model.EnemyComponents.Sprite;
+import advpro_game.model.EnemyComponents.Transform;
+import advpro_game.model.EnemyComponents.Velocity;
+
+import java.util.function.Consumer;
+
+/**
+ * Enemy simulation as ECS systems over {@link EnemyComponents}, run once per tick in order:
+ * history (previous positions), chase, animate, shoot, pattern. Each walks the archetype tables its
+ * query matches, column by column; profiling per system is in {@link #schedule()}.
+ * An {@link Enemy} joins the world when the stage's registry commits it (this class is
+ * the registry's column hook) and leaves it the same way; until then, and afterwards, the
+ * Enemy object holds its own state.
+ */
+public final class EnemySystems implements EntityRegistry.Columns<Enemy> {
+
+    private static final double CHASE_DEADZONE_PX = 50.0;   // stop walking this close to the player
+    private static final double ARENA_WIDTH = 800.0;
+    private static final int MAX_VOLLEYS_PER_TICK = 4;      // after a long stall, don't dump the backlog
+
+    private final EcsWorld world = new EcsWorld();
+    private final SystemSchedule schedule = new SystemSchedule();
+
+    private final Query positioned = world.query(Transform.TYPE);
+    private final Query chasers    = world.query(Transform.TYPE, Velocity.TYPE, AiState.TYPE);
+    private final Query animated   = world.query(Sprite.TYPE, AiState.TYPE);
+    private final Query shooters   = world.query(Transform.TYPE, Shooter.TYPE);
+    private final Query emitters   = world.query(Transform.TYPE, Pattern.TYPE);
+
+    // Per-run context
+    private GameCharacter target;
+    private long nowMs;
+    private boolean firing;
+    private Consumer<? super Bullet> bulletSink;
+
+    public EnemySystems() {
+        schedule.add(new History(), positioned)
+                .add(new Chase(), chasers)
+                .add(new Animate(), animated)
+                .add(new Shoot(), shooters)
+                .add(new Emit(), emitters);
+    }
+
+    /**
+     * One tick for every enemy in the world.
+     * @param target     player the enemies walk to and aim at (null: nobody moves or fires)
+     * @param nowMs      ENEMIES-domain clock time
+     * @param firing     whether shooters may fire this tick
+     * @param bulletSink receives every bullet fired
+     */
+    public void run(double dtSeconds, GameCharacter target, long nowMs, boolean firing,
+                    Consumer<? super Bullet> bulletSink) {
+        this.target = target;
+        this.nowMs = nowMs;
+        this.firing = firing;
+        this.bulletSink = bulletSink;
+        try {
+            schedule.run(world, dtSeconds);
+        } finally {
+            this.target = null;
+            this.bulletSink = null;
+        }
+    }
+
+    public EcsWorld world()           { return world; }
+    public SystemSchedule schedule()  { return schedule; }
+
+    // ===================== Registry columns =====================
+
+    @Override
+    public void inserted(Enemy e, int index) { e.spawn(world); }
+
+    @Override
+    public void erased(Enemy e, int index, int last) { e.despawn(world); }
+
+    // ===================== Systems =====================
+
+    /** Previous position = current, for every enemy (dead ones too: they still render). */
+    private final class History implements EcsSystem {
+        @Override public String name() { return "history"; }
+
+        @Override
+        public void run(EcsWorld w, double dt) {
+            for (Archetype a : positioned.tables()) {
+                int n = a.size();
+                System.arraycopy(a.doubles(Transform.TYPE, Transform.X), 0, a.doubles(Transform.TYPE, Transform.PREV_X), 0, n);
+                System.arraycopy(a.doubles(Transform.TYPE, Transform.Y), 0, a.doubles(Transform.TYPE, Transform.PREV_Y), 0, n);
+            }
+        }
+    }
+
+    /** Walk towards the player's centre until within the dead zone; stay inside the arena. */
+    private final class Chase implements EcsSystem {
+        @Override public String name() { return "chase"; }
+
+        @Override
+        public void run(EcsWorld w, double dt) {
+            if (target == null) return;
+            double targetX = target.getX() + target.getCharacterWidth() / 2.0;
+            for (Archetype a : chasers.tables()) {
+                double[] x = a.doubles(Transform.TYPE, Transform.X);
+                double[] width = a.doubles(Transform.TYPE, Transform.W);
+                double[] vx = a.doubles(Velocity.TYPE, Velocity.VX);
+                double[] speed = a.doubles(Velocity.TYPE, Velocity.MOVE_SPEED);
+                int[] dir = a.ints(Velocity.TYPE, Velocity.DIRECTION);
+                int[] pose = a.ints(AiState.TYPE, AiState.POSE);
+                double[] scaleX = a.has(Sprite.TYPE) ? a.doubles(Sprite.TYPE, Sprite.SCALE_X) : null;
+
+                for (int r = 0, n = a.size(); r < n; r++) {
+                    double dx = targetX - (x[r] + width[r] / 2.0);
+                    if (Math.abs(dx) > CHASE_DEADZONE_PX && speed[r] > 0) {
+                        int d = dx > 0 ? 1 : -1;
+                        dir[r] = d;
+                        vx[r] = d * speed[r];
+                        x[r] += vx[r] * dt;
+                        if (x[r] < 0) x[r] = 0;
+                        if (x[r] > ARENA_WIDTH - width[r]) x[r] = ARENA_WIDTH - width[r];
+                        pose[r] = AiState.POSE_RUN;
+                        if (scaleX != null) scaleX[r] = d;
+                    } else {
+                        vx[r] = 0;
+                        pose[r] = AiState.POSE_IDLE;
+                    }
+                }
+            }
+        }
+    }
+
+    /** Show the current pose unless a one-shot pose still holds, then advance the sprite. */
+    private final class Animate implements EcsSystem {
+        @Override public String name() { return "animate"; }
+
+        @Override
+        public void run(EcsWorld w, double dt) {
+            double dtMs = dt * 1000.0;
+            for (Archetype a : animated.tables()) {
+                Object[] sprites = a.refs(Sprite.TYPE, Sprite.ANIMATION);
+                int[] pose = a.ints(AiState.TYPE, AiState.POSE);
+                long[] holdUntil = a.longs(AiState.TYPE, AiState.HOLD_UNTIL_MS);
+
+                for (int r = 0, n = a.size(); r < n; r++) {
+                    AnimatedSprite s = (AnimatedSprite) sprites[r];
+                    if (s == null) continue;
+                    boolean holding = holdUntil[r] != 0 && nowMs < holdUntil[r];
+                    if (!holding) {
+                        s.setAction(pose[r] == AiState.POSE_RUN ? AnimatedSprite.Action.run : AnimatedSprite.Action.idle);
+                    }
+                    try { s.update(dtMs); } catch (Throwable ignored) {}
+                }
+            }
+        }
+    }
+
+    /** Aimed shot from the body centre when the cooldown is over and the player is in range. */
+    private final class Shoot implements EcsSystem {
+        @Override public String name() { return "shoot"; }
+
+        @Override
+        public void run(EcsWorld w, double dt) {
+            if (!firing || target == null || bulletSink == null) return;
+            double px = target.getX(), py = target.getY();
+            for (Archetype a : shooters.tables()) {
+                double[] x = a.doubles(Transform.TYPE, Transform.X);
+                double[] y = a.doubles(Transform.TYPE, Transform.Y);
+                double[] width = a.doubles(Transform.TYPE, Transform.W);
+                double[] height = a.doubles(Transform.TYPE, Transform.H);
+                double[] range = a.doubles(Shooter.TYPE, Shooter.RANGE);
+                double[] speed = a.doubles(Shooter.TYPE, Shooter.BULLET_SPEED);
+                long[] lastShot = a.longs(Shooter.TYPE, Shooter.LAST_SHOT_MS);
+                int[] cooldown = a.ints(Shooter.TYPE, Shooter.COOLDOWN_MS);
+                int[] damage = a.ints(Shooter.TYPE, Shooter.DAMAGE);
+                int[] poseMs = a.ints(Shooter.TYPE, Shooter.POSE_MS);
+                Object[] configs = a.refs(Shooter.TYPE, Shooter.CONFIG);
+                boolean posing = a.has(Sprite.TYPE) && a.has(AiState.TYPE);
+
+                for (int r = 0, n = a.size(); r < n; r++) {
+                    if (nowMs - lastShot[r] < cooldown[r]) continue;
+                    double dx = px - x[r], dy = py - y[r];
+                    if (Math.hypot(dx, dy) > range[r]) continue;
+                    lastShot[r] = nowMs;
+
+                    if (posing && poseMs[r] > 0) {
+                        AnimatedSprite s = (AnimatedSprite) a.refs(Sprite.TYPE, Sprite.ANIMATION)[r];
+                        if (s != null) {
+                            s.setAction(AnimatedSprite.Action.shoot);
+                            a.longs(AiState.TYPE, AiState.HOLD_UNTIL_MS)[r] = nowMs + poseMs[r];
+                        }
+                    }
+                    BulletConfig config = (BulletConfig) configs[r];
+                    try {
+                        bulletSink.accept(config.createBullet(x[r] + width[r] / 2, y[r] + height[r] / 2,
+                                dx, dy, speed[r], damage[r], true));
+                    } catch (Throwable ignored) {}
+                }
+            }
+        }
+    }
+
+    /**
+     * Bullet patterns: volleys owed since the last tick, each one computed as a batch of
+     * directions and drawn from the bullet pool in one call. Spin and wave phase advance with
+     * the enemies' clock, so slow-mo slows the pattern too.
+     */
+    private final class Emit implements EcsSystem {
+        private double[] dirX = new double[16], dirY = new double[16];
+        private Bullet[] volley = new Bullet[16];
+
+        @Override public String name() { return "pattern"; }
+
+        @Override
+        public void run(EcsWorld w, double dt) {
+            if (!firing || bulletSink == null) return;
+            double px = 0, py = 0;
+            if (target != null) {
+                px = target.getX() + target.getCharacterWidth() / 2.0;
+                py = target.getY() + target.getCharacterHeight() / 2.0;
+            }
+            BulletPool pool = BulletPool.shared();
+            for (Archetype a : emitters.tables()) {
+                double[] x = a.doubles(Transform.TYPE, Transform.X);
+                double[] y = a.doubles(Transform.TYPE, Transform.Y);
+                double[] width = a.doubles(Transform.TYPE, Transform.W);
+                double[] height = a.doubles(Transform.TYPE, Transform.H);
+                double[] spin = a.doubles(Pattern.TYPE, Pattern.SPIN_DEG);
+                double[] clock = a.doubles(Pattern.TYPE, Pattern.CLOCK_S);
+                double[] due = a.doubles(Pattern.TYPE, Pattern.DUE);
+                Object[] patterns = a.refs(Pattern.TYPE, Pattern.PATTERN);
+
+                for (int r = 0, n = a.size(); r < n; r++) {
+                    BulletPattern p = (BulletPattern) patterns[r];
+                    clock[r] += dt;
+                    spin[r] = (spin[r] + p.spinDegPerSec() * dt) % 360.0;
+                    due[r] += dt * p.volleysPerSecond();
+                    int volleys = (int) due[r];
+                    if (volleys == 0) continue;
+                    due[r] -= volleys;
+                    if (p.aimed() && target == null) continue;
+                    volleys = Math.min(volleys, MAX_VOLLEYS_PER_TICK);
+
+                    int count = p.count();
+                    if (dirX.length < count) {
+                        dirX = new double[count];
+                        dirY = new double[count];
+                        volley = new Bullet[count];
+                    }
+                    double cx = x[r] + width[r] / 2, cy = y[r] + height[r] / 2;
+                    double aim = Math.toDegrees(Math.atan2(py - cy, px - cx));
+                    double volleyDt = 1.0 / p.volleysPerSecond();
+                    BulletConfig config = p.config();
+                    for (int v = volleys - 1; v >= 0; v--) {   // oldest owed volley first
+                        p.directions(aim, spin[r] - p.spinDegPerSec() * volleyDt * v,
+                                clock[r] - volleyDt * v, dirX, dirY);
+                        pool.acquireAll(config, cx, cy, dirX, dirY, count, p.speed(), p.damage(), true, volley);
+                        int handed = 0;
+                        try {
+                            for (; handed < count; handed++) {
+                                if (p.timeToLive() > 0) volley[handed].setTimeToLive(p.timeToLive());
+                                bulletSink.accept(volley[handed]);
+                                volley[handed] = null;
+                            }
+                        } finally {
+                            // The sink threw: give back what never reached the world, then let
+                            // the tick report it
+                            for (int i = handed; i < count; i++) {
+                                pool.release(volley[i]);
+                                volley[i] = null;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package advpro_game.model;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Dense entity storage with generation-stamped integer handles.
+ * - Live entities sit in a packed array (index 0..size-1) for cache-friendly iteration.
+ * - A handle is {@code generation << 16 | slot}; removing an entity bumps the slot's
+ *   generation, so stale handles never resolve to a recycled slot.
+ * - add/remove/clear may be called from any thread at any time; they are queued in order
+ *   and applied by {@link #commit()} at the end of the simulation tick. Iterating while
+ *   queueing changes is therefore safe and needs no defensive copy.
+ * - Iteration and {@link #get(int)} belong to the simulation thread.
+ */
+public final class EntityRegistry<T extends EntityRegistry.Member> implements Iterable<T> {
+
+    /** Entities stored in a registry carry their own handle for O(1) removal. */
+    public interface Member {
+        int getRegistryHandle();
+        void setRegistryHandle(int handle);
+    }
+
+    /**
+     * Storage kept parallel to the dense array (e.g. struct-of-arrays columns), told about
+     * every structural change as {@link #commit()} applies it.
+     */
+    public interface Columns<T> {
+        /** {@code item} was appended at dense index {@code index}. */
+        void inserted(T item, int index);
+        /** {@code item} leaves {@code index}; the entry at {@code last} moves into it (swap-remove). */
+        void erased(T item, int index, int last);
+    }
+
+    public static final int NONE    = -1;  // not registered
+    public static final int PENDING = -2;  // add queued, not committed yet
+
+    private static final int INDEX_BITS = 16;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final int GEN_MASK   = 0x7FFF;                 // keeps handles non-negative
+    private static final int MAX_SLOTS  = INDEX_MASK;
+
+    private static final byte OP_ADD = 0, OP_REMOVE = 1, OP_CLEAR = 2;
+
+    // ---------- Dense storage (simulation thread) ----------
+    private Object[] dense;
+    private int[] denseSlot;
+    private volatile int size = 0;
+
+    // ---------- Slots ----------
+    private int[] slotDense;       // dense index, -1 when free
+    private int[] slotGen;
+    private boolean[] slotDoomed;  // removal queued
+    private int[] freeSlots;
+    private int freeCount = 0;
+    private int slotCount = 0;
+
+    // ---------- Pending structural changes (any thread, guarded by lock) ----------
+    private final Object lock = new Object();
+    private Object[] pendingItems = new Object[32];
+    private byte[] pendingOps = new byte[32];
+    private int pendingCount = 0;
+    private int expectedSize = 0;
+    private boolean clearQueued = false;  // committed entities are all on their way out
+
+    // Told about every entity that leaves (during commit), e.g. to recycle it
+    private Consumer<? super T> onRemoved;
+    private Columns<? super T> columns;
+
+    public EntityRegistry() { this(64); }
+
+    public EntityRegistry(int initialCapacity) {
+        int cap = Math.max(8, initialCapacity);
+        dense = new Object[cap];
+        denseSlot = new int[cap];
+        slotDense = new int[cap];
+        slotGen = new int[cap];
+        slotDoomed = new boolean[cap];
+        freeSlots = new int[cap];
+    }
+
+    /**
+     * Called once for each committed entity as {@link #commit()} removes it, after its handle
+     * is reset, so the entity may be re-added (pooling). Runs on the committing thread.
+     */
+    public void setRemovalListener(Consumer<? super T> listener) { this.onRemoved = listener; }
+
+    /** Parallel storage to keep in step with the dense array; set before the first commit. */
+    public void setColumns(Columns<? super T> columns) { this.columns = columns; }
+
+    // ===================== Queued changes =====================
+
+    /** Queue {@code item} for insertion; ignored when it is already registered or queued. */
+    public boolean add(T item) {
+        if (item == null) return false;
+        synchronized (lock) {
+            if (item.getRegistryHandle() != NONE) return false;
+            item.setRegistryHandle(PENDING);
+            enqueue(OP_ADD, item);
+            expectedSize++;
+            return true;
+        }
+    }
+
+    /** Queue {@code item} for removal; a not-yet-committed add is simply cancelled. */
+    public boolean remove(T item) {
+        if (item == null) return false;
+        synchronized (lock) {
+            int h = item.getRegistryHandle();
+            if (h == PENDING) {
+                item.setRegistryHandle(NONE); // the queued ADD now skips it
+                expectedSize--;
+                return true;
+            }
+            int slot = resolve(h);
+            if (slot < 0 || slotDoomed[slot] || clearQueued) return false;
+            slotDoomed[slot] = true;
+            enqueue(OP_REMOVE, item);
+            expectedSize--;
+            return true;
+        }
+    }
+
+    /** Queue removal of everything currently registered or queued. */
+    public void clear() {
+        synchronized (lock) {
+            for (int i = 0; i < pendingCount; i++) {
+                if (pendingOps[i] == OP_ADD) {
+                    Member m = (Member) pendingItems[i];
+                    if (m.getRegistryHandle() == PENDING) m.setRegistryHandle(NONE);
+                }
+            }
+            enqueue(OP_CLEAR, null);
+            clearQueued = true;
+            expectedSize = 0;
+        }
+    }
+
+    /**
+     * Apply queued changes in the order they were made (simulation thread, end of tick).
+     * @return true when anything was queued, i.e. dense indices may have changed
+     */
+    public boolean commit() {
+        synchronized (lock) {
+            boolean changed = pendingCount > 0;
+            for (int i = 0; i < pendingCount; i++) {
+                Object o = pendingItems[i];
+                pendingItems[i] = null;
+                switch (pendingOps[i]) {
+                    case OP_ADD -> {
+                        @SuppressWarnings("unchecked") T item = (T) o;
+                        if (item.getRegistryHandle() == PENDING) insert(item);
+                    }
+                    case OP_REMOVE -> {
+                        @SuppressWarnings("unchecked") T item = (T) o;
+                        int slot = resolve(item.getRegistryHandle());
+                        if (slot >= 0) erase(slot);
+                    }
+                    case OP_CLEAR -> {
+                        while (size > 0) erase(denseSlot[size - 1]);
+                    }
+                    default -> { }
+                }
+            }
+            pendingCount = 0;
+            clearQueued = false;
+            expectedSize = size;
+            return changed;
+        }
+    }
+
+    // ===================== Queries =====================
+
+    /** Committed entity count (what iteration sees this tick). */
+    public int size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    /** Count once queued changes are committed; safe to read from any thread. */
+    public int expectedSize() {
+        synchronized (lock) { return expectedSize; }
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int denseIndex) { return (T) dense[denseIndex]; }
+
+    /** Live entity for {@code handle}, or null when it was removed (or never existed). */
+    @SuppressWarnings("unchecked")
+    public T resolveHandle(int handle) {
+        int slot = resolve(handle);
+        return slot < 0 ? null : (T) dense[slotDense[slot]];
+    }
+
+    /** Dense index of a committed {@code item} (this tick's iteration order), or -1. */
+    public int indexOf(T item) {
+        if (item == null) return -1;
+        int slot = resolve(item.getRegistryHandle());
+        return slot < 0 ? -1 : slotDense[slot];
+    }
+
+    /** True while committed and not queued for removal. */
+    public boolean contains(T item) {
+        if (item == null) return false;
+        int slot = resolve(item.getRegistryHandle());
+        return slot >= 0 && !slotDoomed[slot];
+    }
+
+    /** True when a committed entity (not queued for removal) or a queued addition matches {@code test}. */
+    public boolean anyExpected(Predicate<? super T> test) {
+        synchronized (lock) {
+            for (int i = 0; i < size && !clearQueued; i++) {
+                @SuppressWarnings("unchecked") T item = (T) dense[i];
+                if (!slotDoomed[denseSlot[i]] && test.test(item)) return true;
+            }
+            for (int i = 0; i < pendingCount; i++) {
+                if (pendingOps[i] != OP_ADD) continue;
+                @SuppressWarnings("unchecked") T item = (T) pendingItems[i];
+                if (item.getRegistryHandle() == PENDING && test.test(item)) return true;
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int i = 0;
+            @Override public boolean hasNext() { return i < size; }
+            @Override public T next() {
+                if (i >= size) throw new NoSuchElementException();
+                return get(i++);
+            }
+        };
+    }
+
+    // ===================== Internals =====================
+
+    private int resolve(int handle) {
+        if (handle < 0) return -1;
+        int slot = handle & INDEX_MASK;
+        if (slot >= slotCount || slotDense[slot] < 0) return -1;
+        return (slotGen[slot] == (handle >>> INDEX_BITS)) ? slot : -1;
+    }
+
+    private void insert(T item) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount >= MAX_SLOTS) throw new IllegalStateException("EntityRegistry full (" + MAX_SLOTS + ")");
+            if (slotCount == slotDense.length) growSlots();
+            slot = slotCount++;
+        }
+        if (size == dense.length) {
+            dense = Arrays.copyOf(dense, size * 2);
+            denseSlot = Arrays.copyOf(denseSlot, size * 2);
+        }
+        int d = size;
+        dense[d] = item;
+        denseSlot[d] = slot;
+        slotDense[slot] = d;
+        slotDoomed[slot] = false;
+        size = d + 1;
+        item.setRegistryHandle((slotGen[slot] << INDEX_BITS) | slot);
+        if (columns != null) columns.inserted(item, d);
+    }
+
+    /** Swap-remove: the last dense entry fills the hole. */
+    private void erase(int slot) {
+        int d = slotDense[slot];
+        int last = size - 1;
+        @SuppressWarnings("unchecked") T item = (T) dense[d];
+        if (columns != null) columns.erased(item, d, last);
+
+        if (d != last) {
+            dense[d] = dense[last];
+            denseSlot[d] = denseSlot[last];
+            slotDense[denseSlot[d]] = d;
+        }
+        dense[last] = null;
+        size = last;
+
+        slotDense[slot] = -1;
+        slotDoomed[slot] = false;
+        slotGen[slot] = (slotGen[slot] + 1) & GEN_MASK;
+        if (freeCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        freeSlots[freeCount++] = slot;
+
+        item.setRegistryHandle(NONE);
+        if (onRemoved != null) onRemoved.accept(item);
+    }
+
+    private void growSlots() {
+        int cap = Math.min(MAX_SLOTS, slotDense.length * 2);
+        slotDense = Arrays.copyOf(slotDense, cap);
+        slotGen = Arrays.copyOf(slotGen, cap);
+        slotDoomed = Arrays.copyOf(slotDoomed, cap);
+    }
+
+    private void enqueue(byte op, Object item) {
+        if (pendingCount == pendingOps.length) {
+            pendingOps = Arrays.copyOf(pendingOps, pendingCount * 2);
+            pendingItems = Arrays.copyOf(pendingItems, pendingCount * 2);
+        }
+        pendingOps[pendingCount] = op;
+        pendingItems[pendingCount++] = item;
+    }
+}
@@ -1,30 +1,26 @@
 package advpro_game.model;
 
-import javafx.animation.Animation;
-import javafx.animation.PauseTransition;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.MouseButton;
-import javafx.scene.layout.Pane;
-import javafx.util.Duration;
 import java.util.function.Consumer;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import java.util.logging.Level;
 
 import advpro_game.Launcher;
-import advpro_game.view.GameStage;
+import advpro_game.util.GameClock;
 import advpro_game.audio.AudioManager;
 
-public class GameCharacter extends Pane {
+public class GameCharacter implements Collider {
 
     private static final Logger LOG = LogManager.getLogger(GameCharacter.class);
 
 
     private Image characterImg;
     private AnimatedSprite imageView;
+    private final int renderId = RenderId.next();
 
     // Bullet sink (GameStage wires this to add bullets safely on FX thread)
     private Consumer<Bullet> bulletSink;
@@ -32,41 +28,60 @@ public class GameCharacter extends Pane {
 
     // -------- Logical state (source of truth) --------
     private int x, y, startX, startY;
+    private volatile int facing = 1;   // +1 right, -1 left; the render commit applies it as scaleX
     private final int characterWidth, characterHeight;
     private int score = 0;
     private int lives = 50;
+    private volatile boolean disabled = false;
     private final KeyCode leftKey, rightKey, upKey, downKey;
 
-    // Per-frame discrete kinematics
+    // Per-frame discrete kinematics (velocities are pixels per 60 Hz base frame)
     private int xVelocity = 0, yVelocity = 0;
     private int xAcceleration = 1, yAcceleration = 1;
     private int xMaxVelocity = 3, yMaxVelocity = 21;
 
+    // repaint(dtMs) scales the base-frame kinematics by dt so speed and jump height
+    // do not depend on the simulation rate; sub-pixel motion is carried between calls.
+    public static final double BASE_FRAME_MS = 1000.0 / 60.0;
+    private double frameCarry = 0.0;          // progress into the current base frame (0..1)
+    private double subPixelX = 0.0, subPixelY = 0.0;
+
     private boolean isMoveLeft = false, isMoveRight = false;
     private boolean isFalling = true;
     private boolean canJump = false, isJumping = false;
     private boolean isProne = false;
 
+    // Clock time starts at 0, so "never happened" must sit far in the past
+    private static final long NEVER = Long.MIN_VALUE / 2;
+
     // Double-tap down drop-through
     private int dropTapWindowMs = 250;
     private int dropIgnoreMs    = 260;
     private long ignorePlatformsUntilMs = 0L;
-    private long lastDownTapMs = 0L;
+    private long lastDownTapMs = NEVER;
     private boolean wasDownPressed = false;
 
     // Shooting & pose
-    private long lastShotMs = 0L;
+    private long lastShotMs = NEVER;
     private int shotCooldownMs = 120;
-    private long lastLaserMs = 0L;
+    private long lastLaserMs = NEVER;
     private int laserCooldownMs = 1200;
     private int laserDamage = 4;
     private int shootPoseHoldMs = 260;
-    private PauseTransition shootRestorePT; // stand/run/jump shoot pose hold
-    private PauseTransition runShootHoldPT; // hold for run+shoot strip
+    private long shootPoseUntilMs = 0L;    // stand/run/jump shoot pose hold
+    private long runShootUntilMs  = 0L;    // hold for run+shoot strip
+    private boolean poseRestorePending = false;
 
-    // Recoil
+    // Recoil (pushed back on the shot, returned once the deadline passes)
     private int recoilMinPx = 1, recoilMaxPx = 3;
     private int recoilReturnMs = 70;
+    private int recoilPendingPx = 0;
+    private long recoilReturnAtMs = 0L;
+
+    // Timing: PLAYER-domain time of the stage's clock (0 until attached)
+    private GameClock clock;
+    public void attachClock(GameClock clock) { this.clock = clock; }
+    private long nowMs() { return clock != null ? clock.nowMillis(GameClock.Domain.PLAYER) : 0L; }
 
     // ---------- Collider: standing vs prone (bottom-aligned) ----------
     private static final int STAND_COL_W     = 25;
@@ -89,7 +104,7 @@ public class GameCharacter extends Pane {
     // X offset depends on facing AND collider width
     private int colOffX() {
         int w = currentColW();
-        return (getScaleX() > 0 ? 43 : 65 + 8 - w);
+        return (facing > 0 ? 43 : 65 + 8 - w);
     }
 
     private int colliderBottomY() { return y + currentColOffY() + currentColH(); }
@@ -128,11 +143,6 @@ public class GameCharacter extends Pane {
     public void setLaserDamage(int damage) { laserDamage = Math.max(1, damage); }
     public int getLaserDamage() { return laserDamage; }
 
-    private static void runFx(Runnable r) {
-        if (javafx.application.Platform.isFxApplicationThread()) r.run();
-        else javafx.application.Platform.runLater(r);
-    }
-
     private void logAction(String action) {
         LOG.info(() -> String.format("Action[%s]: position=(%d,%d) velocity=(%d,%d) score=%d",
                 action, x, y, xVelocity, yVelocity, score));
@@ -158,12 +168,9 @@ public class GameCharacter extends Pane {
         this.characterImg = new Image(Launcher.class.getResourceAsStream(imgName));
         this.imageView = new AnimatedSprite(characterImg, count, column, row, 0, 0, width, height);
 
-        runFx(() -> {
-            imageView.setFitWidth((int) (width * 1.8));
-            imageView.setFitHeight((int) (height * 1.8));
-            getChildren().add(imageView);
-            setScaleX(id % 2 * 2 - 1);
-        });
+        this.facing = id % 2 * 2 - 1;
+        imageView.setFitWidth((int) (width * 1.8));
+        imageView.setFitHeight((int) (height * 1.8));
 
         int frameW = width, frameH = height;
         imageView.define(AnimatedSprite.Action.run,        new AnimatedSprite.ActionSpec(0,  0,  6, SPRITE_SHEET_COLS, frameW, frameH, 80));
@@ -180,16 +187,12 @@ public class GameCharacter extends Pane {
         imageView.define(AnimatedSprite.Action.runShootDown, new AnimatedSprite.ActionSpec(7,  1, 6, SPRITE_SHEET_COLS, frameW, frameH, 100));
         imageView.define(AnimatedSprite.Action.runShootUp,   new AnimatedSprite.ActionSpec(0,  1, 6, SPRITE_SHEET_COLS, frameW, frameH, 100));
 
-        runFx(() -> {
-            imageView.setAction(AnimatedSprite.Action.idle);
-            setTranslateX(this.x);
-            setTranslateY(this.y);
-        });
+        imageView.setAction(AnimatedSprite.Action.idle);
     }
 
     // ---------------- Movement & State ----------------
-    public void moveLeft()  { runFx(() -> setScaleX(-1)); isMoveLeft = true;  isMoveRight = false; isProne = false; logAction("move-left"); setGroundAnim(AnimatedSprite.Action.run); }
-    public void moveRight() { runFx(() -> setScaleX(1));  isMoveLeft = false; isMoveRight = true;  isProne = false; logAction("move-right"); setGroundAnim(AnimatedSprite.Action.run); }
+    public void moveLeft()  { facing = -1; isMoveLeft = true;  isMoveRight = false; isProne = false; logAction("move-left"); setGroundAnim(AnimatedSprite.Action.run); }
+    public void moveRight() { facing = 1;  isMoveLeft = false; isMoveRight = true;  isProne = false; logAction("move-right"); setGroundAnim(AnimatedSprite.Action.run); }
     public void stop()      { isMoveLeft = false; isMoveRight = false; if (!isJumping && !isFalling) { isProne = false; setGroundAnim(AnimatedSprite.Action.idle); } logAction("stop"); }
     public void prone()     { isJumping = false; isMoveRight = false; isMoveLeft = false; isProne = true; logAction("prone"); setGroundAnim(AnimatedSprite.Action.prone); }    private AnimatedSprite.Action currentGroundAction = null;
     private void setGroundAnim(AnimatedSprite.Action a) {
@@ -200,32 +203,66 @@ public class GameCharacter extends Pane {
 
         if (currentGroundAction == a) return;
         currentGroundAction = a;
-        runFx(() -> imageView.setAction(a));
-    }
-
-    private void stepHorizontal() {
-        int beforeX = x;
-        if (isMoveLeft)  { xVelocity = Math.min(xMaxVelocity, xVelocity + xAcceleration); x -= xVelocity; }
-        if (isMoveRight) { xVelocity = Math.min(xMaxVelocity, xVelocity + xAcceleration); x += xVelocity; }
-        if (!isMoveLeft && !isMoveRight) xVelocity = 0;
+        imageView.setAction(a);
+    }
+
+    /**
+     * Integrates both axes over {@code frames} base frames. Velocities still change once per
+     * whole base frame (as the original per-call integration did), but displacement is
+     * applied proportionally, so 60/120/240 Hz ticks trace the same path.
+     */
+    private void integrate(double frames) {
+        int beforeX = x, beforeY = y;
+        double remaining = frames;
+        while (remaining > 1e-9) {
+            if (frameCarry <= 1e-9) {
+                accelerate();
+                frameCarry = 0.0;
+            }
+            double seg = Math.min(remaining, 1.0 - frameCarry);
+            stepHorizontal(seg);
+            stepVertical(seg);
+            frameCarry += seg;
+            if (frameCarry >= 1.0 - 1e-9) frameCarry = 0.0;
+            remaining -= seg;
+        }
         clampToWalls();
         if (x != beforeX) {
             String direction = (x > beforeX) ? "right" : "left";
             logMovement("horizontal-" + direction);
         }
-    }
-    private void stepVertical() {
-        int beforeY = y;
-        if (isFalling)       { yVelocity = Math.min(yMaxVelocity, yVelocity + yAcceleration); y += yVelocity; }
-        else if (isJumping)  { yVelocity = Math.max(0, yVelocity - yAcceleration); y -= yVelocity; }
         if (y != beforeY) {
             String direction = (y > beforeY) ? "down" : "up";
             logMovement("vertical-" + direction);
         }
     }
+
+    private void accelerate() {
+        if (isMoveLeft || isMoveRight) xVelocity = Math.min(xMaxVelocity, xVelocity + xAcceleration);
+        else                           xVelocity = 0;
+        if (isFalling)      yVelocity = Math.min(yMaxVelocity, yVelocity + yAcceleration);
+        else if (isJumping) yVelocity = Math.max(0, yVelocity - yAcceleration);
+    }
+
+    private void stepHorizontal(double seg) {
+        if (isMoveLeft)       subPixelX -= xVelocity * seg;
+        else if (isMoveRight) subPixelX += xVelocity * seg;
+        else                  subPixelX = 0.0;
+        int whole = (int) subPixelX;
+        x += whole;
+        subPixelX -= whole;
+    }
+    private void stepVertical(double seg) {
+        if (isFalling)      subPixelY += yVelocity * seg;
+        else if (isJumping) subPixelY -= yVelocity * seg;
+        else                subPixelY = 0.0;
+        int whole = (int) subPixelY;
+        y += whole;
+        subPixelY -= whole;
+    }
     private void clampToWalls() {
         if (x < 0) x = 0;
-        int maxX = GameStage.WIDTH - characterWidth;
+        int maxX = Arena.WIDTH - characterWidth;
         if (x > maxX) x = maxX;
     }
 
@@ -250,7 +287,7 @@ public class GameCharacter extends Pane {
 
             clampToWalls();
 
-            runFx(() -> imageView.setAction(AnimatedSprite.Action.jump));
+            imageView.setAction(AnimatedSprite.Action.jump);
             currentGroundAction = AnimatedSprite.Action.jump;
         }
     }
@@ -261,14 +298,15 @@ public class GameCharacter extends Pane {
             x += (int) (direction * xVelocity * 1.2);
             clampToWalls();
             logAction("jump-forward" + (direction > 0 ? "-right" : "-left"));
-            runFx(() -> { setScaleX(direction); imageView.setAction(AnimatedSprite.Action.jump); });
+            facing = direction >= 0 ? 1 : -1;
+            imageView.setAction(AnimatedSprite.Action.jump);
             currentGroundAction = AnimatedSprite.Action.jump;
         }
     }
 
     // ---- DOWN double-tap drop-through ----
     public void handleDownKey(boolean downPressed) {
-        long now = System.currentTimeMillis();
+        long now = nowMs();
         if (downPressed && !wasDownPressed) {
             if (now - lastDownTapMs <= dropTapWindowMs) {
                 ignorePlatformsUntilMs = now + dropIgnoreMs;
@@ -278,20 +316,30 @@ public class GameCharacter extends Pane {
         }
         wasDownPressed = downPressed;
     }
-    public boolean isIgnoringOneWay() { return System.currentTimeMillis() < ignorePlatformsUntilMs; }
+    public boolean isIgnoringOneWay() { return nowMs() < ignorePlatformsUntilMs; }
 
     public void checkReachHighest() {
         if (isJumping && yVelocity <= 0) { isJumping = false; isFalling = true; yVelocity = 0; }
     }
     public void checkReachFloor() {
-        if (isFalling && colliderBottomY() >= GameStage.GROUND) onLandedAtTop(GameStage.GROUND);
+        if (isFalling && colliderBottomY() >= Arena.GROUND) onLandedAtTop(Arena.GROUND);
     }
 
-    private boolean isInShootPose() {
-        return shootRestorePT != null && shootRestorePT.getStatus() == Animation.Status.RUNNING;
-    }
-    private boolean isRunShootActive() {
-        return runShootHoldPT != null && runShootHoldPT.getStatus() == Animation.Status.RUNNING;
+    private boolean isInShootPose()    { return nowMs() < shootPoseUntilMs; }
+    private boolean isRunShootActive() { return nowMs() < runShootUntilMs; }
+
+    /** Expire shoot-pose holds and recoil once their PLAYER-time deadlines pass. */
+    private void updateTimedPoses() {
+        long now = nowMs();
+        if (recoilPendingPx != 0 && now >= recoilReturnAtMs) {
+            x += recoilPendingPx;
+            recoilPendingPx = 0;
+            clampToWalls();
+        }
+        if (poseRestorePending && now >= shootPoseUntilMs && now >= runShootUntilMs) {
+            poseRestorePending = false;
+            setGroundAnimIfAllowed();
+        }
     }
 
     private void setGroundAnimIfAllowed() {
@@ -308,7 +356,7 @@ public class GameCharacter extends Pane {
     }
     private void onLandedAtTop(int topY) {
         y = spriteYForColliderBottom(topY);
-        yVelocity = 0; isFalling = false; canJump = true;
+        yVelocity = 0; subPixelY = 0.0; isFalling = false; canJump = true;
         setGroundAnimIfAllowed();
     }
 
@@ -320,121 +368,129 @@ public class GameCharacter extends Pane {
         prevColH    = currentColH();
     }
     public void repaint(double dtMs) {
-        stepHorizontal();
-        stepVertical();
-        clampToWalls();
-
-        final int fx = x, fy = y;
-        runFx(() -> {
-            setTranslateX(fx);
-            setTranslateY(fy);
-            imageView.update(dtMs);
-        });
+        updateTimedPoses();
+        integrate(Math.max(0.0, dtMs) / BASE_FRAME_MS);
+        imageView.update(dtMs);
     }
     public void repaint() { repaint(16.7); }
 
+    // ---------------- Render state (read by the view when it fills a snapshot) ----------------
+    public Image getSheet()                { return characterImg; }
+    public Rectangle2D getFrameViewport()  { return imageView.getFrameViewport(); }
+    public double getDisplayWidth()        { return imageView.getFitWidth(); }
+    public double getDisplayHeight()       { return imageView.getFitHeight(); }
+
     // ---------------- Platforms: top-face only ----------------
-    public void checkPlatformCollision(Iterable<Platform> platforms) {
-        boolean stood = false;
+    // Scratch boxes for collision checks (simulation thread only)
+    private final MutableAabb collisionBox = new MutableAabb();
+    private final MutableAabb platformScratch = new MutableAabb();
 
-        Rectangle2D playerNow = this.getHitbox();
+    /** Landing check against the stage's static platform index (what GameLoop uses). */
+    public void checkPlatformCollision(PlatformIndex platforms) {
+        MutableAabb playerNow = hitboxInto(collisionBox);
         final int prevBottom = prevY + prevColOffY + prevColH; // last frame collider
         final int currBottom = colliderBottomY();
-        final boolean movingDown = currBottom > prevBottom;
 
-        for (Platform p : platforms) {
-            if (!movingDown) continue;
-            if (!p.isSolid() && isIgnoringOneWay()) continue;
+        int hit = platforms.findLanding(playerNow.minX, playerNow.maxX, prevBottom, currBottom,
+                isIgnoringOneWay());
+        landOrFall(hit >= 0 ? (int) platforms.get(hit).getTop() : NO_LANDING);
+    }
+
+    /** Linear-scan variant for ad-hoc platform lists; lands on the same platform as the index. */
+    public void checkPlatformCollision(Iterable<Platform> platforms) {
+        MutableAabb playerNow = hitboxInto(collisionBox);
+        final int prevBottom = prevY + prevColOffY + prevColH; // last frame collider
+        final int currBottom = colliderBottomY();
+        final boolean movingDown = currBottom > prevBottom;
+        final boolean skipOneWay = isIgnoringOneWay();
 
-            Rectangle2D platformBox = p.getHitbox();
-            boolean horizontal = playerNow.getMaxX() > platformBox.getMinX() &&
-                    playerNow.getMinX() < platformBox.getMaxX();
-            if (!horizontal) continue;
+        int best = NO_LANDING;
+        if (movingDown) {
+            for (Platform p : platforms) {
+                if (!p.isSolid() && skipOneWay) continue;
 
-            int top = (int) platformBox.getMinY();
-            boolean wasAbove = prevBottom <= top + 1;
-            boolean nowBelow = currBottom >= top;
+                MutableAabb platformBox = p.hitboxInto(platformScratch);
+                if (!MutableAabb.overlapsX(playerNow, platformBox)) continue;
 
-            if (wasAbove && nowBelow) {
-                onLandedAtTop(top);
-                stood = true; break;
+                int top = (int) platformBox.minY;
+                if (PlatformIndex.isCrossed(top, prevBottom, currBottom) && top < best) best = top;
             }
         }
-        if (!stood && !isJumping) { isFalling = true; canJump = false; }
+        landOrFall(best);
+    }
+
+    private static final int NO_LANDING = Integer.MAX_VALUE;
+
+    /** Several tops crossed in one tick (fast fall): the highest one is reached first. */
+    private void landOrFall(int top) {
+        if (top != NO_LANDING) onLandedAtTop(top);
+        else if (!isJumping) { isFalling = true; canJump = false; }
     }
 
     // ---------------- Collapse / Respawn ----------------
     public void collapsed() {
-        runFx(() -> imageView.setFitHeight(5));
+        imageView.setFitHeight(5);
         this.y = this.y + this.characterHeight - 5;
         this.repaint(0);
-        new PauseTransition(Duration.millis(300)).play();
     }
     public void respawn() {
         this.x = this.startX; this.y = this.startY;
+        this.prevX = this.x; this.prevY = this.y; // no interpolation streak across the teleport
         this.xVelocity = 0; this.yVelocity = 0;
+        this.frameCarry = 0.0; this.subPixelX = 0.0; this.subPixelY = 0.0;
         this.isMoveLeft = false; this.isMoveRight = false;
         this.isFalling = true; this.canJump = false; this.isJumping = false;
-        this.ignorePlatformsUntilMs = System.currentTimeMillis() + 150;
+        this.ignorePlatformsUntilMs = nowMs() + 150;
+        this.recoilPendingPx = 0;
+        this.shootPoseUntilMs = this.runShootUntilMs = 0L;
+        this.poseRestorePending = false;
         this.isProne = false;
 
-        runFx(() -> {
-            imageView.setFitWidth((int) (characterWidth * 1.8));
-            imageView.setFitHeight((int) (characterHeight * 1.8));
-            imageView.setAction(AnimatedSprite.Action.idle);
-            setTranslateX(x); setTranslateY(y);
-        });
+        imageView.setAction(AnimatedSprite.Action.idle);
+        imageView.setFitWidth((int) (characterWidth * 1.8));
+        imageView.setFitHeight((int) (characterHeight * 1.8));
         currentGroundAction = AnimatedSprite.Action.idle;
     }
 
-    private static void fx(Runnable r) {
-        if (javafx.application.Platform.isFxApplicationThread()) r.run();
-        else javafx.application.Platform.runLater(r);
+
+    // ---------------- Hitbox & Shooting ----------------
+    @Override
+    public MutableAabb hitboxInto(MutableAabb out) {
+        return out.setRect(this.x + colOffX(), this.y + currentColOffY(), currentColW(), currentColH());
     }
 
+    @Override
+    public int collisionLayer() { return CollisionLayer.PLAYER; }
 
-    // ---------------- Hitbox & Shooting ----------------
+    /** Allocating variant; collision code uses {@link #hitboxInto}. */
     public Rectangle2D getHitbox() {
         return new Rectangle2D(this.x + colOffX(), this.y + currentColOffY(), currentColW(), currentColH());
     }
 
     // Respect the chosen shoot action (no overriding); keep recoil & holds
     private void playShootPoseAndRecoil(int facingDir, AnimatedSprite.Action shootAction) {
-        fx(() -> imageView.setAction(shootAction));
+        imageView.setAction(shootAction);
 
         boolean isRunStrip = shootAction == AnimatedSprite.Action.proneShoot
                 || shootAction == AnimatedSprite.Action.runShootUp
                 || shootAction == AnimatedSprite.Action.runShootDown;
 
+        long now = nowMs();
         if (isRunStrip) {
-            fx(() -> {
-                if (runShootHoldPT == null) runShootHoldPT = new PauseTransition();
-                runShootHoldPT.stop();
-                runShootHoldPT.setDuration(Duration.millis(Math.max(shotCooldownMs + 40, 160)));
-                runShootHoldPT.setOnFinished(ev -> setGroundAnimIfAllowed());
-                runShootHoldPT.playFromStart();
-            });
+            runShootUntilMs = now + Math.max(shotCooldownMs + 40, 160);
         } else {
-            fx(() -> {
-                int hold = Math.max(shootPoseHoldMs, shotCooldownMs + 40);
-                if (shootRestorePT != null) shootRestorePT.stop();
-                shootRestorePT = new PauseTransition(Duration.millis(hold));
-                shootRestorePT.setOnFinished(ev -> setGroundAnimIfAllowed());
-                shootRestorePT.playFromStart();
-            });
+            shootPoseUntilMs = now + Math.max(shootPoseHoldMs, shotCooldownMs + 40);
         }
+        poseRestorePending = true;
 
-        fx(() -> AudioManager.playSFX("/advpro_game/assets/sfx_shoot.mp3"));
+        AudioManager.playSFX("/advpro_game/assets/sfx_shoot.mp3");
 
         final int recoil = (isProne ? (int)Math.round((recoilMinPx + (int)(Math.random()*(recoilMaxPx-recoilMinPx+1))) * 0.4)
                 : recoilMinPx + (int)(Math.random()*(recoilMaxPx-recoilMinPx+1)));
-        fx(() -> {
-            x -= facingDir * recoil;
-            clampToWalls();
-            PauseTransition back = new PauseTransition(Duration.millis(recoilReturnMs));
-            back.setOnFinished(ev -> { x += facingDir * recoil; clampToWalls(); });
-            back.play();
-        });
+        x -= facingDir * recoil;
+        clampToWalls();
+        recoilPendingPx += facingDir * recoil;
+        recoilReturnAtMs = now + recoilReturnMs;
     }
 
 
@@ -467,7 +523,7 @@ public class GameCharacter extends Pane {
         return this.y + (this.characterHeight * factor);
     }
     private double currentMuzzleX() {
-        int dir = (getScaleX() > 0 ? 1 : -1);
+        int dir = (facing > 0 ? 1 : -1);
         return this.x + (dir > 0 ? muzzleRightX : muzzleLeftX);
     }
 
@@ -483,7 +539,7 @@ public class GameCharacter extends Pane {
         logAction("shoot");
 
         // Horizontal bullet (legacy)
-        Bullet b = new Bullet(mx, my, facing, 0, 480.0, 1, 1.6, false);
+        Bullet b = BulletConfig.DEFAULT.createBullet(mx, my, facing, 0, 480.0, 1, false);
         if (bulletSink != null) bulletSink.accept(b);
         return b;
     }
@@ -497,7 +553,7 @@ public class GameCharacter extends Pane {
                         keys.isPressed(KeyCode.SPACE);
         if (!trigger) return null;
 
-        long now = System.currentTimeMillis();
+        long now = nowMs();
         if (now - lastShotMs < shotCooldownMs) return null;
 
         Shot s = computeShot(keys);      // fallback 8-way keyboard aim
@@ -509,7 +565,7 @@ public class GameCharacter extends Pane {
 
         logAction("shoot");
 
-        Bullet bullet = new Bullet(s.x, s.y, s.dx, s.dy, 480.0, 1, 1.6, false);
+        Bullet bullet = BulletConfig.DEFAULT.createBullet(s.x, s.y, s.dx, s.dy, 480.0, 1, false);
         if (bulletSink != null) bulletSink.accept(bullet);
         return bullet;
     }
@@ -524,7 +580,7 @@ public class GameCharacter extends Pane {
                         keys.isPressed(KeyCode.SPACE);
         if (!trigger) return null;
 
-        long now = System.currentTimeMillis();
+        long now = nowMs();
         if (now - lastShotMs < shotCooldownMs) return null;
 
         double mx = currentMuzzleX();
@@ -556,7 +612,7 @@ public class GameCharacter extends Pane {
 
         logAction("shoot");
 
-        Bullet bullet = new Bullet(mx, my, dirX, dirY, 480.0, 1, 1.6, false);
+        Bullet bullet = BulletConfig.DEFAULT.createBullet(mx, my, dirX, dirY, 480.0, 1, false);
         if (bulletSink != null) bulletSink.accept(bullet);
         return bullet;
     }
@@ -564,7 +620,7 @@ public class GameCharacter extends Pane {
     public Shot tryCreateLaser(Keys keys, Double aimDegOpt) {
         if (keys == null) return null;
 
-        long now = System.currentTimeMillis();
+        long now = nowMs();
         if (now - lastLaserMs < laserCooldownMs) return null;
 
         lastLaserMs = now;
@@ -623,6 +679,10 @@ public class GameCharacter extends Pane {
     public void loseLife() { if (lives > 0) lives--; }
     public void gainLife() { lives++; }
 
+    /** Frozen: ignores input and cannot be hit (game over, stage transitions). */
+    public void setDisable(boolean disabled) { this.disabled = disabled; }
+    public boolean isDisabled() { return disabled; }
+
     // -------- getters / setters --------
     public int getY() { return y; }
     public int getX() { return x; }
@@ -638,6 +698,8 @@ public class GameCharacter extends Pane {
     public KeyCode getUpKey() { return upKey; }
     public KeyCode getDownKey() { return downKey; }
     public AnimatedSprite getImageView() { return imageView; }
+    /** Id the view binds this character's node to. */
+    public int getRenderId() { return renderId; }
     public int getyMaxVelocity() { return yMaxVelocity; }
     public void setyMaxVelocity(int yMaxVelocity) { this.yMaxVelocity = yMaxVelocity; }
     public int getyVelocity() { return yVelocity; }
@@ -667,12 +729,12 @@ public class GameCharacter extends Pane {
 
         double dx = 0, dy = 0;
         if (proneShootLogic) {
-            dx = (getScaleX() < 0) ? -1 : 1;
+            dx = (facing < 0) ? -1 : 1;
             dy = 0;
         } else if (up && (left || right)) { dy = -1; dx = right ? 1 : -1; }
         else if (up)                      { dy = -1; }
         else if (down)                    { dy =  1; }
-        else                              { dx = (getScaleX() < 0) ? -1 : 1; }
+        else                              { dx = (facing < 0) ? -1 : 1; }
 
         double muzzleX = currentMuzzleX();
         double muzzleY = currentMuzzleY();
@@ -681,7 +743,7 @@ public class GameCharacter extends Pane {
     }
 
     //-----------helper------------
-    public int getFacingDir() { return getScaleX() >= 0 ? 1 : -1; }
+    public int getFacingDir() { return facing >= 0 ? 1 : -1; }
 
     // Selects the proper shoot animation for a snapped angle (-45/0/+45),
     // honoring the "prone = horizontal only" rule.
@@ -708,6 +770,6 @@ public class GameCharacter extends Pane {
                     : downAim ? AnimatedSprite.Action.shootDown
                     :           AnimatedSprite.Action.shoot;
         }
-        runFx(() -> imageView.setAction(a));
+        imageView.setAction(a);
     }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package advpro_game.model;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Idle objects bucketed by key, with each bucket's outstanding count and high-water mark:
+ * the bookkeeping shared by {@link BulletPool} and {@link EnemyPool}, which add the typed
+ * acquire calls and the locking.
+ * - {@code factory} builds a pooled object for a key (a miss, or prewarming);
+ * - {@code reset} parks an object as idle, {@code keyOf} reads the key it was built for and
+ *   {@code isIdle} makes a second release of the same object a no-op.
+ * {@link #take} only hands the object out; re-initializing it is up to the caller.
+ */
+final class KeyedPool<K, T> {
+
+    private static final class Bucket<T> {
+        final ArrayDeque<T> idle = new ArrayDeque<>();
+        int outstanding = 0;
+        int highWater = 0;
+    }
+
+    private final Function<? super K, ? extends T> factory;
+    private final Function<? super T, ? extends K> keyOf;
+    private final Predicate<? super T> isIdle;
+    private final Consumer<? super T> reset;
+
+    private final Map<K, Bucket<T>> buckets = new HashMap<>();
+    private K lastKey;                      // volleys and waves ask for the same key in a row
+    private Bucket<T> lastBucket;
+    private long created = 0, reused = 0;
+
+    KeyedPool(Function<? super K, ? extends T> factory, Function<? super T, ? extends K> keyOf,
+              Predicate<? super T> isIdle, Consumer<? super T> reset) {
+        this.factory = factory;
+        this.keyOf = keyOf;
+        this.isIdle = isIdle;
+        this.reset = reset;
+    }
+
+    /** An idle object of {@code key}, or a new one on a miss. */
+    T take(K key) {
+        Bucket<T> bucket = bucket(key);
+        T item = bucket.idle.pollLast();
+        if (item != null) {
+            reused++;
+        } else {
+            item = factory.apply(key);
+            created++;
+        }
+        bucket.outstanding++;
+        if (bucket.outstanding > bucket.highWater) bucket.highWater = bucket.outstanding;
+        return item;
+    }
+
+    /** Take back an object; ignored for unpooled (null key) or already released ones. */
+    void release(T item) {
+        if (item == null || isIdle.test(item)) return;
+        K key = keyOf.apply(item);
+        if (key == null) return;
+        Bucket<T> bucket = bucket(key);
+        reset.accept(item);
+        bucket.idle.addLast(item);
+        if (bucket.outstanding > 0) bucket.outstanding--;
+    }
+
+    /** Make sure {@code key} has at least max(count, its high-water mark) idle objects. */
+    void prewarm(K key, int count) {
+        Bucket<T> bucket = bucket(key);
+        int want = Math.max(count, bucket.highWater) - bucket.outstanding;
+        while (bucket.idle.size() < want) {
+            T item = factory.apply(key);
+            reset.accept(item);
+            bucket.idle.addLast(item);
+            created++;
+        }
+    }
+
+    private Bucket<T> bucket(K key) {
+        if (key != lastKey) {
+            lastBucket = buckets.computeIfAbsent(key, k -> new Bucket<>());
+            lastKey = key;
+        }
+        return lastBucket;
+    }
+
+    // ===================== Stats =====================
+
+    int idleCount(K key) {
+        Bucket<T> b = buckets.get(key);
+        return b == null ? 0 : b.idle.size();
+    }
+
+    int outstanding(K key) {
+        Bucket<T> b = buckets.get(key);
+        return b == null ? 0 : b.outstanding;
+    }
+
+    int highWaterMark(K key) {
+        Bucket<T> b = buckets.get(key);
+        return b == null ? 0 : b.highWater;
+    }
+
+    long getCreated() { return created; }
+
+    long getReused() { return reused; }
+
+    int bucketCount() { return buckets.size(); }
+}
@@ -0,0 +1,71 @@
+package advpro_game.model;
+
+import advpro_game.util.SpatialHash;
+import javafx.geometry.Rectangle2D;
+
+/**
+ * Reusable axis-aligned box with public min/max fields, filled by {@link Collider#hitboxInto}.
+ * Collision code keeps one scratch instance per use site instead of allocating a
+ * {@link Rectangle2D} per query. Overlap is strict (touching edges do not overlap), the
+ * same rule as {@code Rectangle2D.intersects}.
+ */
+public final class MutableAabb {
+    public double minX, minY, maxX, maxY;
+
+    public MutableAabb() {}
+
+    public MutableAabb(double minX, double minY, double maxX, double maxY) {
+        set(minX, minY, maxX, maxY);
+    }
+
+    public MutableAabb set(double minX, double minY, double maxX, double maxY) {
+        this.minX = minX; this.minY = minY; this.maxX = maxX; this.maxY = maxY;
+        return this;
+    }
+
+    /** Set from top-left corner and size. */
+    public MutableAabb setRect(double x, double y, double w, double h) {
+        return set(x, y, x + w, y + h);
+    }
+
+    public double width()   { return maxX - minX; }
+    public double height()  { return maxY - minY; }
+    public double centerX() { return (minX + maxX) * 0.5; }
+    public double centerY() { return (minY + maxY) * 0.5; }
+
+    public boolean intersects(MutableAabb o) {
+        return overlaps(minX, minY, maxX, maxY, o.minX, o.minY, o.maxX, o.maxY);
+    }
+
+    /** Allocating copy, for callers that still want the JavaFX type (debug, compat). */
+    public Rectangle2D toRectangle2D() {
+        return new Rectangle2D(minX, minY, Math.max(0, width()), Math.max(0, height()));
+    }
+
+    // ===================== Static overlap routines =====================
+
+    public static boolean overlaps(double aMinX, double aMinY, double aMaxX, double aMaxY,
+                                   double bMinX, double bMinY, double bMaxX, double bMaxY) {
+        return aMaxX > bMinX && aMinX < bMaxX && aMaxY > bMinY && aMinY < bMaxY;
+    }
+
+    public static boolean overlaps(MutableAabb a, MutableAabb b) {
+        return a.intersects(b);
+    }
+
+    /** Horizontal extents overlap (strict); used by top-face platform checks. */
+    public static boolean overlapsX(MutableAabb a, MutableAabb b) {
+        return a.maxX > b.minX && a.minX < b.maxX;
+    }
+
+    /**
+     * Swept test: a box of half-extents (hw,hh) whose centre moves from (x0,y0) to (x1,y1)
+     * against {@code box} (slab test on the box grown by the half-extents).
+     * @return earliest time of impact in [0,1] (0 = already overlapping), or -1 for a miss.
+     *         Grazing contact along an edge is a miss, matching the strict overlap rule.
+     */
+    public static double sweep(double x0, double y0, double x1, double y1,
+                               double hw, double hh, MutableAabb box) {
+        return SpatialHash.segmentEntry(x0, y0, x1, y1, hw, hh, box.minX, box.minY, box.maxX, box.maxY);
+    }
+}
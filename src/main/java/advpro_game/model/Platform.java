@@ -1,13 +1,11 @@
 package advpro_game.model;
 
 import javafx.geometry.Rectangle2D;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
 
 /**
  * Level platform: either SOLID (full block) or ONE-WAY (top-face only).
  */
-public class Platform {
+public class Platform implements Collider {
     private final Rectangle2D hitbox;
     private final boolean solid;   // true = solid block; false = one-way ledge (top-face only)
 
@@ -20,6 +18,14 @@ public class Platform {
     public static Platform solid(double x, double y, double w, double h)  { return new Platform(x, y, w, h, true); }
     public static Platform oneWay(double x, double y, double w, double h) { return new Platform(x, y, w, h, false); }
 
+    @Override
+    public MutableAabb hitboxInto(MutableAabb out) {
+        return out.set(hitbox.getMinX(), hitbox.getMinY(), hitbox.getMaxX(), hitbox.getMaxY());
+    }
+
+    @Override
+    public int collisionLayer() { return CollisionLayer.PLATFORM; }
+
     // === API used by GameCharacter / DrawingLoop ===
     public Rectangle2D getHitbox() {
         return hitbox;
@@ -38,10 +44,4 @@ public class Platform {
     public double getBottom() { return hitbox.getMaxY(); }
     public double getLeft()   { return hitbox.getMinX(); }
     public double getRight()  { return hitbox.getMaxX(); }
-
-    // Debug draw (optional)
-    public void drawDebug(GraphicsContext gc) {
-        gc.setStroke(solid ? Color.RED : Color.CYAN);
-        gc.strokeRect(hitbox.getMinX(), hitbox.getMinY(), hitbox.getWidth(), hitbox.getHeight());
-    }
 }
@@ -0,0 +1,131 @@
+package advpro_game.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Static index over a stage's platforms, built once per {@code GameStage.setStage(...)}.
+ * - Implicit interval tree on the x axis: platforms sorted by left edge, the sub-range
+ *   [lo, hi) is rooted at its midpoint, and each root keeps the largest right edge below it.
+ *   A horizontal span query therefore visits O(log n + k) nodes, k = platforms under the span.
+ * - Platform boxes are flattened into primitive arrays, so queries read no Rectangle2D and
+ *   allocate nothing.
+ * - Immutable after construction; rebuild it when the platform list changes.
+ */
+public final class PlatformIndex {
+
+    public static final PlatformIndex EMPTY = new PlatformIndex(List.of());
+
+    private final Platform[] platforms;   // sorted by left edge, then by list order
+    private final int[] listOrder;        // position in the source list (tie-breaks)
+    private final double[] minX, maxX;
+    private final int[] top;              // (int) top edge, as the landing check uses it
+    private final boolean[] solid;
+    private final double[] subtreeMaxX;   // max right edge of the sub-range rooted here
+
+    public PlatformIndex(List<Platform> source) {
+        int n = 0;
+        for (Platform p : source) if (p != null) n++;
+
+        Integer[] order = new Integer[n];
+        Platform[] live = new Platform[n];
+        for (int i = 0, k = 0; i < source.size(); i++) {
+            Platform p = source.get(i);
+            if (p == null) continue;
+            live[k] = p; order[k] = k; k++;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int c = Double.compare(live[a].getLeft(), live[b].getLeft());
+            return c != 0 ? c : Integer.compare(a, b);
+        });
+
+        platforms = new Platform[n];
+        listOrder = new int[n];
+        minX = new double[n];
+        maxX = new double[n];
+        top = new int[n];
+        solid = new boolean[n];
+        subtreeMaxX = new double[n];
+        for (int i = 0; i < n; i++) {
+            Platform p = live[order[i]];
+            platforms[i] = p;
+            listOrder[i] = order[i];
+            minX[i] = p.getLeft();
+            maxX[i] = p.getRight();
+            top[i] = (int) p.getTop();
+            solid[i] = p.isSolid();
+        }
+        buildMax(0, n);
+    }
+
+    private double buildMax(int lo, int hi) {
+        if (lo >= hi) return Double.NEGATIVE_INFINITY;
+        int mid = (lo + hi) >>> 1;
+        double m = Math.max(maxX[mid], Math.max(buildMax(lo, mid), buildMax(mid + 1, hi)));
+        subtreeMaxX[mid] = m;
+        return m;
+    }
+
+    public int size()              { return platforms.length; }
+    public Platform get(int i)     { return platforms[i]; }
+
+    // ===================== Queries =====================
+
+    /**
+     * Indices of the platforms whose horizontal extent overlaps (spanMinX, spanMaxX), strictly,
+     * in left-edge order. Writes at most {@code out.length} of them.
+     * @return the total number of overlapping platforms (may exceed {@code out.length})
+     */
+    public int queryX(double spanMinX, double spanMaxX, int[] out) {
+        return collect(0, platforms.length, spanMinX, spanMaxX, out, 0);
+    }
+
+    private int collect(int lo, int hi, double qMin, double qMax, int[] out, int count) {
+        if (lo >= hi) return count;
+        int mid = (lo + hi) >>> 1;
+        if (subtreeMaxX[mid] <= qMin) return count;      // everything here ends left of the span
+        count = collect(lo, mid, qMin, qMax, out, count);
+        if (minX[mid] >= qMax) return count;             // mid and the right side start past it
+        if (maxX[mid] > qMin) {
+            if (count < out.length) out[count] = mid;
+            count++;
+        }
+        return collect(mid + 1, hi, qMin, qMax, out, count);
+    }
+
+    /**
+     * Top-face landing for a collider spanning (spanMinX, spanMaxX) whose bottom edge moved
+     * down from {@code prevBottom} to {@code currBottom} this tick.
+     * @return index of the highest platform top crossed (earliest in list order on ties),
+     *         or -1 when the collider lands on nothing
+     */
+    public int findLanding(double spanMinX, double spanMaxX, int prevBottom, int currBottom,
+                           boolean skipOneWay) {
+        if (currBottom <= prevBottom) return -1;
+        return landing(0, platforms.length, spanMinX, spanMaxX, prevBottom, currBottom, skipOneWay, -1);
+    }
+
+    private int landing(int lo, int hi, double qMin, double qMax, int prevBottom, int currBottom,
+                        boolean skipOneWay, int best) {
+        if (lo >= hi) return best;
+        int mid = (lo + hi) >>> 1;
+        if (subtreeMaxX[mid] <= qMin) return best;
+        best = landing(lo, mid, qMin, qMax, prevBottom, currBottom, skipOneWay, best);
+        if (minX[mid] >= qMax) return best;
+        if (maxX[mid] > qMin && (solid[mid] || !skipOneWay)
+                && isCrossed(top[mid], prevBottom, currBottom) && isHigher(mid, best)) {
+            best = mid;
+        }
+        return landing(mid + 1, hi, qMin, qMax, prevBottom, currBottom, skipOneWay, best);
+    }
+
+    /** Was above the top last tick (1 px slack), at or below it now. */
+    static boolean isCrossed(int top, int prevBottom, int currBottom) {
+        return prevBottom <= top + 1 && currBottom >= top;
+    }
+
+    private boolean isHigher(int i, int best) {
+        if (best < 0) return true;
+        return top[i] < top[best] || (top[i] == top[best] && listOrder[i] < listOrder[best]);
+    }
+}
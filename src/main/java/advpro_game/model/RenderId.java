@@ -0,0 +1,16 @@
+package advpro_game.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ids the view binds scene nodes to (see {@code view.ViewBinding}). Every drawable model
+ * object takes one at construction and keeps it for life; a pooled bullet therefore finds
+ * its old node again when it is reused. Never 0, never reused.
+ */
+public final class RenderId {
+    private static final AtomicInteger NEXT = new AtomicInteger();
+
+    private RenderId() {}
+
+    public static int next() { return NEXT.incrementAndGet(); }
+}
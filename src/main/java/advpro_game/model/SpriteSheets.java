@@ -0,0 +1,37 @@
+package advpro_game.model;
+
+import advpro_game.Launcher;
+import javafx.scene.image.Image;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decoded sprite sheets by resource path, loaded once per JVM and shared by every bullet
+ * and enemy that shows them. Safe from any thread.
+ */
+public final class SpriteSheets {
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+    private SpriteSheets() {}
+
+    /** Decoded sheet for {@code path}; null when the resource is missing or fails to decode. */
+    public static Image get(String path) {
+        if (path == null) return null;
+        Image cached = IMAGES.get(path);
+        if (cached != null) return cached;
+        try (InputStream in = Launcher.class.getResourceAsStream(path)) {
+            if (in == null) return null;
+            Image loaded = new Image(in);
+            if (loaded.isError()) return null;
+            Image prev = IMAGES.putIfAbsent(path, loaded);
+            return prev != null ? prev : loaded;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /** Sheets decoded so far. */
+    public static int size() { return IMAGES.size(); }
+}
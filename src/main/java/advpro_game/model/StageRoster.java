@@ -0,0 +1,135 @@
+package advpro_game.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Who spawns where, per stage: the minion wave GameStage spawns when the stage arms, and
+ * the boss wave (helpers, then the boss last) StageManager spawns once the minions are gone.
+ * Archetypes are constants, so every spawn of one shares a pool bucket and a decoded sheet.
+ * Each boss runs a {@link BulletPattern} on top of its aimed shot.
+ * Stages without a roster get empty lists; callers fall back to the spriteless defaults.
+ */
+public final class StageRoster {
+
+    /** One enemy of a wave; {@code bonusHp} is added on top of the archetype's HP. */
+    public record Spawn(EnemySpec spec, double x, double y, int bonusHp) {
+        Spawn(EnemySpec spec, double x, double y) { this(spec, x, y, 0); }
+
+        /** This spawn's enemy, from {@code pool}. */
+        public Enemy acquire(EnemyPool pool) {
+            Enemy e = pool.acquire(spec, x, y);
+            if (bonusHp != 0) e.addHp(bonusHp);
+            return e;
+        }
+    }
+
+    private static final int GROUND = Arena.GROUND;
+    private static final int SHOTS_PER_ARCHETYPE = 8;   // aimed shots kept idle per archetype's bullet config
+
+    // ---------- Archetypes ----------
+    static final EnemySpec MINION_1   = EnemySpec.minion(48, 60, "/advpro_game/assets/minion1_L.png", 1, 1, 1, 24, 31);
+    static final EnemySpec ELITE_1    = EnemySpec.elite(60, 80, "/advpro_game/assets/elite_1.png", 3, 3, 1, 26, 28, 300);
+    static final BulletConfig BOSS_1_SHOT = new BulletConfig("/advpro_game/assets/boss1B.png", 3.0, 6, 6, 1, 14, 10);
+    static final EnemySpec BOSS_1     = EnemySpec.boss(86, 20, "/advpro_game/assets/boss1_1.png", 2, 2, 1, 43, 10, 1)
+            .withBullet(BOSS_1_SHOT)
+            .withPattern(BulletPattern.radial(8, 0.4, 150).withBullet(BOSS_1_SHOT));
+
+    static final EnemySpec MINION_2   = EnemySpec.minion(60, 60, "/advpro_game/assets/minion_2.png", 2, 2, 1, 33, 32);
+    static final EnemySpec ELITE_2_FAST = EnemySpec.elite(80, 80, "/advpro_game/assets/elite_minion_2.png", 3, 2, 2, 32, 32, 300);
+    static final EnemySpec ELITE_2_MID  = EnemySpec.elite(80, 80, "/advpro_game/assets/elite_minion_2.png", 3, 2, 2, 32, 32, 200);
+    static final EnemySpec ELITE_2_SLOW = EnemySpec.elite(80, 80, "/advpro_game/assets/elite_minion_2.png", 3, 2, 2, 32, 32, 100);
+    static final BulletConfig BOSS_2_SHOT = new BulletConfig("/advpro_game/assets/java_bullet.png", 2.0, 4, 4, 1, 25, 27);
+    static final EnemySpec BOSS_2     = EnemySpec.boss(170, 170, "/advpro_game/assets/bossjava.png", 2, 2, 0, 112, 112, 1)
+            .withBullet(BOSS_2_SHOT)
+            .withPattern(BulletPattern.aimedFan(5, 60, 0.8, 200).withBullet(BOSS_2_SHOT));
+
+    static final EnemySpec MINION_3_1 = EnemySpec.minion(60, 60, "/advpro_game/assets/minion_3-1.png", 1, 2, 1, 33, 32);
+    static final EnemySpec MINION_3_2 = EnemySpec.minion(60, 60, "/advpro_game/assets/minion_3-2.png", 3, 3, 1, 24, 16);
+    static final EnemySpec ELITE_3    = EnemySpec.elite(80, 160, "/advpro_game/assets/elite_3.png", 10, 5, 1, 50, 66, 200);
+    static final BulletConfig BOSS_3_SHOT = new BulletConfig("/advpro_game/assets/boss_3B.png", 3.0, 3, 3, 1, 32, 32);
+    static final EnemySpec BOSS_3     = EnemySpec.boss(200, 200, "/advpro_game/assets/boss_3.png", 8, 8, 1, 80, 71, 1)
+            .withBullet(BOSS_3_SHOT)
+            .withPattern(BulletPattern.spiral(4, 5, 70, 160).withBullet(BOSS_3_SHOT));
+
+    // ---------- Waves ----------
+    private static final List<Spawn> MINIONS_1 = List.of(
+            new Spawn(MINION_1, 415, 190),
+            new Spawn(MINION_1, 250, 220),
+            new Spawn(MINION_1, 350, GROUND - 50),
+            new Spawn(ELITE_1, 550, GROUND - 60));
+    private static final List<Spawn> BOSS_WAVE_1 = List.of(
+            new Spawn(BOSS_1, 580, 208));
+
+    private static final List<Spawn> MINIONS_2 = List.of(
+            new Spawn(MINION_2, 150, 50),
+            new Spawn(MINION_2, 300, 50),
+            new Spawn(MINION_2, 450, 50),
+            new Spawn(MINION_2, 600, 50),
+            new Spawn(ELITE_2_FAST, 550, GROUND - 80),
+            new Spawn(ELITE_2_MID, 550, GROUND - 80));
+    private static final List<Spawn> BOSS_WAVE_2 = List.of(
+            new Spawn(ELITE_2_FAST, 550, GROUND - 80),
+            new Spawn(ELITE_2_MID, 600, GROUND - 80),
+            new Spawn(ELITE_2_SLOW, 650, GROUND - 80),
+            new Spawn(BOSS_2, 550, GROUND - 380, 4));
+
+    private static final List<Spawn> MINIONS_3 = List.of(
+            new Spawn(MINION_3_1, 450, 240),
+            new Spawn(MINION_3_1, 600, 240),
+            new Spawn(MINION_3_2, 150, 80),
+            new Spawn(MINION_3_2, 300, 50),
+            new Spawn(MINION_3_2, 450, 80),
+            new Spawn(MINION_3_2, 600, 50),
+            new Spawn(ELITE_3, 650, GROUND - 120));
+    private static final List<Spawn> BOSS_WAVE_3 = List.of(
+            new Spawn(MINION_3_2, 50, 50),
+            new Spawn(MINION_3_2, 200, 80),
+            new Spawn(MINION_3_2, 350, 50),
+            new Spawn(ELITE_3, 650, GROUND - 120),
+            new Spawn(BOSS_3, 500, 50, 8));
+
+    private StageRoster() {}
+
+    /** Wave spawned when {@code stage} arms. */
+    public static List<Spawn> minions(int stage) {
+        return switch (stage) {
+            case 1 -> MINIONS_1;
+            case 2 -> MINIONS_2;
+            case 3 -> MINIONS_3;
+            default -> List.of();
+        };
+    }
+
+    /** Wave spawned once the minions of {@code stage} are down; the boss is the last entry. */
+    public static List<Spawn> bossWave(int stage) {
+        return switch (stage) {
+            case 1 -> BOSS_WAVE_1;
+            case 2 -> BOSS_WAVE_2;
+            case 3 -> BOSS_WAVE_3;
+            default -> List.of();
+        };
+    }
+
+    /**
+     * Build idle enemies for everything {@code stage} spawns, plus the bullets they fire (aimed
+     * shots, and each boss pattern up to its peak), so neither of its waves decodes a sheet or
+     * builds an enemy or bullet. Call ahead of time (stage-clear pause, stage start).
+     */
+    public static void prewarm(EnemyPool enemies, BulletPool bullets, int stage) {
+        Map<EnemySpec, Integer> need = new HashMap<>();
+        for (Spawn s : minions(stage)) need.merge(s.spec(), 1, Integer::sum);
+        // Boss helpers come after the minions are gone, so both waves draw on the same enemies
+        Map<EnemySpec, Integer> boss = new HashMap<>();
+        for (Spawn s : bossWave(stage)) boss.merge(s.spec(), 1, Integer::sum);
+        boss.forEach((spec, n) -> need.merge(spec, n, Math::max));
+        need.forEach(enemies::prewarm);
+
+        for (EnemySpec spec : need.keySet()) {
+            bullets.prewarm(spec.bullet() != null ? spec.bullet() : BulletConfig.DEFAULT, SHOTS_PER_ARCHETYPE);
+            BulletPattern p = spec.pattern();
+            if (p != null) bullets.prewarm(p.config(), p.peakLive());
+        }
+    }
+}
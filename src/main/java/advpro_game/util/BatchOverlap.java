@@ -0,0 +1,60 @@
+package advpro_game.util;
+
+/**
+ * Batch overlap kernel: tests many boxes, stored as parallel float arrays, against one
+ * target box and reports the indices that overlap it (strictly, like {@code MutableAabb}).
+ * Meant for the many-bullets-vs-few-large-targets case (players, bosses).
+ * - {@link #best()} is chosen once per JVM: the Vector API kernel when the
+ *   {@code jdk.incubator.vector} module is present (JVM flag {@code --add-modules jdk.incubator.vector}),
+ *   otherwise the scalar loop. {@code -Dadvpro.simd=off} forces scalar.
+ * - Both kernels return the same indices in ascending order.
+ * - Float inputs: callers that need exact double results pad the target and re-test the hits.
+ */
+public abstract class BatchOverlap {
+
+    private static final BatchOverlap SCALAR = new ScalarBatchOverlap();
+    private static final BatchOverlap BEST = select();
+
+    BatchOverlap() {}
+
+    /**
+     * Indices {@code i < n} whose box overlaps the target, ascending, written to {@code out}
+     * (which must hold {@code n} entries).
+     * @return number of indices written
+     */
+    public abstract int overlaps(float[] minX, float[] minY, float[] maxX, float[] maxY, int n,
+                                 float tMinX, float tMinY, float tMaxX, float tMaxY, int[] out);
+
+    /** Boxes tested per step (1 for scalar). */
+    public abstract int lanes();
+
+    public abstract String name();
+
+    public static BatchOverlap scalar() { return SCALAR; }
+
+    /** The kernel picked at startup. */
+    public static BatchOverlap best() { return BEST; }
+
+    /** Vector kernel, or null when the incubator module is not in the boot layer. */
+    public static BatchOverlap vector() { return isVectorAvailable() ? VectorHolder.KERNEL : null; }
+
+    public static boolean isVectorAvailable() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+
+    private static BatchOverlap select() {
+        if ("off".equalsIgnoreCase(System.getProperty("advpro.simd", "auto"))) return SCALAR;
+        try {
+            BatchOverlap v = vector();
+            if (v != null && v.lanes() > 1) return v;
+        } catch (Throwable ignored) {
+            // module present but unusable on this JVM/CPU: stay scalar
+        }
+        return SCALAR;
+    }
+
+    // Loaded only on first use, so the scalar path never touches jdk.incubator.vector classes
+    private static final class VectorHolder {
+        static final BatchOverlap KERNEL = new VectorBatchOverlap();
+    }
+}
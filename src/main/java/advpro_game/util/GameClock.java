@@ -0,0 +1,91 @@
+package advpro_game.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Simulation time, split into independent domains. The simulation advances the clock once
+ * per fixed step; every domain then moves by that step times its own scale, or not at all
+ * while paused (unless a single step was requested).
+ * - Model code reads {@link #nowMillis(Domain)} / {@link #dtSeconds(Domain)} instead of
+ *   the wall clock, so cooldowns follow slow-mo and a headless run can fast-forward.
+ * - Scale, pause and single-step may be set from any thread; they apply on the next advance.
+ * - Time starts at 0 for every new clock.
+ */
+public final class GameClock {
+
+    public enum Domain { WORLD, ENEMIES, PLAYER, UI }
+    private static final Domain[] DOMAINS = Domain.values();
+
+    private static final class Track {
+        long nowNanos;                        // simulation thread
+        long dtNanos;                         // of the last advance
+        double carry;                         // sub-nanosecond remainder of scaled steps
+        volatile double scale = 1.0;
+        volatile boolean paused;
+        final AtomicInteger pendingSteps = new AtomicInteger();
+    }
+
+    private final Track[] tracks = new Track[DOMAINS.length];
+    private long ticks = 0L;
+
+    public GameClock() {
+        for (int i = 0; i < tracks.length; i++) tracks[i] = new Track();
+    }
+
+    // ===================== Advancing (simulation thread) =====================
+
+    /** Advance every domain by one simulation step of {@code stepNanos} unscaled time. */
+    public void advance(long stepNanos) {
+        ticks++;
+        for (Track t : tracks) {
+            boolean run = !t.paused || takeStep(t);
+            if (!run) {
+                t.dtNanos = 0L;
+                continue;
+            }
+            double scaled = stepNanos * t.scale + t.carry;
+            long dt = (long) scaled;
+            t.carry = scaled - dt;
+            t.dtNanos = dt;
+            t.nowNanos += dt;
+        }
+    }
+
+    private static boolean takeStep(Track t) {
+        return t.pendingSteps.getAndUpdate(n -> n > 0 ? n - 1 : 0) > 0;
+    }
+
+    // ===================== Reading =====================
+
+    public long nowNanos(Domain d)  { return tracks[d.ordinal()].nowNanos; }
+    public long nowMillis(Domain d) { return tracks[d.ordinal()].nowNanos / 1_000_000L; }
+
+    /** Time the domain moved on the last advance (0 while paused). */
+    public double dtSeconds(Domain d) { return tracks[d.ordinal()].dtNanos / 1_000_000_000.0; }
+    public double dtMillis(Domain d)  { return tracks[d.ordinal()].dtNanos / 1_000_000.0; }
+
+    /** Simulation steps advanced so far (regardless of scale or pause). */
+    public long getTicks() { return ticks; }
+
+    // ===================== Controls (any thread) =====================
+
+    public void setScale(Domain d, double scale) {
+        tracks[d.ordinal()].scale = Math.max(0.0, scale);
+    }
+
+    public double getScale(Domain d) { return tracks[d.ordinal()].scale; }
+
+    public void setPaused(Domain d, boolean paused) {
+        Track t = tracks[d.ordinal()];
+        t.paused = paused;
+        if (!paused) t.pendingSteps.set(0);
+    }
+
+    public boolean isPaused(Domain d) { return tracks[d.ordinal()].paused; }
+
+    /** While {@code d} is paused, let exactly one more step through on the next advance. */
+    public void step(Domain d) {
+        Track t = tracks[d.ordinal()];
+        if (t.paused) t.pendingSteps.incrementAndGet();
+    }
+}
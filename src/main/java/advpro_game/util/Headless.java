@@ -0,0 +1,22 @@
+package advpro_game.util;
+
+/**
+ * Process-wide switch for running the simulation without the JavaFX toolkit.
+ * While enabled, scene-graph, animation and audio work that would be posted to the FX
+ * thread is dropped instead (nothing renders it), so the model, stage flow and game loop
+ * can run in plain JVMs: command line, JUnit, CI machines without a display.
+ * Enable it before building a session, or start the JVM with -Dadvpro.headless=true.
+ */
+public final class Headless {
+    private static volatile boolean enabled = Boolean.getBoolean("advpro.headless");
+
+    private Headless() {}
+
+    public static boolean isEnabled() { return enabled; }
+
+    public static void setEnabled(boolean on) {
+        // Image decoding still touches Prism; keep it off the hardware pipeline when there is no display
+        if (on && System.getProperty("prism.order") == null) System.setProperty("prism.order", "sw");
+        enabled = on;
+    }
+}
@@ -0,0 +1,22 @@
+package advpro_game.util;
+
+/** Plain loop; the fallback when the Vector API is unavailable. */
+final class ScalarBatchOverlap extends BatchOverlap {
+
+    @Override
+    public int overlaps(float[] minX, float[] minY, float[] maxX, float[] maxY, int n,
+                        float tMinX, float tMinY, float tMaxX, float tMaxY, int[] out) {
+        return tail(minX, minY, maxX, maxY, 0, n, tMinX, tMinY, tMaxX, tMaxY, out, 0);
+    }
+
+    static int tail(float[] minX, float[] minY, float[] maxX, float[] maxY, int from, int n,
+                    float tMinX, float tMinY, float tMaxX, float tMaxY, int[] out, int count) {
+        for (int i = from; i < n; i++) {
+            if (maxX[i] > tMinX && minX[i] < tMaxX && maxY[i] > tMinY && minY[i] < tMaxY) out[count++] = i;
+        }
+        return count;
+    }
+
+    @Override public int lanes()     { return 1; }
+    @Override public String name()   { return "scalar"; }
+}
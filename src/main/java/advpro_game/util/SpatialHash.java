@@ -0,0 +1,388 @@
+package advpro_game.util;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Uniform grid broadphase over a fixed world rectangle, keyed by caller-chosen int ids
+ * (e.g. the index of an entity in its list).
+ * - Rebuilt every tick: {@link #clear()}, then {@link #insert} each collider's box.
+ *   Clearing only resets the cells that were used, so a rebuild is O(inserted).
+ * - A box is linked into every cell it overlaps; boxes outside the world clamp to the
+ *   border cells, so nothing is ever lost.
+ * - {@link #query} visits only the cells under the query box, filters by exact AABB overlap
+ *   and reports each id once. Results stay valid until the next query.
+ * - {@link #raycast} walks only the cells a (thick) segment crosses, cell by cell (DDA),
+ *   and returns hits ordered by distance; with a hit limit it stops as soon as no closer
+ *   hit is possible, so it doubles as a line-of-sight query.
+ * - No allocation after warm-up (arrays grow geometrically and are reused).
+ * Not thread-safe; meant for the simulation thread.
+ */
+public final class SpatialHash {
+
+    /** Reusable result buffer for {@link #raycast}: ids ordered by distance along the ray. */
+    public static final class RayHits {
+        private int count = 0;
+        private int[] ids = new int[8];
+        private double[] t = new double[8];
+        private double[] px = new double[8];
+        private double[] py = new double[8];
+
+        public int size()            { return count; }
+        public int id(int i)         { return ids[i]; }
+        /** Entry point along the segment, 0 (start) .. 1 (end). */
+        public double t(int i)       { return t[i]; }
+        /** Impact point: the point of the centre line closest to the box centre. */
+        public double x(int i)       { return px[i]; }
+        public double y(int i)       { return py[i]; }
+
+        /** Append unsorted (unbounded raycasts sort once at the end). */
+        private void append(int id, double tEntry, double x, double y) {
+            if (count == ids.length) grow();
+            ids[count] = id; t[count] = tEntry; px[count] = x; py[count] = y;
+            count++;
+        }
+
+        /** Insert keeping ascending t (ties keep the lower id first); drops the farthest past {@code limit}. */
+        private void offer(int id, double tEntry, double x, double y, int limit) {
+            int pos = count;
+            while (pos > 0 && (t[pos - 1] > tEntry || (t[pos - 1] == tEntry && ids[pos - 1] > id))) pos--;
+            if (pos >= limit) return;
+            if (count == ids.length) grow();
+            int last = Math.min(count, limit - 1);
+            for (int i = last; i > pos; i--) {
+                ids[i] = ids[i - 1]; t[i] = t[i - 1]; px[i] = px[i - 1]; py[i] = py[i - 1];
+            }
+            ids[pos] = id; t[pos] = tEntry; px[pos] = x; py[pos] = y;
+            if (count < limit) count++;
+        }
+
+        private boolean before(int a, int b) {
+            return t[a] < t[b] || (t[a] == t[b] && ids[a] < ids[b]);
+        }
+
+        private void swap(int a, int b) {
+            int id = ids[a]; ids[a] = ids[b]; ids[b] = id;
+            double v = t[a]; t[a] = t[b]; t[b] = v;
+            v = px[a]; px[a] = px[b]; px[b] = v;
+            v = py[a]; py[a] = py[b]; py[b] = v;
+        }
+
+        /** In-place sort of [lo, hi] by (t, id): quicksort, insertion sort for short runs. */
+        private void sort(int lo, int hi) {
+            while (hi - lo > 12) {
+                int mid = (lo + hi) >>> 1;
+                if (before(mid, lo)) swap(mid, lo);
+                if (before(hi, lo)) swap(hi, lo);
+                if (before(hi, mid)) swap(hi, mid);
+                swap(mid, hi - 1);                  // pivot parked at hi-1
+                int pivot = hi - 1, i = lo, j = hi - 1;
+                while (true) {
+                    while (before(++i, pivot)) { }
+                    while (before(pivot, --j)) { }
+                    if (i >= j) break;
+                    swap(i, j);
+                }
+                swap(i, hi - 1);
+                if (i - lo < hi - i) { sort(lo, i - 1); lo = i + 1; }
+                else                 { sort(i + 1, hi); hi = i - 1; }
+            }
+            for (int i = lo + 1; i <= hi; i++) {
+                for (int j = i; j > lo && before(j, j - 1); j--) swap(j, j - 1);
+            }
+        }
+
+        private void grow() {
+            int n = ids.length * 2;
+            ids = Arrays.copyOf(ids, n);
+            t = Arrays.copyOf(t, n);
+            px = Arrays.copyOf(px, n);
+            py = Arrays.copyOf(py, n);
+        }
+    }
+
+    private final double cellSize;
+    private final double invCell;
+    private final int cols, rows;
+
+    // Per cell: head of a singly linked list of entries (-1 = empty)
+    private final int[] cellHead;
+    private final int[] usedCells;
+    private final int[] cellStamp;          // raycast: cell already walked in this query
+    private int usedCount = 0;
+
+    // Entries (one per id per overlapped cell)
+    private int[] entryId = new int[64];
+    private int[] entryNext = new int[64];
+    private int entryCount = 0;
+
+    // Per id: stored bounds and the query stamp used for de-duplication
+    private double[] bounds = new double[64 * 4];
+    private int[] stamp = new int[64];
+    private int stampNow = 0;
+
+    private int[] hits = new int[32];
+    private int hitCount = 0;
+
+    public SpatialHash(double worldWidth, double worldHeight, double cellSize) {
+        if (cellSize <= 0) throw new IllegalArgumentException("cellSize must be > 0");
+        this.cellSize = cellSize;
+        this.invCell = 1.0 / cellSize;
+        this.cols = Math.max(1, (int) Math.ceil(worldWidth / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(worldHeight / cellSize));
+        this.cellHead = new int[cols * rows];
+        this.usedCells = new int[cols * rows];
+        this.cellStamp = new int[cols * rows];
+        Arrays.fill(cellHead, -1);
+    }
+
+    // ===================== Building =====================
+
+    /** Empty every cell (ids may be re-used afterwards). */
+    public void clear() {
+        for (int i = 0; i < usedCount; i++) cellHead[usedCells[i]] = -1;
+        usedCount = 0;
+        entryCount = 0;
+    }
+
+    /** Add a box under {@code id} (>= 0). Inserting the same id twice keeps the last bounds. */
+    public void insert(int id, double minX, double minY, double maxX, double maxY) {
+        if (id < 0) throw new IllegalArgumentException("id must be >= 0");
+        ensureId(id);
+        int b = id * 4;
+        bounds[b] = minX; bounds[b + 1] = minY; bounds[b + 2] = maxX; bounds[b + 3] = maxY;
+
+        int c0 = col(minX), c1 = col(maxX);
+        int r0 = row(minY), r1 = row(maxY);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * cols + c;
+                if (cellHead[cell] < 0) usedCells[usedCount++] = cell;
+                if (entryCount == entryId.length) {
+                    entryId = Arrays.copyOf(entryId, entryCount * 2);
+                    entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+                }
+                entryId[entryCount] = id;
+                entryNext[entryCount] = cellHead[cell];
+                cellHead[cell] = entryCount++;
+            }
+        }
+    }
+
+    // ===================== Querying =====================
+
+    /**
+     * Collect the ids whose boxes overlap the query box (touching edges do not count,
+     * as with {@code Rectangle2D.intersects}). Returns the hit count; read them with {@link #hit(int)}.
+     */
+    public int query(double minX, double minY, double maxX, double maxY) {
+        hitCount = 0;
+        nextStamp();
+
+        int c0 = col(minX), c1 = col(maxX);
+        int r0 = row(minY), r1 = row(maxY);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                for (int e = cellHead[r * cols + c]; e >= 0; e = entryNext[e]) {
+                    int id = entryId[e];
+                    if (stamp[id] == stampNow) continue;
+                    stamp[id] = stampNow;
+
+                    int b = id * 4;
+                    if (maxX <= bounds[b] || minX >= bounds[b + 2]
+                            || maxY <= bounds[b + 1] || minY >= bounds[b + 3]) continue;
+
+                    if (hitCount == hits.length) hits = Arrays.copyOf(hits, hitCount * 2);
+                    hits[hitCount++] = id;
+                }
+            }
+        }
+        return hitCount;
+    }
+
+    /** The i-th id found by the last {@link #query} (in no particular order). */
+    public int hit(int i) { return hits[i]; }
+
+    // ===================== Raycast =====================
+
+    /**
+     * Boxes touched by the segment (x0,y0)-(x1,y1) swept with a square brush of
+     * {@code halfThickness}, ordered by entry distance, at most {@code maxHits} of them
+     * (use 1 for line of sight, {@link Integer#MAX_VALUE} for "everything").
+     * Only ids accepted by {@code filter} count (null = all). Walks the grid cells under the
+     * segment plus the neighbouring cells the thickness can reach; nothing else is touched.
+     * The part of the segment outside the grid is ignored.
+     * @return number of hits written to {@code out} (cleared first)
+     */
+    public int raycast(double x0, double y0, double x1, double y1, double halfThickness,
+                       int maxHits, IntPredicate filter, RayHits out) {
+        out.count = 0;
+        if (maxHits <= 0) return 0;
+        nextStamp();
+        // Few hits wanted: keep them sorted as we go (enables the early out). Many: sort once.
+        boolean bounded = maxHits <= SORTED_INSERT_LIMIT;
+        double dx = x1 - x0, dy = y1 - y0;
+        double ht = Math.max(0.0, halfThickness);
+
+        // Clip the segment to the grid rectangle
+        double tMin = 0.0, tMax = 1.0;
+        double gridW = cols * cellSize, gridH = rows * cellSize;
+        if (dx == 0.0) {
+            if (x0 < 0 || x0 > gridW) return 0;
+        } else {
+            double a = (0 - x0) / dx, b = (gridW - x0) / dx;
+            tMin = Math.max(tMin, Math.min(a, b));
+            tMax = Math.min(tMax, Math.max(a, b));
+        }
+        if (dy == 0.0) {
+            if (y0 < 0 || y0 > gridH) return 0;
+        } else {
+            double a = (0 - y0) / dy, b = (gridH - y0) / dy;
+            tMin = Math.max(tMin, Math.min(a, b));
+            tMax = Math.min(tMax, Math.max(a, b));
+        }
+        if (tMin > tMax) return 0;
+
+        int reach = (int) Math.ceil(ht * invCell);   // extra cells on each side covered by the thickness
+        int cx = col(x0 + dx * tMin), cy = row(y0 + dy * tMin);
+        int stepX = dx > 0 ? 1 : (dx < 0 ? -1 : 0);
+        int stepY = dy > 0 ? 1 : (dy < 0 ? -1 : 0);
+        double tDeltaX = stepX != 0 ? cellSize / Math.abs(dx) : Double.POSITIVE_INFINITY;
+        double tDeltaY = stepY != 0 ? cellSize / Math.abs(dy) : Double.POSITIVE_INFINITY;
+        double tNextX = stepX > 0 ? ((cx + 1) * cellSize - x0) / dx
+                      : stepX < 0 ? (cx * cellSize - x0) / dx : Double.POSITIVE_INFINITY;
+        double tNextY = stepY > 0 ? ((cy + 1) * cellSize - y0) / dy
+                      : stepY < 0 ? (cy * cellSize - y0) / dy : Double.POSITIVE_INFINITY;
+        double tCell = tMin;
+
+        while (true) {
+            // Hits are sorted by entry; once the buffer is full and this cell starts past the
+            // farthest kept hit, no unvisited box can enter earlier
+            if (bounded && out.count >= maxHits && tCell > out.t[out.count - 1]) break;
+
+            visitBlock(cx, cy, reach, x0, y0, x1, y1, ht, bounded ? maxHits : -1, filter, out);
+
+            if (tNextX < tNextY) {
+                if (tNextX > tMax) break;
+                tCell = tNextX;
+                cx += stepX;
+                tNextX += tDeltaX;
+            } else {
+                if (tNextY > tMax || stepY == 0) break;
+                tCell = tNextY;
+                cy += stepY;
+                tNextY += tDeltaY;
+            }
+            if (cx < 0 || cx >= cols || cy < 0 || cy >= rows) break;
+        }
+        if (!bounded) {
+            out.sort(0, out.count - 1);
+            if (out.count > maxHits) out.count = maxHits;
+        }
+        return out.count;
+    }
+
+    /** True when nothing accepted by {@code filter} touches the (thick) segment. */
+    public boolean lineOfSight(double x0, double y0, double x1, double y1, double halfThickness,
+                               IntPredicate filter, RayHits scratch) {
+        return raycast(x0, y0, x1, y1, halfThickness, 1, filter, scratch) == 0;
+    }
+
+    private void visitBlock(int cx, int cy, int reach,
+                            double x0, double y0, double x1, double y1, double ht,
+                            int limit, IntPredicate filter, RayHits out) {
+        int r0 = Math.max(0, cy - reach), r1 = Math.min(rows - 1, cy + reach);
+        int c0 = Math.max(0, cx - reach), c1 = Math.min(cols - 1, cx + reach);
+        double dx = x1 - x0, dy = y1 - y0;
+        double len2 = dx * dx + dy * dy;
+
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * cols + c;
+                if (cellStamp[cell] == stampNow) continue;   // neighbouring blocks overlap
+                cellStamp[cell] = stampNow;
+                for (int e = cellHead[cell]; e >= 0; e = entryNext[e]) {
+                    int id = entryId[e];
+                    if (stamp[id] == stampNow) continue;
+                    stamp[id] = stampNow;
+                    if (filter != null && !filter.test(id)) continue;
+
+                    int b = id * 4;
+                    double tEntry = segmentEntry(x0, y0, x1, y1, ht, ht, bounds[b], bounds[b + 1], bounds[b + 2], bounds[b + 3]);
+                    if (tEntry < 0) continue;
+
+                    // Impact point: centre line point nearest the box centre
+                    double bcx = (bounds[b] + bounds[b + 2]) * 0.5, bcy = (bounds[b + 1] + bounds[b + 3]) * 0.5;
+                    double s = len2 == 0 ? 0.0 : ((bcx - x0) * dx + (bcy - y0) * dy) / len2;
+                    s = Math.max(0.0, Math.min(1.0, s));
+                    if (limit < 0) out.append(id, tEntry, x0 + dx * s, y0 + dy * s);
+                    else out.offer(id, tEntry, x0 + dx * s, y0 + dy * s, limit);
+                }
+            }
+        }
+    }
+
+    /**
+     * Slab test of the segment (x0,y0)-(x1,y1) against the box grown by (hw,hh), i.e. a
+     * moving box of those half-extents against the original box.
+     * @return earliest entry in [0,1] (0 = starts inside), or -1 for a miss; grazing an
+     *         edge is a miss (strict overlap)
+     */
+    public static double segmentEntry(double x0, double y0, double x1, double y1, double hw, double hh,
+                                      double minX, double minY, double maxX, double maxY) {
+        double dx = x1 - x0, dy = y1 - y0;
+        double tEnter = 0.0, tExit = 1.0;
+        minX -= hw; minY -= hh; maxX += hw; maxY += hh;
+        if (dx == 0.0) {
+            if (x0 <= minX || x0 >= maxX) return -1.0;
+        } else {
+            double a = (minX - x0) / dx, b = (maxX - x0) / dx;
+            tEnter = Math.max(tEnter, Math.min(a, b));
+            tExit = Math.min(tExit, Math.max(a, b));
+            if (tEnter >= tExit) return -1.0;
+        }
+        if (dy == 0.0) {
+            if (y0 <= minY || y0 >= maxY) return -1.0;
+        } else {
+            double a = (minY - y0) / dy, b = (maxY - y0) / dy;
+            tEnter = Math.max(tEnter, Math.min(a, b));
+            tExit = Math.min(tExit, Math.max(a, b));
+            if (tEnter >= tExit) return -1.0;
+        }
+        return tEnter;
+    }
+
+    public double getCellSize() { return cellSize; }
+    public int getColumns() { return cols; }
+    public int getRows() { return rows; }
+
+    // ---------- Internals ----------
+
+    private static final int SORTED_INSERT_LIMIT = 16;
+
+    /** New query: ids/cells stamped with an older value count as unvisited. */
+    private void nextStamp() {
+        if (++stampNow == 0) {              // wrapped: forget old stamps
+            Arrays.fill(stamp, 0);
+            Arrays.fill(cellStamp, 0);
+            stampNow = 1;
+        }
+    }
+
+    private int col(double x) {
+        int c = (int) Math.floor(x * invCell);
+        return c < 0 ? 0 : (c >= cols ? cols - 1 : c);
+    }
+
+    private int row(double y) {
+        int r = (int) Math.floor(y * invCell);
+        return r < 0 ? 0 : (r >= rows ? rows - 1 : r);
+    }
+
+    private void ensureId(int id) {
+        if (id < stamp.length) return;
+        int n = Math.max(id + 1, stamp.length * 2);
+        stamp = Arrays.copyOf(stamp, n);
+        bounds = Arrays.copyOf(bounds, n * 4);
+    }
+}
@@ -0,0 +1,185 @@
+package advpro_game.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hashed timer wheel driven by simulation time instead of wall-clock animations.
+ * - Delays are rounded up to whole wheel ticks; a timer lives in bucket
+ *   {@code (now + ticks) & mask} with a round counter for delays longer than one revolution.
+ * - Scheduling and cancelling are O(1); each wheel tick only visits one bucket.
+ * - Time only moves through {@link #advance(double)}, so scaled (slow-mo) or paused
+ *   simulation time is followed automatically and headless runs fire timers in the same
+ *   order every time. Timers due on the same tick fire in scheduling order.
+ * - schedule/cancel may be called from any thread; tasks run on the thread calling advance.
+ */
+public final class TimerWheel {
+
+    /** Cancellable handle for one scheduled task. */
+    public static final class Timer {
+        private final TimerWheel wheel;
+        private Runnable task;
+        private long rounds;
+        private int bucket = -1;              // -1 once due or cancelled
+        private Timer prev, next;
+        private volatile boolean cancelled;
+
+        private Timer(TimerWheel wheel, Runnable task) {
+            this.wheel = wheel;
+            this.task = task;
+        }
+
+        /** Stop the task from running; false when it already fired or was cancelled. */
+        public boolean cancel() { return wheel.cancel(this); }
+
+        public boolean isCancelled() { return cancelled; }
+
+        /** True until the task has fired or the timer was cancelled. */
+        public boolean isPending() {
+            synchronized (wheel) { return task != null; }
+        }
+    }
+
+    /**
+     * A group of timers that are cancelled together, e.g. everything belonging to one stage.
+     * Replaces "capture a generation counter and compare it when the timer fires".
+     */
+    public static final class Scope {
+        private final TimerWheel wheel;
+        private final List<Timer> timers = new ArrayList<>();
+
+        private Scope(TimerWheel wheel) { this.wheel = wheel; }
+
+        public Timer schedule(double delayMs, Runnable task) {
+            Timer t = wheel.schedule(delayMs, task);
+            synchronized (timers) {
+                if (timers.size() >= 32) timers.removeIf(x -> !x.isPending());
+                timers.add(t);
+            }
+            return t;
+        }
+
+        public void cancelAll() {
+            synchronized (timers) {
+                for (Timer t : timers) t.cancel();
+                timers.clear();
+            }
+        }
+    }
+
+    private final Timer[] heads;
+    private final Timer[] tails;
+    private final int mask;
+    private final double tickMs;
+    private long tick = 0L;
+    private int pending = 0;
+    private double carryMs = 0.0;             // advance() thread only
+    private final ArrayList<Timer> due = new ArrayList<>();
+
+    /**
+     * @param slots  bucket count, rounded up to a power of two
+     * @param tickMs simulated milliseconds per wheel tick (the timer resolution)
+     */
+    public TimerWheel(int slots, double tickMs) {
+        if (tickMs <= 0.0) throw new IllegalArgumentException("tickMs must be > 0");
+        int n = Integer.highestOneBit(Math.max(1, slots - 1)) << 1;
+        heads = new Timer[n];
+        tails = new Timer[n];
+        mask = n - 1;
+        this.tickMs = tickMs;
+    }
+
+    public Scope newScope() { return new Scope(this); }
+
+    // ===================== Scheduling =====================
+
+    /** Run {@code task} once {@code delayMs} of simulated time has passed (at least one tick). */
+    public synchronized Timer schedule(double delayMs, Runnable task) {
+        if (task == null) throw new IllegalArgumentException("task == null");
+        long ticks = Math.max(1L, (long) Math.ceil(delayMs / tickMs - 1e-9));
+        Timer t = new Timer(this, task);
+        t.rounds = (ticks - 1) / heads.length;
+        t.bucket = (int) ((tick + ticks) & mask);
+        link(t);
+        pending++;
+        return t;
+    }
+
+    private synchronized boolean cancel(Timer t) {
+        if (t.task == null) return false;       // already fired or cancelled
+        if (t.bucket >= 0) {                    // still waiting (not in this tick's due list)
+            unlink(t);
+            pending--;
+        }
+        t.cancelled = true;
+        t.task = null;
+        return true;
+    }
+
+    // ===================== Time =====================
+
+    /** Move simulated time forward by {@code elapsedMs}, firing every timer that comes due. */
+    public void advance(double elapsedMs) {
+        if (!(elapsedMs > 0.0)) return;
+        carryMs += elapsedMs;
+        while (carryMs >= tickMs) {
+            carryMs -= tickMs;
+            step();
+        }
+    }
+
+    private void step() {
+        synchronized (this) {
+            tick++;
+            int b = (int) (tick & mask);
+            Timer t = heads[b];
+            while (t != null) {
+                Timer next = t.next;
+                if (t.rounds > 0) {
+                    t.rounds--;
+                } else {
+                    unlink(t);
+                    pending--;
+                    due.add(t);
+                }
+                t = next;
+            }
+            if (due.isEmpty()) return;
+        }
+        // Run outside the lock: tasks may schedule or cancel freely
+        for (int i = 0; i < due.size(); i++) {
+            Timer t = due.get(i);
+            Runnable r;
+            synchronized (this) { r = t.task; t.task = null; }
+            if (r == null) continue;   // cancelled by an earlier task this tick
+            try { r.run(); } catch (Throwable ex) { ex.printStackTrace(); }
+        }
+        due.clear();
+    }
+
+    /** Timers scheduled and not yet fired or cancelled. */
+    public synchronized int pendingCount() { return pending; }
+
+    /** Wheel ticks elapsed since construction. */
+    public synchronized long currentTick() { return tick; }
+
+    public double getTickMillis() { return tickMs; }
+
+    // ===================== Bucket lists =====================
+
+    private void link(Timer t) {
+        int b = t.bucket;
+        t.prev = tails[b];
+        t.next = null;
+        if (tails[b] == null) heads[b] = t; else tails[b].next = t;
+        tails[b] = t;
+    }
+
+    private void unlink(Timer t) {
+        int b = t.bucket;
+        if (t.prev == null) heads[b] = t.next; else t.prev.next = t.next;
+        if (t.next == null) tails[b] = t.prev; else t.next.prev = t.prev;
+        t.prev = t.next = null;
+        t.bucket = -1;
+    }
+}
@@ -0,0 +1,46 @@
+package advpro_game.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free single-writer/single-reader triple buffer.
+ * - The writer fills {@link #back()} and calls {@link #publish()}; it never waits.
+ * - The reader calls {@link #front()} and gets the newest published slot, which it owns
+ *   exclusively until its next {@code front()} call.
+ * - Slots are reused, so steady-state publishing allocates nothing.
+ */
+public final class TripleBuffer<T> {
+    private static final int INDEX_MASK = 0b011;
+    private static final int FRESH      = 0b100; // middle slot holds a publish the reader has not taken
+
+    private final Object[] slots = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back  = 0;   // writer-owned
+    private int front = 2;   // reader-owned
+
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < slots.length; i++) slots[i] = factory.get();
+    }
+
+    /** Writer: the slot to fill for the next publish. */
+    @SuppressWarnings("unchecked")
+    public T back() { return (T) slots[back]; }
+
+    /** Writer: hand the back slot to the reader and take the old middle slot as the new back. */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /** True when a publish happened since the reader last swapped. */
+    public boolean hasFresh() { return (middle.get() & FRESH) != 0; }
+
+    /** Reader: swap in the newest published slot (if any) and return it. */
+    @SuppressWarnings("unchecked")
+    public T front() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) slots[front];
+    }
+}
@@ -7,6 +7,7 @@ public final class Ui {
     private Ui() {}
 
     public static void runFx(Runnable r) {
+        if (Headless.isEnabled()) return;
         if (javafx.application.Platform.isFxApplicationThread()) r.run();
         else javafx.application.Platform.runLater(r);
     }
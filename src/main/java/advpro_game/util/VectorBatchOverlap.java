@@ -0,0 +1,37 @@
+package advpro_game.util;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API kernel: one compare per edge for a whole register of boxes
+ * (8 floats on AVX2, 16 on AVX-512), then only the set mask bits are visited.
+ * The remainder below a full register goes through the scalar loop.
+ */
+final class VectorBatchOverlap extends BatchOverlap {
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public int overlaps(float[] minX, float[] minY, float[] maxX, float[] maxY, int n,
+                        float tMinX, float tMinY, float tMaxX, float tMaxY, int[] out) {
+        int count = 0;
+        int i = 0;
+        int bound = SPECIES.loopBound(n);
+        for (; i < bound; i += SPECIES.length()) {
+            VectorMask<Float> hit = FloatVector.fromArray(SPECIES, maxX, i).compare(VectorOperators.GT, tMinX)
+                    .and(FloatVector.fromArray(SPECIES, minX, i).compare(VectorOperators.LT, tMaxX))
+                    .and(FloatVector.fromArray(SPECIES, maxY, i).compare(VectorOperators.GT, tMinY))
+                    .and(FloatVector.fromArray(SPECIES, minY, i).compare(VectorOperators.LT, tMaxY));
+            if (!hit.anyTrue()) continue;
+            for (long bits = hit.toLong(); bits != 0; bits &= bits - 1) {
+                out[count++] = i + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return ScalarBatchOverlap.tail(minX, minY, maxX, maxY, i, n, tMinX, tMinY, tMaxX, tMaxY, out, count);
+    }
+
+    @Override public int lanes()     { return SPECIES.length(); }
+    @Override public String name()   { return "vector" + SPECIES.length() + "x32"; }
+}
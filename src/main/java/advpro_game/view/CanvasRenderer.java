@@ -0,0 +1,142 @@
+package advpro_game.view;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+
+/**
+ * Immediate-mode {@link SnapshotRenderer}: every entry of a layer is drawn into one
+ * {@link Canvas} at the bottom of that layer, with a source-rect {@code drawImage} from its
+ * sprite sheet (or a filled box). The scene graph holds one node per layer however many
+ * bullets and enemies there are, so layout, CSS and picking cost stay flat.
+ * Nodes other renderers or effects put in a layer (e.g. the laser beam) draw above it.
+ */
+public final class CanvasRenderer implements SnapshotRenderer {
+    private final double width, height;
+
+    // ---------- Layers seen so far and their canvases (a handful) ----------
+    private Pane[] layers = new Pane[4];
+    private Canvas[] canvases = new Canvas[4];
+    private boolean[] dirty = new boolean[4];     // drawn into since the last clear
+    private int layerCount = 0;
+
+    private long drawn = 0;
+
+    /** Canvases of {@code width} x {@code height} px (the stage size). */
+    public CanvasRenderer(double width, double height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public void sync(WorldSnapshot s) {
+        Pane last = null;
+        for (int i = 0, n = s.size(); i < n; i++) {
+            Pane layer = s.getLayer(i);
+            if (layer == null || layer == last) continue;
+            Canvas c = canvases[slotOf(layer)];
+            if (c.getParent() != layer) layer.getChildren().add(0, c);  // layer was cleared
+            last = layer;
+        }
+    }
+
+    @Override
+    public void apply(WorldSnapshot s, double alpha) {
+        for (int k = 0; k < layerCount; k++) {
+            if (!dirty[k]) continue;
+            canvases[k].getGraphicsContext2D().clearRect(0, 0, width, height);
+            dirty[k] = false;
+        }
+
+        Pane lastLayer = null;
+        GraphicsContext gc = null;
+        for (int i = 0, n = s.size(); i < n; i++) {
+            Pane layer = s.getLayer(i);
+            if (layer == null) continue;
+            double o = s.getOpacity(i);
+            if (o <= 0.0) continue;
+            if (layer != lastLayer) {
+                int k = slotOf(layer);
+                gc = canvases[k].getGraphicsContext2D();
+                dirty[k] = true;
+                lastLayer = layer;
+            }
+            draw(gc, s, i, alpha, o);
+            drawn++;
+        }
+    }
+
+    private static void draw(GraphicsContext gc, WorldSnapshot s, int i, double alpha, double opacity) {
+        double x = s.lerpX(i, alpha), y = s.lerpY(i, alpha);
+        double w = s.getWidth(i), h = s.getHeight(i);
+        double sx = s.getScaleX(i);
+        boolean plain = sx == 1.0 && opacity == 1.0;
+        if (!plain) {
+            gc.save();
+            gc.setGlobalAlpha(opacity);
+            if (sx != 1.0) {                         // as a node's scaleX: about the box centre
+                gc.translate(x + w / 2, y);
+                gc.scale(sx, 1);
+                x = -w / 2;
+                y = 0;
+            }
+        }
+
+        Image img = s.getImage(i);
+        if (img != null) {
+            Rectangle2D vp = s.getViewport(i);
+            if (vp != null) {
+                gc.drawImage(img, vp.getMinX(), vp.getMinY(), vp.getWidth(), vp.getHeight(), x, y, w, h);
+            } else {
+                gc.drawImage(img, x, y, w, h);
+            }
+        } else {
+            Color fill = s.getFill(i);
+            if (fill != null) {
+                gc.setFill(fill);
+                gc.fillRect(x, y, w, h);
+            }
+        }
+
+        if (!plain) gc.restore();
+    }
+
+    @Override
+    public void clear() {
+        for (int k = 0; k < layerCount; k++) {
+            canvases[k].getGraphicsContext2D().clearRect(0, 0, width, height);
+            dirty[k] = false;
+            layers[k].getChildren().remove(canvases[k]);
+        }
+    }
+
+    /** Canvas drawing {@code layer}, or null when it has none yet. */
+    public Canvas canvasOf(Pane layer) {
+        for (int k = 0; k < layerCount; k++) if (layers[k] == layer) return canvases[k];
+        return null;
+    }
+
+    /** Entries drawn so far (over all pulses). */
+    public long getDrawnSprites() { return drawn; }
+
+    private int slotOf(Pane layer) {
+        for (int k = 0; k < layerCount; k++) if (layers[k] == layer) return k;
+        if (layerCount == layers.length) {
+            layers = Arrays.copyOf(layers, layerCount * 2);
+            canvases = Arrays.copyOf(canvases, layerCount * 2);
+            dirty = Arrays.copyOf(dirty, layerCount * 2);
+        }
+        Canvas c = new Canvas(width, height);
+        c.setManaged(false);
+        c.setMouseTransparent(true);
+        c.getGraphicsContext2D().setImageSmoothing(false);   // pixel art, like the image views
+        layers[layerCount] = layer;
+        canvases[layerCount] = c;
+        return layerCount++;
+    }
+}
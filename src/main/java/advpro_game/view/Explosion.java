@@ -1,4 +1,4 @@
-package advpro_game.model;
+package advpro_game.view;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
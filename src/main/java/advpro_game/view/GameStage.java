@@ -3,11 +3,16 @@ package advpro_game.view;
 import advpro_game.Launcher;
 import advpro_game.audio.AudioManager;
 import advpro_game.model.*;
+import advpro_game.model.CollisionLayer;
+import advpro_game.model.ContactBuffer;
 import advpro_game.model.Platform;
-import advpro_game.model.LaserBeamUltimate;
+import advpro_game.model.PlatformIndex;
+import advpro_game.util.GameClock;
+import advpro_game.util.Headless;
+import advpro_game.util.SpatialHash;
+import advpro_game.util.TimerWheel;
 
 import javafx.geometry.Pos;
-import javafx.geometry.Rectangle2D;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.image.Image;
@@ -21,14 +26,14 @@ import javafx.scene.shape.Rectangle;
 
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.function.IntPredicate;
 
 public class GameStage extends Pane {
     // ---- Dimensions / ground ----
-    public static final int WIDTH  = 800;
-    public static final int HEIGHT = 400;
-    public static final int GROUND = 350; // unified ground level
+    public static final int WIDTH  = Arena.WIDTH;
+    public static final int HEIGHT = Arena.HEIGHT;
+    public static final int GROUND = Arena.GROUND;
 
     // --- Stable render root: sprite always at index 0; effects stacked above it ---
     private final javafx.scene.Group spriteRoot = new javafx.scene.Group();
@@ -39,6 +44,9 @@ public class GameStage extends Pane {
     public double getMouseX() { return mouseX; }
     public double getMouseY() { return mouseY; }
 
+    /** Point the aim somewhere without a mouse (scripted and bot input). */
+    public void setAimPoint(double x, double y) { mouseX = x; mouseY = y; }
+
     private boolean autoFallbackToSafetyMinions = true;
 
     // -------- Deferred scene-graph mutations while worldReady == false --------
@@ -75,6 +83,24 @@ public class GameStage extends Pane {
         }
     }
 
+    // -------- Commands for the simulation thread (input handlers, overlays) --------
+    private final java.util.concurrent.ConcurrentLinkedQueue<Runnable> simCommands =
+            new java.util.concurrent.ConcurrentLinkedQueue<>();
+
+    /** Any thread: queue a world mutation; GameLoop applies it at the start of the next tick. */
+    public void runOnSimulation(Runnable r) {
+        if (r != null) simCommands.add(r);
+    }
+
+    /** Simulation thread, start of a tick: apply queued commands in submission order. */
+    public void applySimCommands() {
+        Runnable r;
+        while ((r = simCommands.poll()) != null) {
+            try { r.run(); }
+            catch (Throwable t) { LOG.warn("Simulation command failed: " + t); }
+        }
+    }
+
     // ---- Layers (fixed order; never replace setAll to avoid index crashes) ----
     private final Pane backgroundLayer = new Pane();
     private final Pane worldLayer      = new Pane();   // player / static world
@@ -107,8 +133,13 @@ public class GameStage extends Pane {
         });
     }
 
-    // ----- generation & safety spawn controls -----
-    private int generation = 0;
+    // ----- simulation time: advanced once per tick by the GameLoop -----
+    private final GameClock clock = new GameClock();
+
+    // ----- stage-flow timers & safety spawn controls -----
+    // Ticked with WORLD time (follows slow-mo); the stage scope is cancelled on every setStage.
+    private final TimerWheel timers = new TimerWheel(256, 1000.0 / 240.0);
+    private final TimerWheel.Scope stageTimers = timers.newScope();
 
     // OFF by default so StageManager fully controls spawns:
     private boolean allowSafetyMinions = false;
@@ -135,20 +166,45 @@ public class GameStage extends Pane {
 
     // ---- World data (logical) ----
     private final List<Platform> platforms = new ArrayList<>();
-    private final List<Bullet> bullets     = new ArrayList<>();
-    private final List<Enemy> enemies      = new ArrayList<>();
+    private PlatformIndex platformIndex = PlatformIndex.EMPTY;   // rebuilt by setStage(...)
+    // Structural changes are queued and committed by GameLoop at the end of each tick
+    private final BulletSystem bullets = new BulletSystem(256);
+    private final EntityRegistry<Enemy>  enemies = new EntityRegistry<>(32);
+    // Enemy behavior: ECS world kept in step with the committed enemies
+    private final EnemySystems enemySystems = new EnemySystems();
+    // Enemies by archetype; wave spawns reuse the ones the registry let go
+    private final EnemyPool enemyPool = new EnemyPool();
+    // Hits of the current tick (laser here, shots in GameLoop's COLLISIONS stage), resolved once
+    private final ContactBuffer contacts = new ContactBuffer();
+
+    // Default-config bullets (player shots, spriteless enemies) kept idle in the shared pool from each
+    // stage load, or the bucket's high-water mark if higher; StageRoster.prewarm sizes the roster's shots
+    private static final int PLAYER_BULLET_PREWARM = 32;
+
+    // Render hand-off: one triple-buffered snapshot per sim tick, applied by the FX pulse (DrawingLoop)
+    private final RenderCommit renderCommit = new RenderCommit();
+    private long renderTick = 0L;
 
     private static final double LASER_RANGE_PIXELS      = WIDTH + 200.0;
     private static final double LASER_HALF_THICKNESS_PX = 30.0;
-    private static final int    LASER_SCORE_HIT         = 25;
-    private static final int    LASER_SCORE_KILL        = 50;
+    private volatile double laserHalfThickness = LASER_HALF_THICKNESS_PX;
+    private volatile int laserPierce = Integer.MAX_VALUE;   // enemies one beam may hit
+    private final SpatialHash.RayHits laserHits = new SpatialHash.RayHits();
+
+    // Enemy broadphase shared by bullet collisions and the laser, keyed by enemy list index.
+    // Rebuilt lazily once enemies moved or the committed list changed.
+    private static final double ENEMY_CELL_PX = 64.0;
+    private final SpatialHash enemyGrid = new SpatialHash(WIDTH, HEIGHT, ENEMY_CELL_PX);
+    private final MutableAabb gridScratch = new MutableAabb();
+    private final IntPredicate liveEnemy = i -> !enemies.get(i).isDead();
+    private boolean enemyGridDirty = true;
 
     // ---- Input state ----
     private final Keys keys = new Keys();
     private MouseButton mouseButton; // kept for API compatibility (not used directly)
 
     // ---- Stage tracking ----
-    private int currentStage = 1; // default
+    private volatile int currentStage = 1; // default
     public int getCurrentStage() { return currentStage; }
 
     // ---- Base input handlers (restorable after overlays) ----
@@ -169,6 +225,7 @@ public class GameStage extends Pane {
 
     // ---- Slow-time ----
     private double slowMoEnergy            = 1.0;  // 0..1
+    private int shownSlowPx                = -1;   // meter width on screen (FX thread)
     private final double slowMoDrainRate   = 0.35; // per second
     private final double slowMoRechargeRate= 0.20; // per second
     private final double slowMoScale       = 0.55; // active time scale
@@ -176,10 +233,11 @@ public class GameStage extends Pane {
 
     // ---- Win/overlay guards ----
     private javafx.scene.Group gameClearOverlay = null;
-    private boolean gameClearShown    = false; // prevent dup overlay
-    private boolean winCheckEnabled   = true;  // disarm while resetting
-    private boolean victoryShown      = false; // for shouldShowVictory()
-    private boolean hadEnemiesThisStage = false;
+    // Written by stage-flow timers on the simulation thread and by overlays on the FX thread
+    private volatile boolean gameClearShown    = false; // prevent dup overlay
+    private volatile boolean winCheckEnabled   = true;  // disarm while resetting
+    private volatile boolean victoryShown      = false; // for shouldShowVictory()
+    private volatile boolean hadEnemiesThisStage = false;
     private boolean gameOverOverlayShown = false;
 
     // ---- Callbacks for launcher wiring ----
@@ -203,17 +261,20 @@ public class GameStage extends Pane {
             attach.invoke(m, this);
             LOG.info("StageManager accepted GameStage via reflection.");
         } catch (NoSuchMethodException nsme) {
-            LOG.fine("StageManager has no setGameStage(GameStage); skipping reflective wiring.");
+            LOG.debug("StageManager has no setGameStage(GameStage); skipping reflective wiring.");
         } catch (Throwable t) {
-            LOG.warning("Failed to reflectively set GameStage on StageManager: " + t);
+            LOG.warn("Failed to reflectively set GameStage on StageManager: " + t);
         }
     }
 
     // ---- Logger ----
-    private static final java.util.logging.Logger LOG =
-            java.util.logging.Logger.getLogger(GameStage.class.getName());
+    private static final org.apache.logging.log4j.Logger LOG =
+            org.apache.logging.log4j.LogManager.getLogger(GameStage.class);
 
     public GameStage() {
+        bullets.setRemovalListener(BulletPool.shared()::release);
+        enemies.setColumns(enemySystems);
+        enemies.setRemovalListener(enemyPool::release);
 
         // Attach once; never remove this group
         getChildren().add(spriteRoot);
@@ -277,17 +338,20 @@ public class GameStage extends Pane {
                 KeyCode.W, KeyCode.S,
                 MouseButton.PRIMARY
         );
+        p1.attachClock(clock);
         gameCharacterList.add(p1);
-        Ui.safeAdd(worldLayer, p1);
         try { p1.setBulletSink(this::addBullet); }
-        catch (Throwable t) { LOG.fine("setBulletSink unavailable; direct adds will be used."); }
-
-        // ---- Score (center-top) ----
-        Score s1 = new Score(0, 0);
-        s1.setLayoutX((WIDTH / 2.0) - 40);
-        s1.setLayoutY(8);
-        scoreList.add(s1);
-        hudLayer.getChildren().addAll(s1, livesBox, slowBg, slowFill);
+        catch (Throwable t) { LOG.debug("setBulletSink unavailable; direct adds will be used."); }
+
+        // ---- Score (center-top; its Label needs the toolkit, so none when headless) ----
+        if (!Headless.isEnabled()) {
+            Score s1 = new Score(0, 0);
+            s1.setLayoutX((WIDTH / 2.0) - 40);
+            s1.setLayoutY(8);
+            scoreList.add(s1);
+            hudLayer.getChildren().add(s1);
+        }
+        hudLayer.getChildren().addAll(livesBox, slowBg, slowFill);
 
         // ---- First stage ----
         setStage(1);
@@ -338,22 +402,16 @@ public class GameStage extends Pane {
                 m.invoke(stageManager, stageNumber);
                 LOG.info("StageManager.setStage(" + stageNumber + ") invoked via reflection.");
             } catch (NoSuchMethodException ignored) {
-                LOG.fine("StageManager has no setStage(int); continuing.");
+                LOG.debug("StageManager has no setStage(int); continuing.");
             } catch (Throwable t) {
-                LOG.warning("Could not call StageManager.setStage(int): " + t);
+                LOG.warn("Could not call StageManager.setStage(int): " + t);
             }
         }
 
-        generation++; // invalidate any stale timers from prior stage
-        final int token = generation; // capture for timers to guard late-firing
-
-        // >>> CRITICAL: play this drain pulse so the rest of the logic actually runs
-        javafx.animation.PauseTransition drain =
-                new javafx.animation.PauseTransition(javafx.util.Duration.millis(16));
-
-        drain.setOnFinished(ev -> {
-            if (token != generation) return; // stage changed again, ignore
+        stageTimers.cancelAll(); // timers of the prior stage must never fire
 
+        // Drain one tick, then rebuild on the simulation thread
+        stageTimers.schedule(16, () -> {
             // reset flags
             hadEnemiesThisStage = false;
             victoryShown = false;
@@ -368,9 +426,12 @@ public class GameStage extends Pane {
             platforms.clear();
             enemies.clear();
             bullets.clear();
+            contacts.clear();
+            renderCommit.discard();
 
             // ground
             platforms.add(Platform.solid(0, GROUND, WIDTH, 100));
+            BulletPool.shared().prewarm(BulletConfig.DEFAULT, PLAYER_BULLET_PREWARM);
 
             try {
                 switch (stageNumber) {
@@ -400,15 +461,12 @@ public class GameStage extends Pane {
                     }
                 }
             } catch (Throwable t) {
-                LOG.warning("Stage setup failed: " + t);
+                LOG.warn("Stage setup failed: " + t);
             }
+            platformIndex = new PlatformIndex(platforms);
 
             // ---- ARM + SAFETIES (robust) ----
-            javafx.animation.PauseTransition arm =
-                    new javafx.animation.PauseTransition(javafx.util.Duration.millis(80));
-            arm.setOnFinished(_ev -> {
-                if (token != generation) return; // stage changed, ignore
-
+            stageTimers.schedule(80, () -> {
                 // 1) Mark unlocked
                 worldReady = true;
 
@@ -420,7 +478,7 @@ public class GameStage extends Pane {
                 try {
                     spawnedNow = trySpawnForStageOnce(currentStage);
                 } catch (Throwable t) {
-                    LOG.warning("Spawn attempt failed (arm): " + t);
+                    LOG.warn("Spawn attempt failed (arm): " + t);
                 }
 
                 if (!spawnedNow && (allowSafetyMinions || autoFallbackToSafetyMinions) && lacksMinions()) {
@@ -428,7 +486,7 @@ public class GameStage extends Pane {
                         spawnDefaultMinionsFor(currentStage);
                         LOG.info("Arm: fall back to safety minions for stage " + currentStage);
                     } catch (Throwable t) {
-                        LOG.warning("Fallback spawn failed (arm): " + t);
+                        LOG.warn("Fallback spawn failed (arm): " + t);
                     }
                 } else if (spawnedNow) {
                     LOG.info("Arm: enemies spawned for stage " + currentStage);
@@ -439,13 +497,9 @@ public class GameStage extends Pane {
                 // 4) Flush deferred ops queue
                 rearmWorldReadySoon();
             });
-            arm.play();
 
             // Safety #1 at ~600ms
-            javafx.animation.PauseTransition safety600 =
-                    new javafx.animation.PauseTransition(javafx.util.Duration.millis(600));
-            safety600.setOnFinished(__ -> {
-                if (token != generation) return;
+            stageTimers.schedule(600, () -> {
                 try {
                     if (noEnemiesVisible()) {
                         boolean spawned = trySpawnForStageOnce(currentStage);
@@ -461,16 +515,12 @@ public class GameStage extends Pane {
                         LOG.info("Safety600: enemies already visible, skipping.");
                     }
                 } catch (Throwable t) {
-                    LOG.warning("Safety600 failed: " + t);
+                    LOG.warn("Safety600 failed: " + t);
                 }
             });
-            safety600.play();
 
             // Safety #2 at ~1500ms (final guarantee)
-            javafx.animation.PauseTransition safety1500 =
-                    new javafx.animation.PauseTransition(javafx.util.Duration.millis(1500));
-            safety1500.setOnFinished(__ -> {
-                if (token != generation) return;
+            stageTimers.schedule(1500, () -> {
                 try {
                     if (noEnemiesVisible()) {
                         boolean spawned = trySpawnForStageOnce(currentStage);
@@ -486,26 +536,22 @@ public class GameStage extends Pane {
                         LOG.info("Safety1500: enemies already visible, skipping.");
                     }
                 } catch (Throwable t) {
-                    LOG.warning("Safety1500 failed: " + t);
+                    LOG.warn("Safety1500 failed: " + t);
                 }
             });
-            safety1500.play();
 
             LOG.info("Stage " + stageNumber + " initialized (arm +80ms).");
         });
-
-        drain.play();
     }
 
     private boolean lacksMinions() {
-        for (var e : enemies) {
-            if (e instanceof Minion || e instanceof EliteMinion) return false;
-        }
-        return true;
+        return !enemies.anyExpected(e -> e instanceof Minion || e instanceof EliteMinion);
     }
 
     private void safePlayBGM(String path) {
-        try { AudioManager.playBGM(path); } catch (Throwable ignored) { /* media module missing: noop */ }
+        Ui.later(() -> {
+            try { AudioManager.playBGM(path); } catch (Throwable ignored) { /* media module missing: noop */ }
+        });
     }
 
     public void setStageBackground(int index) {
@@ -524,84 +570,14 @@ public class GameStage extends Pane {
     }
 
     public void spawnDefaultMinionsFor(int stageIdx) {
-        switch (stageIdx) {
-            case 1 -> {
-                addEnemy(new Minion(415, 190,48, 60,
-                        "/advpro_game/assets/minion1_L.png",
-                        1, 1, 1, 24, 31));
-
-
-                addEnemy(new Minion(250, 220,48, 60,
-                        "/advpro_game/assets/minion1_L.png",
-                        1, 1, 1, 24, 31));
-
-                addEnemy(new Minion(350, GROUND - 50,48, 60,
-                        "/advpro_game/assets/minion1_L.png",
-                        1, 1, 1, 24, 31));
-
-                addEnemy(new EliteMinion(550, GROUND - 60, 60, 80,
-                        "/advpro_game/assets/elite_1.png",
-                        3, 3, 1, 26, 28, 300));
-            }
-            case 2 -> {
-                addEnemy(new Minion(150, 50,60, 60,
-                        "/advpro_game/assets/minion_2.png",
-                        2, 2, 1, 33, 32));
-
-                addEnemy(new Minion(300, 50,60, 60,
-                        "/advpro_game/assets/minion_2.png",
-                        2, 2, 1, 33, 32));
-
-                addEnemy(new Minion(450, 50,60, 60,
-                        "/advpro_game/assets/minion_2.png",
-                        2, 2, 1, 33, 32));
-
-                addEnemy(new Minion(600, 50,60, 60,
-                        "/advpro_game/assets/minion_2.png",
-                        2, 2, 1, 33, 32));
-
-                addEnemy(new EliteMinion(550, GameStage.GROUND - 80, 80, 80,
-                        "/advpro_game/assets/elite_minion_2.png",
-                        3, 2, 2, 32, 32, 300));
-
-                addEnemy(new EliteMinion(550, GameStage.GROUND - 80, 80, 80,
-                        "/advpro_game/assets/elite_minion_2.png",
-                        3, 2, 2, 32, 32, 200));
-            }
-
-            case 3 -> {
-                addEnemy(new Minion(450, 240,60, 60,
-                        "/advpro_game/assets/minion_3-1.png",
-                        1, 2, 1, 33, 32));
-
-                addEnemy(new Minion(600,  240,60, 60,
-                        "/advpro_game/assets/minion_3-1.png",
-                        1, 2, 1, 33, 32));
-
-                addEnemy(new Minion(150,  80,60, 60,
-                        "/advpro_game/assets/minion_3-2.png",
-                        3, 3, 1, 24, 16));
-
-                addEnemy(new Minion(300,  50,60, 60,
-                        "/advpro_game/assets/minion_3-2.png",
-                        3, 3, 1, 24, 16));
-
-                addEnemy(new Minion(450,  80,60, 60,
-                        "/advpro_game/assets/minion_3-2.png",
-                        3, 3, 1, 24, 16));
-
-                addEnemy(new Minion(600,  50,60, 60,
-                        "/advpro_game/assets/minion_3-2.png",
-                        3, 3, 1, 24, 16));
-
-                addEnemy(new EliteMinion(650, GROUND - 120, 80, 160,
-                        "/advpro_game/assets/elite_3.png",
-                        10, 5, 1, 50, 66, 200));
-            }
-            default -> {
-                addEnemy(new Minion(200, GROUND - 50));
-                addEnemy(new Minion(300, GROUND - 50));
-            }
+        List<StageRoster.Spawn> wave = StageRoster.minions(stageIdx);
+        if (wave.isEmpty()) {
+            addEnemy(new Minion(200, GROUND - 50));
+            addEnemy(new Minion(300, GROUND - 50));
+            return;
+        }
+        for (int i = 0, n = wave.size(); i < n; i++) {
+            addEnemy(wave.get(i).acquire(enemyPool));
         }
     }
 
@@ -615,10 +591,17 @@ public class GameStage extends Pane {
             slowMoEnergy += slowMoRechargeRate * dtSeconds;
         }
         slowMoEnergy = Math.max(0.0, Math.min(1.0, slowMoEnergy));
-        Ui.later(() -> slowFill.setWidth(slowBg.getWidth() * slowMoEnergy));
+        applySlowMoScale();
     }
     public double getTimeScale() { return slowMoActive ? slowMoScale : 1.0; }
 
+    /** Slow-mo slows the world and the enemies in it; the player and UI keep real speed. */
+    private void applySlowMoScale() {
+        double s = getTimeScale();
+        clock.setScale(GameClock.Domain.WORLD, s);
+        clock.setScale(GameClock.Domain.ENEMIES, s);
+    }
+
     // =================== HUD ===================
     public void updateLivesHUD(int lives) {
         if (lives < 0) lives = 0;
@@ -644,13 +627,70 @@ public class GameStage extends Pane {
 
     // =================== Public API (used by loops/managers) ===================
     public List<Platform> getPlatforms() { return platforms; }
-    public List<Bullet>   getBullets()   { return bullets; }
-    public List<Enemy>    getEnemies()   { return enemies; }
+    /** Landing index over {@link #getPlatforms()} as of the last stage switch. */
+    public PlatformIndex getPlatformIndex() { return platformIndex; }
+    public BulletSystem getBullets() { return bullets; }
+    public EntityRegistry<Enemy>  getEnemies() { return enemies; }
+    public EnemySystems getEnemySystems() { return enemySystems; }
+    /** Enemy pool the stage's waves are drawn from. */
+    public EnemyPool getEnemyPool() { return enemyPool; }
+    /** This tick's unresolved contacts (simulation thread). */
+    public ContactBuffer getContacts() { return contacts; }
+
+    /** Simulation time of this session; model timing reads its domains instead of the wall clock. */
+    public GameClock getClock() { return clock; }
+
+    /** Stage-flow timers; advanced by the simulation, so they follow slow-mo and stop with the loop. */
+    public TimerWheel getTimers() { return timers; }
+
+    /** Simulation thread: advance stage-flow timers by the WORLD time of the current tick. */
+    public void advanceTimers() {
+        timers.advance(clock.dtMillis(GameClock.Domain.WORLD));
+    }
+
+    /** Apply queued bullet/enemy adds and removes (simulation thread, end of tick). */
+    public void commitEntityChanges() {
+        bullets.commit();
+        if (enemies.commit()) enemyGridDirty = true;
+    }
+
+    /** Broadphase over the committed enemies (simulation thread); dead ones may linger until the next rebuild. */
+    public SpatialHash enemyBroadphase() {
+        if (enemyGridDirty) {
+            enemyGrid.clear();
+            for (int i = 0, n = enemies.size(); i < n; i++) {
+                Enemy e = enemies.get(i);
+                if (e.isDead()) continue;
+                MutableAabb box = e.hitboxInto(gridScratch);
+                enemyGrid.insert(i, box.minX, box.minY, box.maxX, box.maxY);
+            }
+            enemyGridDirty = false;
+        }
+        return enemyGrid;
+    }
+
+    /** Enemies moved: rebuild the broadphase on its next use. */
+    public void invalidateEnemyBroadphase() { enemyGridDirty = true; }
+
+    /** Laser tuning: how many enemies one beam may pass through, and its half-thickness in px. */
+    public void setLaserPierce(int maxEnemies) { laserPierce = Math.max(1, maxEnemies); }
+    public void setLaserHalfThickness(double px) { laserHalfThickness = Math.max(0.0, px); }
+    /** FX thread, once per frame: fill the slow-mo meter (0..1) when its pixel width changes. */
+    public void updateSlowMoHUD(double energy) {
+        int px = (int) Math.round(slowBg.getWidth() * energy);
+        if (px == shownSlowPx) return;
+        slowFill.setWidth(px);
+        shownSlowPx = px;
+    }
     public GraphicsContext getDebugGC()  { return debugCanvas.getGraphicsContext2D(); }
 
+    /** Show or hide the hitbox overlay that DrawingLoop paints from each snapshot; hiding also wipes it. */
     public void setDebugOverlayVisible(boolean visible) {
         debugOverlayVisible = visible;
-        Ui.later(() -> debugCanvas.setVisible(visible));
+        Ui.later(() -> {
+            debugCanvas.setVisible(visible);
+            if (!visible) debugCanvas.getGraphicsContext2D().clearRect(0, 0, WIDTH, HEIGHT);
+        });
     }
 
     public boolean isDebugOverlayVisible() {
@@ -671,38 +711,49 @@ public class GameStage extends Pane {
     public MouseButton getMouseButton() { return mouseButton; } // compat
     public Pane getDBoverlay() { return overlayLayer; } // compat with older code
 
+    /** Fill and publish this tick's world snapshot (simulation thread, RENDER_COMMIT stage). */
+    public void commitRenderFrame() {
+        WorldSnapshot out = renderCommit.begin(++renderTick);
+        out.layer(worldLayer);  // nodes are bound to render ids and join/leave their layer with the frame
+        for (GameCharacter c : gameCharacterList) {
+            if (c == null) continue;
+            out.add(c);
+            out.addCharacterBox(c);
+        }
+        out.layer(enemyLayer);
+        for (int i = 0, n = enemies.size(); i < n; i++) out.add(enemies.get(i));
+        out.layer(bulletLayer);
+        for (int i = 0, n = bullets.size(); i < n; i++) out.add(bullets.get(i));
+
+        for (Platform p : platforms) if (p != null) out.addPlatform(p.getHitbox(), p.isSolid());
+        GameCharacter player = getPlayer();
+        if (player != null) out.setPlayerHud(player.getScore(), player.getLives());
+        out.setSlowMoEnergy(slowMoEnergy);
+
+        renderCommit.publish();
+    }
+
+    /**
+     * Apply the newest world snapshot at interpolation factor {@code alpha} (FX thread).
+     * @return the applied snapshot for HUD/debug reads (valid until the next call), or null
+     */
+    public WorldSnapshot applyRenderFrame(double alpha) {
+        return renderCommit.apply(alpha);
+    }
+
+    public RenderCommit getRenderCommit() { return renderCommit; }
+
     // For GameLoop victory gating
-    public boolean shouldShowVictory() { return !victoryShown && hadEnemiesThisStage && enemies.isEmpty(); }
+    public boolean shouldShowVictory() { return !victoryShown && hadEnemiesThisStage && enemies.expectedSize() == 0; }
     public void markVictoryShown() { victoryShown = true; }
 
     // =================== Node management (FX-safe) ===================
+    // Bullets and enemies own no nodes; the view binding builds and drops them with the frame
     public void addBullet(Bullet b) {
-        if (b == null) return;
-        if (!bullets.contains(b)) bullets.add(b);
-        Runnable addVisual = () -> {
-            try {
-                javafx.scene.Node node = (b == null) ? null : b.getNode();
-                if (node != null) Ui.safeAdd(bulletLayer, node);
-                else System.err.println("WARN addBullet: Bullet.getNode() is null; logic-only.");
-            } catch (Throwable t) {
-                System.err.println("WARN addBullet: " + t);
-            }
-        };
-        runOrDefer(addVisual);
+        bullets.add(b);
     }
 
     public void removeBullet(Bullet b) {
-        if (b == null) return;
-        Runnable removeVisual = () -> {
-            try {
-                javafx.scene.Node node = b.getNode();
-                if (node != null) Ui.safeRemove(bulletLayer, node);
-            } catch (Throwable ignored) {}
-        };
-        // defer one pulse to avoid interleaving with clears; also safe if locked
-        javafx.animation.PauseTransition pt = new javafx.animation.PauseTransition(javafx.util.Duration.millis(1));
-        pt.setOnFinished(ev -> runOrDefer(removeVisual));
-        pt.play();
         bullets.remove(b);
     }
 
@@ -734,110 +785,29 @@ public class GameStage extends Pane {
 
         AudioManager.playSFX("/advpro_game/assets/sfx_shoot.mp3");
 
+        // Nearest first, up to the pierce count; only the grid cells along the beam are visited.
+        // Damage and score are applied with the tick's other contacts.
         int damage = shooter.getLaserDamage();
-        for (Enemy enemy : new ArrayList<>(enemies)) {
-            if (enemy == null) continue;
-            Rectangle2D hitbox;
-            try { hitbox = enemy.getHitbox(); }
-            catch (Throwable ignored) { continue; }
-            if (hitbox == null) continue;
-
-            if (!intersectsBeam(hitbox, startX, startY, endX, endY, LASER_HALF_THICKNESS_PX)) continue;
-
-            boolean dead = false;
-            try { dead = enemy.hit(damage); }
-            catch (Throwable ignored) {}
-
-            try { shooter.addScore(dead ? LASER_SCORE_KILL : LASER_SCORE_HIT); }
-            catch (Throwable ignored) {}
-
-            double[] impact = closestPointOnSegment(
-                    hitbox.getMinX() + hitbox.getWidth() * 0.5,
-                    hitbox.getMinY() + hitbox.getHeight() * 0.5,
-                    startX, startY, endX, endY);
-            if (impact != null) showHitFlash(impact[0], impact[1]);
+        int hits = enemyBroadphase().raycast(startX, startY, endX, endY,
+                laserHalfThickness, laserPierce, liveEnemy, laserHits);
+        for (int h = 0; h < hits; h++) {
+            contacts.add(CollisionLayer.LASER, shooter, CollisionLayer.ENEMY, enemies.get(laserHits.id(h)),
+                    damage, laserHits.t(h), laserHits.x(h), laserHits.y(h));
         }
     }
 
     public void addEnemy(Enemy e) {
         if (e == null) return;
-        if (!enemies.contains(e)) enemies.add(e);
+        e.attachClock(clock);
+        // Bullets it fires were prewarmed at stage load (StageRoster.prewarm)
+        enemies.add(e);
         hadEnemiesThisStage = true;
-
-        Runnable addVisual = () -> {
-            try {
-                javafx.scene.Node node = null;
-                try { node = e.getNode(); } catch (Throwable ignored) {}
-                if (node == null && e instanceof javafx.scene.Node n2) node = n2;
-                if (node != null) Ui.safeAdd(enemyLayer, node);
-                else System.err.println("WARN addEnemy: enemy has no Node; logic only (no visual).");
-            } catch (Throwable t) {
-                System.err.println("WARN addEnemy: " + t);
-            }
-        };
-
-        runOrDefer(addVisual);
     }
 
     public void removeEnemy(Enemy e) {
-        if (e == null) return;
-        try {
-            javafx.scene.Node node = null;
-            try { node = e.getNode(); } catch (Throwable ignored) {}
-            if (node == null && e instanceof javafx.scene.Node n2) node = n2;
-
-            final javafx.scene.Node nodeRef = node; // <- make it effectively final
-            if (nodeRef != null) {
-                runOrDefer(() -> Ui.safeRemove(enemyLayer, nodeRef));
-            }
-        } catch (Throwable ignored) {}
         enemies.remove(e);
     }
 
-    // Optional local update (useful for debug tools)
-    private void update(double dtSec) {
-        // bullets
-        Iterator<Bullet> it = bullets.iterator();
-        while (it.hasNext()) {
-            Bullet b = it.next();
-            try {
-                b.update(dtSec);
-                for (Enemy e : new ArrayList<>(enemies)) { // copy to be safe if enemy.update removes itself
-                    try {
-                        if (b.getHitbox().intersects(e.getHitbox())) {
-                            e.hit(1);
-                            it.remove();
-                            Ui.safeRemove(bulletLayer, b.getNode());
-                            break;
-                        }
-                    } catch (Throwable ignored) {}
-                }
-            } catch (Throwable t) {
-                LOG.warning("Bullet update failed: " + t);
-            }
-        }
-        // enemies
-        for (Enemy e : new ArrayList<>(enemies)) {
-            try {
-                GameCharacter p = getPlayer();
-                e.update(dtSec, p);
-            } catch (Throwable t) {
-                LOG.warning("Enemy update failed: " + t);
-            }
-        }
-        // players
-        for (GameCharacter c : new ArrayList<>(gameCharacterList)) {
-            try {
-                c.repaint(dtSec);
-                c.checkPlatformCollision(platforms);
-                c.checkReachHighest();
-                c.checkReachFloor();
-            } catch (Throwable t) {
-                LOG.warning("Player update failed: " + t);
-            }
-        }
-    }
-
     // =================== Effects / Overlays ===================
     public void showHitFlash(double x, double y) {
         Ui.later(() -> {
@@ -980,105 +950,34 @@ public class GameStage extends Pane {
             });
 
             try { AudioManager.playSFX("/advpro_game/assets/sfx_stageclear.mp3"); } catch (Exception ignored) {}
-            System.out.println("INFO: All stages cleared!");
+            LOG.info("All stages cleared!");
         });
     }
 
     // --------- Restart / Retry helpers ----------
+    /** FX thread: drop the overlay and hand the world reset to the simulation thread. */
     private void restartFromStage1() {
-        Ui.later(() -> {
-            worldReady = false;
-            System.out.println("INFO: Restarting from Stage 1...");
-
-            detachVolatileLayers();
-
-            // disarm win checks while resetting
-            winCheckEnabled = false;
-            gameClearShown  = false;
-            victoryShown    = false;
-
-            // remove overlay & restore base inputs
-            overlayLayer.getChildren().remove(gameClearOverlay);
-            gameClearOverlay = null;
-            overlayLayer.setMouseTransparent(true);
-            overlayLayer.setPickOnBounds(false);
-            restoreBaseInputHandlers();
-
-
-            // clear world
-            bullets.clear();
-            enemies.clear();
-            hadEnemiesThisStage = false;
-            Ui.safeClear(bulletLayer);
-            Ui.safeClear(enemyLayer);
-
-            // reset HUD/slow-mo
-            slowMoActive = false;
-            slowMoEnergy = 1.0;
-            slowFill.setWidth(slowBg.getWidth() * slowMoEnergy);
-            scoreList.forEach(Score::reset);
-
-            // respawn player(s)
-            for (var c : gameCharacterList) {
-                c.setDisable(false);
-                c.respawn();
-            }
-            GameCharacter p = getPlayer();
-            if (p != null) updateLivesHUD(p.getLives());
+        LOG.info("Restarting from Stage 1...");
+        dismissGameClearOverlay();
+        runOnSimulation(() -> {
+            resetWorldForRetry();
 
             // go to Stage 1
             currentStage = 1;
             setStage(currentStage);
 
             // re-arm victory after a small delay; attach & unlock handled in setStage
-            var arm = new javafx.animation.PauseTransition(javafx.util.Duration.millis(200));
-            arm.setOnFinished(ev -> winCheckEnabled = true);
-            arm.play();
-
-            requestFocus();
-            System.out.println("INFO: Game restarted at Stage 1!");
+            stageTimers.schedule(200, () -> winCheckEnabled = true);
+            LOG.info("Game restarted at Stage 1!");
         });
     }
 
+    /** FX thread: like {@link #restartFromStage1()}, but rebuilds the current stage. */
     private void retryStage() {
-        Ui.later(() -> {
-            worldReady = false;
-            System.out.println("INFO: Retrying stage...");
-
-            detachVolatileLayers();
-
-            // disarm win checks while resetting
-            winCheckEnabled = false;
-            gameClearShown  = false;
-            victoryShown    = false;
-
-            // remove overlay & restore inputs
-            overlayLayer.getChildren().remove(gameClearOverlay);
-            gameClearOverlay = null;
-            overlayLayer.setMouseTransparent(true);
-            overlayLayer.setPickOnBounds(false);
-            restoreBaseInputHandlers();
-
-            // clear world lists & visuals
-            bullets.clear();
-            enemies.clear();
-            hadEnemiesThisStage = false;
-            Ui.safeClear(bulletLayer);
-            Ui.safeClear(enemyLayer);
-
-            // reset HUD/slow-mo
-            slowMoActive = false;
-            slowMoEnergy = 1.0;
-            slowFill.setWidth(slowBg.getWidth() * slowMoEnergy);
-            scoreList.forEach(Score::reset);
-
-            // respawn player(s)
-            for (var c : gameCharacterList) {
-                c.setDisable(false);
-                c.respawn();
-            }
-            GameCharacter p = getPlayer();
-            if (p != null) updateLivesHUD(p.getLives());
+        LOG.info("Retrying stage...");
+        dismissGameClearOverlay();
+        runOnSimulation(() -> {
+            resetWorldForRetry();
 
             // rebuild same stage
             setStage(currentStage);
@@ -1087,32 +986,74 @@ public class GameStage extends Pane {
             if (stageManager != null) {
                 try {
                     stageManager.spawnEnemiesForStage(currentStage);
-                    System.out.println("INFO: Enemies respawned for Stage " + currentStage);
+                    LOG.info("Enemies respawned for Stage " + currentStage);
                 } catch (Throwable t) {
-                    System.err.println("WARN: stageManager spawn failed: " + t);
+                    LOG.warn("StageManager spawn failed: " + t);
                 }
             } else {
-                System.err.println("WARN: stageManager is null — cannot spawn enemies!");
+                LOG.warn("StageManager is null, cannot spawn enemies!");
             }
 
             // re-arm victory after a tiny delay
-            var arm = new javafx.animation.PauseTransition(javafx.util.Duration.millis(200));
-            arm.setOnFinished(ev -> winCheckEnabled = true);
-            arm.play();
-
-            requestFocus();
-            System.out.println("INFO: Stage restarted!");
+            stageTimers.schedule(200, () -> winCheckEnabled = true);
+            LOG.info("Stage restarted!");
         });
     }
 
+    /** FX thread: remove the game-clear overlay and restore base inputs. */
+    private void dismissGameClearOverlay() {
+        overlayLayer.getChildren().remove(gameClearOverlay);
+        gameClearOverlay = null;
+        overlayLayer.setMouseTransparent(true);
+        overlayLayer.setPickOnBounds(false);
+        restoreBaseInputHandlers();
+        requestFocus();
+    }
+
+    /** Simulation thread: lock the world, clear entities, reset slow-mo and respawn players. */
+    private void resetWorldForRetry() {
+        worldReady = false;
+        detachVolatileLayers();
+
+        // disarm win checks while resetting
+        winCheckEnabled = false;
+        gameClearShown  = false;
+        victoryShown    = false;
+
+        // clear world lists & visuals
+        bullets.clear();
+        enemies.clear();
+        renderCommit.discard();
+        hadEnemiesThisStage = false;
+        Ui.safeClear(bulletLayer);
+        Ui.safeClear(enemyLayer);
+
+        // reset slow-mo
+        slowMoActive = false;
+        slowMoEnergy = 1.0;
+        applySlowMoScale();
+
+        // respawn player(s)
+        for (var c : gameCharacterList) {
+            c.setDisable(false);
+            c.respawn();
+        }
+        GameCharacter p = getPlayer();
+        if (p != null) updateLivesHUD(p.getLives());
+
+        // HUD nodes belong to the FX thread; the slow-mo meter follows the next snapshot
+        Ui.later(() -> scoreList.forEach(Score::reset));
+    }
+
     // =================== Small utilities ===================
     public static final class Ui {
-        private static final java.util.logging.Logger LOG =
-                java.util.logging.Logger.getLogger(Ui.class.getName());
+        private static final org.apache.logging.log4j.Logger LOG =
+                org.apache.logging.log4j.LogManager.getLogger(Ui.class);
 
-        /** ALWAYS schedule on next pulse. */
+        /** ALWAYS schedule on next pulse (dropped when headless: there is no scene to update). */
         public static void later(Runnable r) {
-            if (r != null) javafx.application.Platform.runLater(r);
+            if (r == null || Headless.isEnabled()) return;
+            javafx.application.Platform.runLater(r);
         }
 
         /** Keep for compatibility; just delegates. */
@@ -1121,7 +1062,7 @@ public class GameStage extends Pane {
         /** Add child safely (ignore nulls, avoid duplicates, next pulse). */
         public static void safeAdd(Pane parent, javafx.scene.Node n) {
             if (parent == null || n == null) {
-                if (n == null) LOG.warning("safeAdd: attempted to add null Node");
+                if (n == null) LOG.warn("safeAdd: attempted to add null Node");
                 return;
             }
             later(() -> {
@@ -1129,7 +1070,7 @@ public class GameStage extends Pane {
                     var kids = parent.getChildren();
                     if (!kids.contains(n)) kids.add(n);
                 } catch (Throwable t) {
-                    LOG.warning("safeAdd failed: " + t);
+                    LOG.warn("safeAdd failed: " + t);
                 }
             });
         }
@@ -1139,7 +1080,7 @@ public class GameStage extends Pane {
             if (parent == null || n == null) return;
             later(() -> {
                 try { parent.getChildren().remove(n); }
-                catch (Throwable t) { LOG.warning("safeRemove failed: " + t); }
+                catch (Throwable t) { LOG.warn("safeRemove failed: " + t); }
             });
         }
 
@@ -1148,7 +1089,7 @@ public class GameStage extends Pane {
             if (parent == null) return;
             later(() -> {
                 try { parent.getChildren().clear(); }
-                catch (Throwable t) { LOG.warning("safeClear failed: " + t); }
+                catch (Throwable t) { LOG.warn("safeClear failed: " + t); }
             });
         }
 
@@ -1162,7 +1103,7 @@ public class GameStage extends Pane {
                     if (items == null) return;
                     for (var node : items) if (node != null) kids.add(node);
                 } catch (Throwable t) {
-                    LOG.warning("safeReplaceChildren failed: " + t);
+                    LOG.warn("safeReplaceChildren failed: " + t);
                 }
             });
         }
@@ -1177,8 +1118,8 @@ public class GameStage extends Pane {
     /** Snap the aim to -45°, 0°, or +45° based on current mouse position. */
     public double getSnappedAimAngleDeg(GameCharacter c) {
         if (c == null) return 0.0;
-        double cx = c.getTranslateX() + c.getCharacterWidth() * 0.5;
-        double cy = c.getTranslateY() + c.getCharacterHeight() * 0.55;
+        double cx = c.getX() + c.getCharacterWidth() * 0.5;
+        double cy = c.getY() + c.getCharacterHeight() * 0.55;
 
         int facing = c.getFacingDir(); // +1 when facing right, -1 when left
         double dx = (mouseX - cx) * facing;
@@ -1192,60 +1133,25 @@ public class GameStage extends Pane {
         return 0.0;                      // straight
     }
 
-    private static double[] closestPointOnSegment(double px, double py,
-                                                  double x1, double y1,
-                                                  double x2, double y2) {
-        double dx = x2 - x1;
-        double dy = y2 - y1;
-        double denom = dx * dx + dy * dy;
-        if (denom == 0) return new double[]{x1, y1};
-        double t = ((px - x1) * dx + (py - y1) * dy) / denom;
-        t = Math.max(0.0, Math.min(1.0, t));
-        return new double[]{x1 + t * dx, y1 + t * dy};
-    }
-
-    private static double distancePointToSegment(double px, double py,
-                                                 double x1, double y1,
-                                                 double x2, double y2) {
-        double[] closest = closestPointOnSegment(px, py, x1, y1, x2, y2);
-        return Math.hypot(px - closest[0], py - closest[1]);
-    }
-
-    private static boolean intersectsBeam(Rectangle2D rect,
-                                          double x1, double y1,
-                                          double x2, double y2,
-                                          double radius) {
-        if (rect == null) return false;
-        double cx = rect.getMinX() + rect.getWidth() * 0.5;
-        double cy = rect.getMinY() + rect.getHeight() * 0.5;
-        double[][] samplePoints = new double[][]{
-                {cx, cy},
-                {rect.getMinX(), rect.getMinY()},
-                {rect.getMinX(), rect.getMaxY()},
-                {rect.getMaxX(), rect.getMinY()},
-                {rect.getMaxX(), rect.getMaxY()},
-                {cx, rect.getMinY()},
-                {cx, rect.getMaxY()},
-                {rect.getMinX(), cy},
-                {rect.getMaxX(), cy}
-        };
-        for (double[] point : samplePoints) {
-            if (distancePointToSegment(point[0], point[1], x1, y1, x2, y2) <= radius) return true;
-        }
-        return false;
-    }
-
 
     // --- PATCH: Robust enemy visibility checks ---
     private boolean noEnemiesVisible() {
-        boolean noneInList  = (enemies == null || enemies.isEmpty());
-        boolean noneInLayer = (enemyLayer == null || enemyLayer.getChildren().isEmpty());
+        boolean noneInList  = (enemies.expectedSize() == 0);
+        boolean noneInLayer = enemyNodeCount() == 0;
         return noneInList && noneInLayer;
     }
 
+    /** Enemy nodes on screen; the canvas renderer's layer canvas is not one. */
+    private int enemyNodeCount() {
+        if (enemyLayer == null) return 0;
+        int n = 0;
+        for (var node : enemyLayer.getChildren()) if (!(node instanceof javafx.scene.canvas.Canvas)) n++;
+        return n;
+    }
+
     private boolean trySpawnForStageOnce(int stage) {
-        int beforeCount = (enemies == null) ? 0 : enemies.size();
-        int beforeNodes = (enemyLayer == null) ? 0 : enemyLayer.getChildren().size();
+        int beforeCount = enemies.expectedSize();
+        int beforeNodes = enemyNodeCount();
 
         // Ask StageManager first (if present)
         if (stageManager != null) {
@@ -1253,15 +1159,15 @@ public class GameStage extends Pane {
                 stageManager.spawnEnemiesForStage(stage);
                 LOG.info("Asked StageManager to spawn for stage " + stage);
             } catch (Exception ex) {
-                LOG.warning("StageManager.spawnEnemiesForStage failed: " + ex.getMessage());
+                LOG.warn("StageManager.spawnEnemiesForStage failed: " + ex.getMessage());
             }
         }
 
         // Give FX a pulse in case spawner adds nodes/list this tick
-        javafx.application.Platform.runLater(() -> {});
+        Ui.later(() -> {});
 
-        int afterCount = (enemies == null) ? 0 : enemies.size();
-        int afterNodes = (enemyLayer == null) ? 0 : enemyLayer.getChildren().size();
+        int afterCount = enemies.expectedSize();
+        int afterNodes = enemyNodeCount();
         boolean changed = (afterCount > beforeCount) || (afterNodes > beforeNodes);
 
         LOG.info("Spawn delta -> list: " + beforeCount + "→" + afterCount +
@@ -1271,14 +1177,14 @@ public class GameStage extends Pane {
             try {
                 spawnDefaultMinionsFor(stage);
                 // Re-check immediately after fallback
-                int fallCount = (enemies == null) ? 0 : enemies.size();
-                int fallNodes = (enemyLayer == null) ? 0 : enemyLayer.getChildren().size();
+                int fallCount = enemies.expectedSize();
+                int fallNodes = enemyNodeCount();
                 boolean fallbackChanged = (fallCount > beforeCount) || (fallNodes > beforeNodes);
                 LOG.info("Fallback default minions -> list: " + beforeCount + "→" + fallCount +
                         ", nodes: " + beforeNodes + "→" + fallNodes + " (changed=" + fallbackChanged + ")");
                 return fallbackChanged;
             } catch (Throwable t) {
-                LOG.warning("Fallback spawn failed: " + t);
+                LOG.warn("Fallback spawn failed: " + t);
             }
         }
 
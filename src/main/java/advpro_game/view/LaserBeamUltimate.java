@@ -1,4 +1,4 @@
-package advpro_game.model;
+package advpro_game.view;
 
 import advpro_game.Launcher;
 import javafx.animation.AnimationTimer;
@@ -0,0 +1,102 @@
+package advpro_game.view;
+
+import advpro_game.util.TripleBuffer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hand-off point between the simulation and the FX thread, backed by a lock-free
+ * {@link TripleBuffer} of {@link WorldSnapshot}s. The simulation fills the back slot and
+ * publishes once per tick; each FX pulse swaps in the newest slot and applies it, so ticks
+ * the FX thread could not keep up with are dropped instead of queueing Runnables.
+ * The active {@link SnapshotRenderer} syncs once per new tick and draws every pulse: the
+ * {@link ViewBinding} (a node per render id, the default) or the {@link CanvasRenderer}
+ * (one canvas per layer). {@link #setCanvasRendering} switches between them at runtime.
+ */
+public final class RenderCommit {
+    private final TripleBuffer<WorldSnapshot> buffer = new TripleBuffer<>(WorldSnapshot::new);
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long lastPublishedTick = -1L;
+    private volatile long discardThroughTick = -1L;
+
+    // Renderer choice: requested from any thread, taken over by the next FX pulse
+    private volatile boolean canvasWanted = false;
+
+    // FX-thread state
+    private final ViewBinding binding = new ViewBinding();
+    private final CanvasRenderer canvas;
+    private SnapshotRenderer renderer = binding;
+    private long lastAppliedTick = -1L;
+
+    /** Canvas renderer sized to the stage ({@link GameStage#WIDTH} x {@link GameStage#HEIGHT}). */
+    public RenderCommit() { this(GameStage.WIDTH, GameStage.HEIGHT); }
+
+    /** Canvas renderer of {@code width} x {@code height} px. */
+    public RenderCommit(double width, double height) {
+        this.canvas = new CanvasRenderer(width, height);
+    }
+
+    /** Simulation thread: the slot to fill for {@code tick}. */
+    public WorldSnapshot begin(long tick) {
+        return buffer.back().reset(tick);
+    }
+
+    /** Simulation thread: make the slot returned by {@link #begin} visible to the FX thread. */
+    public void publish() {
+        lastPublishedTick = buffer.back().getTick();
+        buffer.publish();
+        published.incrementAndGet();
+    }
+
+    /** Ignore everything published so far (world was cleared; its nodes must not come back). */
+    public void discard() {
+        discardThroughTick = lastPublishedTick;
+    }
+
+    /**
+     * FX thread: apply the newest snapshot at blend factor {@code alpha}.
+     * @return the applied snapshot (valid until the next call), or null when there is none
+     */
+    public WorldSnapshot apply(double alpha) {
+        SnapshotRenderer wanted = canvasWanted ? canvas : binding;
+        if (wanted != renderer) {
+            renderer.clear();
+            renderer = wanted;
+            lastAppliedTick = -1L;      // the new renderer has not seen the current tick
+        }
+
+        WorldSnapshot s = buffer.front();
+        if (s.getTick() < 0 || s.getTick() <= discardThroughTick) {
+            renderer.clear();
+            lastAppliedTick = -1L;
+            return null;
+        }
+
+        long tick = s.getTick();
+        if (tick != lastAppliedTick) {
+            if (lastAppliedTick >= 0 && tick > lastAppliedTick + 1) dropped.addAndGet(tick - lastAppliedTick - 1);
+            renderer.sync(s);
+            lastAppliedTick = tick;
+        }
+        renderer.apply(s, alpha);
+        return s;
+    }
+
+    /** Snapshots published by the simulation so far. */
+    public long getPublishedFrames() { return published.get(); }
+
+    /** Snapshots superseded before the FX thread got to apply them. */
+    public long getDroppedFrames() { return dropped.get(); }
+
+    /** Draw with one canvas per layer (true) or a node per render id (false); any thread. */
+    public void setCanvasRendering(boolean on) { canvasWanted = on; }
+
+    public boolean isCanvasRendering() { return canvasWanted; }
+
+    /** Render id to node bindings (FX thread). */
+    public ViewBinding getBinding() { return binding; }
+
+    /** Per-layer canvases (FX thread). */
+    public CanvasRenderer getCanvasRenderer() { return canvas; }
+}
@@ -0,0 +1,18 @@
+package advpro_game.view;
+
+/**
+ * Draws the render entries of a {@link WorldSnapshot} into their layers (FX thread only).
+ * {@link RenderCommit} drives one at a time: {@link ViewBinding} (a node per render id) or
+ * {@link CanvasRenderer} (one canvas per layer).
+ */
+public interface SnapshotRenderer {
+
+    /** Once per new tick, before {@link #apply}: take in the entries of {@code s}. */
+    void sync(WorldSnapshot s);
+
+    /** Every pulse: show the synced entries of {@code s} at blend factor {@code alpha}. */
+    void apply(WorldSnapshot s, double alpha);
+
+    /** Take everything off the screen (world cleared, or another renderer takes over). */
+    void clear();
+}
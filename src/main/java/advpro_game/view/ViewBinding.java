@@ -0,0 +1,260 @@
+package advpro_game.view;
+
+import advpro_game.model.RenderId;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * Scene-graph side of the world: one node per {@link RenderId}, built the first time the id
+ * shows up in a snapshot and dropped the first tick it is missing. Model objects own no
+ * nodes; everything a node shows comes from the {@link WorldSnapshot}. FX thread only.
+ * - {@link #sync}: once per new tick; binds ids to nodes and fixes layer membership
+ * - {@link #apply}: every pulse; position (interpolated), facing, opacity, viewport, size, fill
+ * Image views of dropped ids are kept per sheet and handed to the next id showing that
+ * sheet, so bullet churn does not build nodes.
+ */
+public final class ViewBinding implements SnapshotRenderer {
+    private static final int FREE_PER_SHEET = 256;
+
+    // ---------- id -> node (open addressing; ids are never 0) ----------
+    private int[] keys = new int[128];
+    private Node[] nodes = new Node[128];
+    private long[] seenAt = new long[128];     // sync count that last saw the id
+    private int count = 0;
+    private int[] unseen = new int[32];        // scratch for the drop pass
+
+    // ---------- Entries of the last synced snapshot ----------
+    private Node[] resolved = new Node[64];
+    private int resolvedCount = 0;
+    private long syncs = 0;
+
+    private final IdentityHashMap<Image, ArrayDeque<ImageView>> freeViews = new IdentityHashMap<>();
+    private long created = 0, reused = 0;
+
+    /**
+     * Bind every entry of {@code s} to its node and drop ids that are gone. Drops go first, so
+     * views freed this tick already serve the ids that appeared in it.
+     */
+    @Override
+    public void sync(WorldSnapshot s) {
+        long stamp = ++syncs;
+        int n = s.size();
+        if (resolved.length < n) resolved = Arrays.copyOf(resolved, Math.max(n, resolved.length * 2));
+
+        for (int i = 0; i < n; i++) {
+            if (s.getLayer(i) == null) continue;
+            int slot = find(s.getRenderId(i));
+            if (slot >= 0) seenAt[slot] = stamp;
+        }
+        int drop = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] == 0 || seenAt[slot] == stamp) continue;
+            if (drop == unseen.length) unseen = Arrays.copyOf(unseen, drop * 2);
+            unseen[drop++] = keys[slot];
+        }
+        for (int k = 0; k < drop; k++) {
+            int slot = find(unseen[k]);
+            release(nodes[slot]);
+            removeAt(slot);
+        }
+
+        for (int i = 0; i < n; i++) {
+            Pane layer = s.getLayer(i);
+            if (layer == null) {
+                resolved[i] = null;
+                continue;
+            }
+            int id = s.getRenderId(i);
+            Image image = s.getImage(i);
+            int slot = find(id);
+            Node node;
+            if (slot < 0) {
+                node = build(image);
+                slot = insert(id, node);
+                seenAt[slot] = stamp;
+            } else if (!shows(nodes[slot], image)) {   // look changed (e.g. sprite failed to load later)
+                release(nodes[slot]);
+                node = nodes[slot] = build(image);
+            } else {
+                node = nodes[slot];
+            }
+            if (node.getParent() != layer) {
+                detach(node);
+                layer.getChildren().add(node);
+            }
+            resolved[i] = node;
+        }
+        if (resolvedCount > n) Arrays.fill(resolved, n, resolvedCount, null);
+        resolvedCount = n;
+    }
+
+    /** Write the synced entries of {@code s} to their nodes at blend factor {@code alpha}. */
+    @Override
+    public void apply(WorldSnapshot s, double alpha) {
+        for (int i = 0, n = Math.min(resolvedCount, s.size()); i < n; i++) {
+            Node node = resolved[i];
+            if (node == null) continue;
+            node.setTranslateX(s.lerpX(i, alpha));
+            node.setTranslateY(s.lerpY(i, alpha));
+            double sx = s.getScaleX(i);
+            if (node.getScaleX() != sx) node.setScaleX(sx);
+
+            double o = s.getOpacity(i);
+            boolean visible = o > 0.0;
+            if (node.isVisible() != visible) node.setVisible(visible);
+            if (visible && node.getOpacity() != o) node.setOpacity(o);
+
+            double w = s.getWidth(i), h = s.getHeight(i);
+            if (node instanceof ImageView iv) {
+                Rectangle2D vp = s.getViewport(i);
+                if (iv.getViewport() != vp) iv.setViewport(vp);
+                if (iv.getFitWidth() != w) iv.setFitWidth(w);
+                if (iv.getFitHeight() != h) iv.setFitHeight(h);
+            } else if (node instanceof Rectangle r) {
+                if (r.getWidth() != w) r.setWidth(w);
+                if (r.getHeight() != h) r.setHeight(h);
+                if (r.getFill() != s.getFill(i)) r.setFill(s.getFill(i));
+            }
+        }
+    }
+
+    /** Take every node off the screen and forget all bindings (world was cleared). */
+    @Override
+    public void clear() {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) release(nodes[slot]);
+        }
+        Arrays.fill(keys, 0);
+        Arrays.fill(nodes, null);
+        count = 0;
+        Arrays.fill(resolved, 0, resolvedCount, null);
+        resolvedCount = 0;
+    }
+
+    /** Ids currently bound to a node. */
+    public int size() { return count; }
+
+    /** Node bound to {@code renderId}, or null. */
+    public Node nodeOf(int renderId) {
+        int slot = find(renderId);
+        return slot < 0 ? null : nodes[slot];
+    }
+
+    /** Nodes built so far. */
+    public long getCreatedNodes() { return created; }
+
+    /** Bindings served from the free image views. */
+    public long getReusedNodes() { return reused; }
+
+    // ---------------- Nodes ----------------
+
+    private Node build(Image image) {
+        if (image == null) {
+            Rectangle r = new Rectangle();
+            r.setManaged(false);
+            created++;
+            return r;
+        }
+        ArrayDeque<ImageView> free = freeViews.get(image);
+        ImageView iv = (free != null) ? free.pollLast() : null;
+        if (iv != null) {
+            reused++;
+            return iv;
+        }
+        iv = new ImageView(image);
+        iv.setSmooth(false);
+        iv.setPreserveRatio(false);
+        iv.setManaged(false);
+        created++;
+        return iv;
+    }
+
+    private static boolean shows(Node node, Image image) {
+        return image == null ? node instanceof Rectangle
+                             : node instanceof ImageView iv && iv.getImage() == image;
+    }
+
+    private void release(Node node) {
+        detach(node);
+        if (node instanceof ImageView iv && iv.getImage() != null) {
+            ArrayDeque<ImageView> free = freeViews.computeIfAbsent(iv.getImage(), k -> new ArrayDeque<>());
+            if (free.size() < FREE_PER_SHEET) free.addLast(iv);
+        }
+    }
+
+    private static void detach(Node node) {
+        Parent p = node.getParent();
+        if (p instanceof Pane pane) pane.getChildren().remove(node);
+    }
+
+    // ---------------- Map ----------------
+
+    private int find(int id) {
+        int mask = keys.length - 1;
+        for (int slot = mix(id) & mask; ; slot = (slot + 1) & mask) {
+            int k = keys[slot];
+            if (k == id) return slot;
+            if (k == 0) return -1;
+        }
+    }
+
+    private int insert(int id, Node node) {
+        if ((count + 1) * 2 > keys.length) rehash(keys.length * 2);
+        int mask = keys.length - 1;
+        int slot = mix(id) & mask;
+        while (keys[slot] != 0) slot = (slot + 1) & mask;
+        keys[slot] = id;
+        nodes[slot] = node;
+        count++;
+        return slot;
+    }
+
+    /** Linear-probing delete: shift later members of the cluster back into the hole. */
+    private void removeAt(int hole) {
+        int mask = keys.length - 1;
+        keys[hole] = 0;
+        nodes[hole] = null;
+        count--;
+        for (int slot = (hole + 1) & mask; keys[slot] != 0; slot = (slot + 1) & mask) {
+            int home = mix(keys[slot]) & mask;
+            // move unless home lies cyclically in (hole, slot]
+            boolean stays = (hole <= slot) ? (hole < home && home <= slot) : (hole < home || home <= slot);
+            if (stays) continue;
+            keys[hole] = keys[slot];
+            nodes[hole] = nodes[slot];
+            seenAt[hole] = seenAt[slot];
+            keys[slot] = 0;
+            nodes[slot] = null;
+            hole = slot;
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        Node[] oldNodes = nodes;
+        long[] oldSeen = seenAt;
+        keys = new int[capacity];
+        nodes = new Node[capacity];
+        seenAt = new long[capacity];
+        count = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == 0) continue;
+            int slot = insert(oldKeys[i], oldNodes[i]);
+            seenAt[slot] = oldSeen[i];
+        }
+    }
+
+    private static int mix(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,206 @@
+package advpro_game.view;
+
+import advpro_game.model.Bullet;
+import advpro_game.model.Collider;
+import advpro_game.model.Enemy;
+import advpro_game.model.GameCharacter;
+import advpro_game.model.MutableAabb;
+import advpro_game.model.RenderId;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+
+/**
+ * Everything the FX side needs from one simulation tick, written by the sim thread into a
+ * triple-buffer slot (see {@link RenderCommit}) and read by the FX thread once published:
+ * - render entries: {@link RenderId}, look (sheet or fill, display size), previous/current
+ *   sim position, facing, opacity, sprite viewport; {@link ViewBinding} turns them into nodes
+ * - debug geometry: platform and character hitboxes
+ * - HUD values: score and lives of the player, slow-mo energy
+ * A slot is only ever touched by one thread at a time, so readers need no locks or copies.
+ */
+public final class WorldSnapshot {
+    private long tick = -1L;
+
+    // ---------- Render entries ----------
+    private int size = 0;
+    private int[] ids = new int[64];
+    private Image[] images = new Image[64];        // null: a box of the fill colour
+    private Color[] fills = new Color[64];
+    private double[] dims = new double[64 * 2];    // display width, height per entry
+    private double[] pos = new double[64 * 4];     // prevX, prevY, x, y per entry
+    private double[] scaleX = new double[64];
+    private double[] opacity = new double[64];
+    private Rectangle2D[] viewports = new Rectangle2D[64];
+    private Pane[] layers = new Pane[64];          // non-null: layer membership follows the frame
+    private Pane currentLayer = null;
+
+    // ---------- Debug geometry ----------
+    private int platformCount = 0;
+    private Rectangle2D[] platformBoxes = new Rectangle2D[16];
+    private boolean[] platformSolid = new boolean[16];
+    private int characterCount = 0;
+    private MutableAabb[] characterBoxes = new MutableAabb[4];   // owned by this slot, refilled in place
+
+    // ---------- HUD ----------
+    private boolean hasPlayer = false;
+    private int score, lives;
+    private double slowMoEnergy = 1.0;
+
+    // ===================== Writer (simulation thread) =====================
+
+    /** Start refilling this slot for {@code tick}; keeps the backing arrays. */
+    public WorldSnapshot reset(long tick) {
+        this.tick = tick;
+        Arrays.fill(images, 0, size, null);
+        Arrays.fill(fills, 0, size, null);
+        Arrays.fill(viewports, 0, size, null);
+        Arrays.fill(layers, 0, size, null);
+        Arrays.fill(platformBoxes, 0, platformCount, null);
+        size = platformCount = characterCount = 0;
+        currentLayer = null;
+        hasPlayer = false;
+        return this;
+    }
+
+    /**
+     * Layer the nodes of entries added after this call live in; entries added with no layer
+     * set are not drawn.
+     */
+    public WorldSnapshot layer(Pane layer) {
+        currentLayer = layer;
+        return this;
+    }
+
+    /**
+     * One drawable: {@code image} (a sheet, shown through {@code viewport} when that is set) or,
+     * without one, a {@code width} x {@code height} box of {@code fill} (null = invisible).
+     */
+    public WorldSnapshot add(int renderId, Image image, double width, double height, Color fill,
+                             double prevX, double prevY, double x, double y,
+                             double scaleX, double opacity, Rectangle2D viewport) {
+        if (renderId == 0) return this;
+        if (size == ids.length) growEntries();
+        int i = size++;
+        this.ids[i] = renderId;
+        this.images[i] = image;
+        this.fills[i] = fill;
+        this.dims[i * 2]     = width;
+        this.dims[i * 2 + 1] = height;
+        this.pos[i * 4]     = prevX;
+        this.pos[i * 4 + 1] = prevY;
+        this.pos[i * 4 + 2] = x;
+        this.pos[i * 4 + 3] = y;
+        this.scaleX[i] = scaleX;
+        this.opacity[i] = opacity;
+        this.viewports[i] = viewport;
+        this.layers[i] = currentLayer;
+        return this;
+    }
+
+    // ---------- Entities (the model only exposes getters; the mapping lives here) ----------
+
+    /** A bullet; its position is the box centre, the entry holds the top-left. */
+    public WorldSnapshot add(Bullet b) {
+        double w = b.getWidth(), h = b.getHeight();
+        double hw = w / 2.0, hh = h / 2.0;
+        return add(b.getRenderId(), b.getImage(), w, h, null, b.getPrevX() - hw, b.getPrevY() - hh,
+                b.getX() - hw, b.getY() - hh, 1.0, 1.0, b.getFrameViewport());
+    }
+
+    public WorldSnapshot add(Enemy e) {
+        return add(e.getRenderId(), e.getSheet(), e.getWidth(), e.getHeight(), e.getFallbackFill(),
+                e.getPrevX(), e.getPrevY(), e.getX(), e.getY(), e.getViewScaleX(), e.getViewOpacity(),
+                e.getFrameViewport());
+    }
+
+    public WorldSnapshot add(GameCharacter c) {
+        return add(c.getRenderId(), c.getSheet(), c.getDisplayWidth(), c.getDisplayHeight(), null,
+                c.prevX, c.prevY, c.getX(), c.getY(), c.getFacingDir(), 1.0, c.getFrameViewport());
+    }
+
+    public void addPlatform(Rectangle2D box, boolean solid) {
+        if (box == null) return;
+        if (platformCount == platformBoxes.length) {
+            platformBoxes = Arrays.copyOf(platformBoxes, platformCount * 2);
+            platformSolid = Arrays.copyOf(platformSolid, platformCount * 2);
+        }
+        platformBoxes[platformCount] = box;
+        platformSolid[platformCount++] = solid;
+    }
+
+    public void addCharacterBox(Collider c) {
+        if (c == null) return;
+        if (characterCount == characterBoxes.length) {
+            characterBoxes = Arrays.copyOf(characterBoxes, characterCount * 2);
+        }
+        MutableAabb box = characterBoxes[characterCount];
+        if (box == null) box = characterBoxes[characterCount] = new MutableAabb();
+        c.hitboxInto(box);
+        characterCount++;
+    }
+
+    public void setPlayerHud(int score, int lives) {
+        this.hasPlayer = true;
+        this.score = score;
+        this.lives = lives;
+    }
+
+    public void setSlowMoEnergy(double energy) { this.slowMoEnergy = energy; }
+
+    private void growEntries() {
+        int cap = ids.length * 2;
+        ids = Arrays.copyOf(ids, cap);
+        images = Arrays.copyOf(images, cap);
+        fills = Arrays.copyOf(fills, cap);
+        dims = Arrays.copyOf(dims, cap * 2);
+        pos = Arrays.copyOf(pos, cap * 4);
+        scaleX = Arrays.copyOf(scaleX, cap);
+        opacity = Arrays.copyOf(opacity, cap);
+        viewports = Arrays.copyOf(viewports, cap);
+        layers = Arrays.copyOf(layers, cap);
+    }
+
+    // ===================== Reader (FX thread) =====================
+
+    public long getTick() { return tick; }
+    public int size()     { return size; }
+
+    public int getRenderId(int i)         { return ids[i]; }
+    public Pane getLayer(int i)           { return layers[i]; }
+    public Image getImage(int i)          { return images[i]; }
+    public Color getFill(int i)           { return fills[i]; }
+    public double getWidth(int i)         { return dims[i * 2]; }
+    public double getHeight(int i)        { return dims[i * 2 + 1]; }
+    public double getX(int i)             { return pos[i * 4 + 2]; }
+    public double getY(int i)             { return pos[i * 4 + 3]; }
+    public double getScaleX(int i)        { return scaleX[i]; }
+    public double getOpacity(int i)       { return opacity[i]; }
+    public Rectangle2D getViewport(int i) { return viewports[i]; }
+
+    /** Interpolated X of entry {@code i} at blend factor {@code alpha}. */
+    public double lerpX(int i, double alpha) {
+        double p = pos[i * 4], c = pos[i * 4 + 2];
+        return p + (c - p) * alpha;
+    }
+
+    /** Interpolated Y of entry {@code i} at blend factor {@code alpha}. */
+    public double lerpY(int i, double alpha) {
+        double p = pos[i * 4 + 1], c = pos[i * 4 + 3];
+        return p + (c - p) * alpha;
+    }
+
+    public int getPlatformCount()                { return platformCount; }
+    public Rectangle2D getPlatformBox(int i)     { return platformBoxes[i]; }
+    public boolean isPlatformSolid(int i)        { return platformSolid[i]; }
+    public int getCharacterCount()               { return characterCount; }
+    public MutableAabb getCharacterBox(int i)    { return characterBoxes[i]; }
+
+    public boolean hasPlayer() { return hasPlayer; }
+    public int getScore()      { return score; }
+    public int getLives()      { return lives; }
+    public double getSlowMoEnergy() { return slowMoEnergy; }
+}
@@ -6,6 +6,8 @@ module avdpro_game {
     requires javafx.media;
     requires org.apache.logging.log4j;
     requires org.apache.logging.log4j.core;
+    // Optional: SIMD collision kernel (run with --add-modules jdk.incubator.vector)
+    requires static jdk.incubator.vector;
 
 
     opens advpro_game to javafx.fxml;
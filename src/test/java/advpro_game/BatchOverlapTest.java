@@ -0,0 +1,51 @@
+package advpro_game;
+
+import advpro_game.util.BatchOverlap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchOverlapTest {
+
+    @Test
+    void kernelsAgreeWithTheBruteForceScan() {
+        // The build adds jdk.incubator.vector to the test JVM, so both kernels run here
+        assertTrue(BatchOverlap.isVectorAvailable(), "test JVM should have jdk.incubator.vector");
+        BatchOverlap vector = BatchOverlap.vector();
+        assertNotSame(BatchOverlap.scalar(), vector);
+
+        Random rnd = new Random(18);
+        for (int n : new int[]{0, 1, 7, 15, 16, 17, 33, 1000, 1003}) {   // full registers and tails
+            float[] minX = new float[n], minY = new float[n], maxX = new float[n], maxY = new float[n];
+            for (int i = 0; i < n; i++) {
+                minX[i] = rnd.nextInt(400); minY[i] = rnd.nextInt(400);
+                maxX[i] = minX[i] + 1 + rnd.nextInt(30); maxY[i] = minY[i] + 1 + rnd.nextInt(30);
+            }
+            float tMinX = 150, tMinY = 120, tMaxX = 230, tMaxY = 260;
+
+            int[] expected = new int[n];
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                if (maxX[i] > tMinX && minX[i] < tMaxX && maxY[i] > tMinY && minY[i] < tMaxY) expected[count++] = i;
+            }
+
+            for (BatchOverlap k : new BatchOverlap[]{BatchOverlap.scalar(), vector}) {
+                int[] out = new int[n];
+                int got = k.overlaps(minX, minY, maxX, maxY, n, tMinX, tMinY, tMaxX, tMaxY, out);
+                assertEquals(count, got, k.name() + " n=" + n);
+                for (int i = 0; i < count; i++) assertEquals(expected[i], out[i], k.name() + " n=" + n);
+            }
+        }
+    }
+
+    @Test
+    void touchingEdgesDoNotOverlap() {
+        float[] minX = {0, 10}, minY = {0, 0}, maxX = {10, 20}, maxY = {10, 10};
+        int[] out = new int[2];
+        assertEquals(0, BatchOverlap.best().overlaps(minX, minY, maxX, maxY, 2, 20, 0, 30, 10, out));
+        assertEquals(1, BatchOverlap.best().overlaps(minX, minY, maxX, maxY, 2, 19.5f, 0, 30, 10, out));
+        assertEquals(1, out[0]);
+    }
+}
@@ -0,0 +1,111 @@
+package advpro_game;
+
+import advpro_game.model.Bullet;
+import advpro_game.model.BulletPattern;
+import advpro_game.model.BulletPool;
+import advpro_game.model.Enemy;
+import advpro_game.model.EnemyComponents.Pattern;
+import advpro_game.model.EnemySystems;
+import advpro_game.model.EntityRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(HeadlessExtension.class)
+class BulletPatternTest {
+
+    private static final double EPS = 1e-9;
+
+    @Test
+    void volleyShapes() {
+        double[] dx = new double[4], dy = new double[4];
+        BulletPattern.radial(4, 1, 100).directions(123, 0, 0, dx, dy);   // not aimed: aim ignored
+        assertArrayEquals(new double[]{1, 0, -1, 0}, dx, EPS);
+        assertArrayEquals(new double[]{0, 1, 0, -1}, dy, EPS);
+
+        BulletPattern.aimedFan(3, 90, 1, 100).directions(90, 0, 0, dx, dy);
+        assertEquals(Math.cos(Math.toRadians(45)), dx[0], EPS);
+        assertEquals(0, dx[1], EPS);
+        assertEquals(1, dy[1], EPS);
+        assertEquals(Math.cos(Math.toRadians(135)), dx[2], EPS);
+
+        BulletPattern.aimedFan(1, 90, 1, 100).directions(90, 0, 0, dx, dy);   // one shot: straight at the aim
+        assertEquals(0, dx[0], EPS);
+        assertEquals(1, dy[0], EPS);
+
+        BulletPattern wave = BulletPattern.wave(1, 0, 1, 30, 0.25, 100);
+        wave.directions(0, 0, 1.0, dx, dy);                              // quarter period: +30 deg
+        assertEquals(Math.sin(Math.toRadians(30)), dy[0], EPS);
+    }
+
+    @Test
+    void emitsOwedVolleysInBatchesAndSpins() {
+        EnemySystems systems = new EnemySystems();
+        EntityRegistry<Enemy> enemies = new EntityRegistry<>(4);
+        enemies.setColumns(systems);
+        Enemy boss = new Enemy(100, 100, 40, 40);
+        boss.setPattern(BulletPattern.spiral(8, 10, 90, 200).withTimeToLive(2));
+        enemies.add(boss);
+        enemies.commit();
+
+        List<Bullet> fired = new ArrayList<>();
+        for (int t = 1; t <= 60; t++) systems.run(1.0 / 60, null, t * 16L, true, fired::add);
+        assertEquals(80, fired.size(), 8);                               // 10 volleys of 8 in one second
+        assertEquals(0, fired.size() % 8);
+        for (Bullet b : fired) {
+            assertTrue(b.isEnemyBullet());
+            assertEquals(2.0, b.getTimeToLive(), EPS);
+            assertEquals(120, b.getX(), EPS);                            // from the body centre
+        }
+        assertEquals(90, systems.world().getDouble(boss.getEntity(), Pattern.TYPE, Pattern.SPIN_DEG), 1e-6);
+
+        int before = fired.size();
+        for (int t = 0; t < 30; t++) systems.run(1.0 / 60, null, 0, false, fired::add);   // not firing: no volleys
+        assertEquals(before, fired.size());
+
+        boss.hit(99);
+        assertFalse(systems.world().has(boss.getEntity(), Pattern.TYPE));
+    }
+
+    @Test
+    void failedHandOffReturnsTheRestOfTheVolley() {
+        EnemySystems systems = new EnemySystems();
+        EntityRegistry<Enemy> enemies = new EntityRegistry<>(4);
+        enemies.setColumns(systems);
+        Enemy e = new Enemy(0, 0, 10, 10);
+        BulletPattern p = BulletPattern.radial(8, 60, 100);
+        e.setPattern(p);
+        enemies.add(e);
+        enemies.commit();
+
+        int before = BulletPool.shared().outstanding(p.config());
+        List<Bullet> fired = new ArrayList<>();
+        assertThrows(IllegalStateException.class, () -> systems.run(1.0 / 60, null, 0, true, b -> {
+            if (fired.size() == 2) throw new IllegalStateException("world full");
+            fired.add(b);
+        }));
+        assertEquals(2, fired.size());
+        assertEquals(before + 2, BulletPool.shared().outstanding(p.config()),
+                "only the bullets that reached the world stay checked out");
+        fired.forEach(BulletPool.shared()::release);
+    }
+
+    @Test
+    void aimedPatternsWaitForATarget() {
+        EnemySystems systems = new EnemySystems();
+        EntityRegistry<Enemy> enemies = new EntityRegistry<>(4);
+        enemies.setColumns(systems);
+        Enemy e = new Enemy(0, 0, 10, 10);
+        e.setPattern(BulletPattern.aimedFan(3, 40, 20, 100));
+        enemies.add(e);
+        enemies.commit();
+
+        List<Bullet> fired = new ArrayList<>();
+        for (int t = 0; t < 30; t++) systems.run(1.0 / 60, null, 0, true, fired::add);
+        assertTrue(fired.isEmpty());
+    }
+}
@@ -0,0 +1,73 @@
+package advpro_game;
+
+import advpro_game.model.Bullet;
+import advpro_game.model.BulletConfig;
+import advpro_game.model.BulletPool;
+import advpro_game.view.GameStage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(HeadlessExtension.class)
+class BulletPoolTest {
+
+    private static final BulletConfig CONFIG = BulletConfig.DEFAULT;
+
+    @Test
+    void releasedBulletIsReusedWithItsRenderId() {
+        BulletPool pool = new BulletPool();
+
+        Bullet first = pool.acquire(CONFIG, 100, 100, 1, 0, 480.0, 1, false);
+        int renderId = first.getRenderId();
+        pool.release(first);
+        pool.release(first);                      // double release is ignored
+        assertEquals(1, pool.idleCount(CONFIG));
+
+        Bullet second = pool.acquire(CONFIG, 300, 50, 0, -1, 200.0, 3, true);
+        assertSame(first, second);
+        assertEquals(renderId, second.getRenderId());
+        assertEquals(300, second.getX());
+        assertEquals(50, second.getY());
+        assertEquals(3, second.getDamage());
+        assertTrue(second.isEnemyBullet());
+        assertEquals(1, pool.getCreated());
+        assertEquals(1, pool.getReused());
+    }
+
+    @Test
+    void prewarmFillsUpToTheHighWaterMark() {
+        BulletPool pool = new BulletPool();
+
+        Bullet[] out = new Bullet[5];
+        for (int i = 0; i < out.length; i++) out[i] = pool.acquire(CONFIG, i, 0, 1, 0, 480.0, 1, false);
+        assertEquals(5, pool.highWaterMark(CONFIG));
+        for (Bullet b : out) pool.release(b);
+        assertEquals(0, pool.outstanding(CONFIG));
+
+        pool.prewarm(CONFIG, 2);                  // already holds more than asked
+        assertEquals(5, pool.idleCount(CONFIG));
+        pool.prewarm(CONFIG, 8);
+        assertEquals(8, pool.idleCount(CONFIG));
+
+        pool.release(new Bullet(0, 0, 1));        // unpooled bullets are not taken in
+        assertEquals(8, pool.idleCount(CONFIG));
+    }
+
+    @Test
+    void stageReturnsRemovedBulletsToTheSharedPool() {
+        GameStage stage = new GameStage();
+        BulletPool pool = BulletPool.shared();
+
+        Bullet b = CONFIG.createBullet(200, 200, 1, 0, 480.0, 1, false);
+        stage.addBullet(b);
+        stage.commitEntityChanges();
+        int idle = pool.idleCount(CONFIG);
+
+        stage.removeBullet(b);
+        assertEquals(idle, pool.idleCount(CONFIG), "released before the commit");
+        stage.commitEntityChanges();
+        assertEquals(idle + 1, pool.idleCount(CONFIG));
+        assertSame(b, CONFIG.createBullet(0, 0, 1, 0, 480.0, 1, false));
+    }
+}
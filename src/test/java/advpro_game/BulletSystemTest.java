@@ -0,0 +1,74 @@
+package advpro_game;
+
+import advpro_game.model.Bullet;
+import advpro_game.model.BulletSystem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(HeadlessExtension.class)
+class BulletSystemTest {
+
+    private static Bullet shot(double x, double y, boolean enemy) {
+        return new Bullet(x, y, 1, 0, 100.0, 1, 1.6, enemy);
+    }
+
+    @Test
+    void swapRemoveKeepsHandlesOnTheirRows() {
+        BulletSystem sys = new BulletSystem(8);
+        Bullet[] b = new Bullet[4];
+        for (int i = 0; i < b.length; i++) { b[i] = shot(i * 10, 0, false); sys.add(b[i]); }
+        sys.commit();
+        assertEquals(4, sys.size());
+
+        sys.remove(b[1]);
+        sys.commit();
+        assertEquals(3, sys.size());
+        assertSame(b[3], sys.get(1));             // last row moved into the hole
+        for (int i = 0; i < sys.size(); i++) assertEquals(sys.get(i).getX(), sys.x(i));
+        assertFalse(sys.contains(b[1]));
+        assertEquals(10, b[1].getX());            // detached handle keeps its last state
+    }
+
+    @Test
+    void updateMovesEachOwnerOnItsOwnClock() {
+        BulletSystem sys = new BulletSystem(8);
+        Bullet player = shot(0, 0, false);
+        Bullet enemy = shot(0, 50, true);
+        sys.add(player);
+        sys.add(enemy);
+        sys.commit();
+
+        sys.update(0.5, 0.25);
+        assertEquals(50, player.getX(), 1e-9);
+        assertEquals(0, player.getPrevX(), 1e-9);
+        assertEquals(25, enemy.getX(), 1e-9);
+        assertTrue(sys.sweptMaxX()[0] >= 50 && sys.sweptMinX()[0] <= 0);
+
+        player.update(0.5);                       // single-step on a committed bullet uses its row
+        assertEquals(100, sys.x(0), 1e-9);
+    }
+
+    @Test
+    void cullDropsOffscreenAndExpiredBullets() {
+        BulletSystem sys = new BulletSystem(8);
+        Bullet inside = shot(100, 100, false);
+        Bullet outside = shot(5000, 100, false);
+        Bullet expiring = shot(200, 100, true);
+        expiring.setTimeToLive(0.1);
+        sys.add(inside);
+        sys.add(outside);
+        sys.add(expiring);
+        sys.commit();
+
+        sys.update(0.2, 0.2);
+        assertEquals(2, sys.cull(0, 0, 1000, 1000));
+        assertTrue(sys.contains(inside));
+        assertFalse(sys.contains(outside));
+        assertFalse(sys.contains(expiring));
+        sys.commit();
+        assertEquals(1, sys.size());
+        assertSame(inside, sys.get(0));
+    }
+}
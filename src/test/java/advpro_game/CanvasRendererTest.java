@@ -0,0 +1,87 @@
+package advpro_game;
+
+import advpro_game.model.Bullet;
+import advpro_game.view.CanvasRenderer;
+import advpro_game.view.RenderCommit;
+import advpro_game.view.WorldSnapshot;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(HeadlessExtension.class)
+class CanvasRendererTest {
+
+    private static Image sheet() {
+        Image img = new Bullet(0, 0, 1).getImage();
+        assertNotNull(img);
+        return img;
+    }
+
+    private static void fill(WorldSnapshot s, Pane bullets, Pane enemies, Image img, int count) {
+        s.layer(enemies);
+        s.add(1, null, 24, 40, Color.DARKRED, 0, 0, 10, 10, -1, 0.5, null);
+        s.layer(bullets);
+        for (int i = 0; i < count; i++) {
+            s.add(100 + i, img, 8, 8, null, i, 0, i + 1, 0, 1, 1, new Rectangle2D(0, 0, 4, 4));
+        }
+    }
+
+    @Test
+    void oneCanvasPerLayerWhateverTheCount() {
+        Image img = sheet();
+        Pane bullets = new Pane(), enemies = new Pane();
+        CanvasRenderer r = new CanvasRenderer(800, 400);
+
+        for (int count : new int[]{10, 1000, 3}) {
+            WorldSnapshot s = new WorldSnapshot().reset(count);
+            fill(s, bullets, enemies, img, count);
+            r.sync(s);
+            r.apply(s, 0.5);
+            assertEquals(1, bullets.getChildren().size());
+            assertEquals(1, enemies.getChildren().size());
+            assertInstanceOf(Canvas.class, bullets.getChildren().get(0));
+        }
+        assertEquals(1013 + 3, r.getDrawnSprites());
+
+        bullets.getChildren().clear();                    // stage reset cleared the layer
+        WorldSnapshot s = new WorldSnapshot().reset(99);
+        fill(s, bullets, enemies, img, 1);
+        r.sync(s);
+        assertSame(r.canvasOf(bullets), bullets.getChildren().get(0));
+
+        r.clear();
+        assertTrue(bullets.getChildren().isEmpty());
+        assertTrue(enemies.getChildren().isEmpty());
+    }
+
+    @Test
+    void rendererCanBeSwitchedAtRuntime() {
+        Image img = sheet();
+        Pane bullets = new Pane(), enemies = new Pane();
+        RenderCommit commit = new RenderCommit(800, 400);
+        for (long tick = 1; tick <= 3; tick++) {
+            fill(commit.begin(tick), bullets, enemies, img, 5);
+            commit.publish();
+            if (tick == 2) commit.setCanvasRendering(true);
+            if (tick == 3) commit.setCanvasRendering(false);
+            assertNotNull(commit.apply(1.0));
+
+            if (tick == 2) {
+                assertEquals(1, bullets.getChildren().size());
+                assertSame(commit.getCanvasRenderer().canvasOf(bullets), bullets.getChildren().get(0));
+                assertEquals(0, commit.getBinding().size());
+            } else {
+                assertEquals(5, bullets.getChildren().size());
+                assertInstanceOf(ImageView.class, bullets.getChildren().get(0));
+                assertEquals(6, commit.getBinding().size());
+            }
+        }
+    }
+}
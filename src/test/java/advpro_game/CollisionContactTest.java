@@ -0,0 +1,99 @@
+package advpro_game;
+
+import advpro_game.controller.CollisionSystem;
+import advpro_game.controller.GameLoop;
+import advpro_game.model.Bullet;
+import advpro_game.model.CollisionLayer;
+import advpro_game.model.GameCharacter;
+import advpro_game.model.Minion;
+import advpro_game.model.MutableAabb;
+import advpro_game.view.GameStage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(HeadlessExtension.class)
+class CollisionContactTest {
+
+    private static GameStage newStage() {
+        return new GameStage();
+    }
+
+    @Test
+    void layerMasksDecideWhichPairsInteract() {
+        CollisionSystem cs = new CollisionSystem();
+        assertTrue(cs.interacts(CollisionLayer.PLAYER_BULLET, CollisionLayer.ENEMY));
+        assertTrue(cs.interacts(CollisionLayer.ENEMY_BULLET, CollisionLayer.PLAYER));
+        assertFalse(cs.interacts(CollisionLayer.PLAYER_BULLET, CollisionLayer.PLAYER));
+        assertFalse(cs.interacts(CollisionLayer.ENEMY_BULLET, CollisionLayer.ENEMY));
+
+        cs.setMask(CollisionLayer.PLAYER, 0);     // one side refusing is enough
+        assertFalse(cs.interacts(CollisionLayer.ENEMY_BULLET, CollisionLayer.PLAYER));
+        assertTrue(cs.interacts(CollisionLayer.PLAYER_BULLET, CollisionLayer.ENEMY));
+    }
+
+    @Test
+    void twoShotsOnAOneHpMinionSpendOnlyOneBullet() {
+        GameStage stage = newStage();
+        GameLoop loop = new GameLoop(stage);
+        GameCharacter player = stage.getGameCharacterList().get(0);
+
+        Minion m = new Minion(400, 300);          // 24 x 40, 1 hp
+        Bullet first = new Bullet(405, 310, 1, 0, 480.0, 1, 1.6, false);
+        Bullet second = new Bullet(410, 320, 1, 0, 480.0, 1, 1.6, false);
+        stage.addEnemy(m);
+        stage.addBullet(first);
+        stage.addBullet(second);
+        stage.commitEntityChanges();
+        int score = player.getScore();
+
+        loop.runStage(GameLoop.TickStage.COLLISIONS);
+
+        assertTrue(m.isDead());
+        assertFalse(stage.getBullets().contains(first));
+        assertTrue(stage.getBullets().contains(second), "second shot hit an enemy that was already dead");
+        assertEquals(score + 20, player.getScore());
+        assertEquals(0, stage.getContacts().size());
+    }
+
+    @Test
+    void bodyContactAndEnemyShotInTheSameTickCostOneLife() {
+        GameStage stage = newStage();
+        GameLoop loop = new GameLoop(stage);
+        GameCharacter player = stage.getGameCharacterList().get(0);
+        MutableAabb box = player.hitboxInto(new MutableAabb());
+
+        Minion m = new Minion(box.minX, box.minY);
+        Bullet shot = new Bullet(box.centerX(), box.centerY(), -1, 0, 300.0, 1, 1.0, true);
+        stage.addEnemy(m);
+        stage.addBullet(shot);
+        stage.commitEntityChanges();
+        int lives = player.getLives();
+
+        loop.runStage(GameLoop.TickStage.COLLISIONS);
+
+        assertEquals(lives - 1, player.getLives());
+        assertTrue(stage.getBullets().contains(shot), "i-frames should let the shot through");
+    }
+
+    @Test
+    void enemyKilledEarlierInTheTickDoesNotHitThePlayer() {
+        GameStage stage = newStage();
+        GameLoop loop = new GameLoop(stage);
+        GameCharacter player = stage.getGameCharacterList().get(0);
+        MutableAabb box = player.hitboxInto(new MutableAabb());
+
+        Minion m = new Minion(box.minX, box.minY);
+        Bullet kill = new Bullet(box.minX + 5, box.minY + 10, 1, 0, 480.0, 1, 1.6, false);
+        stage.addEnemy(m);
+        stage.addBullet(kill);
+        stage.commitEntityChanges();
+        int lives = player.getLives();
+
+        loop.runStage(GameLoop.TickStage.COLLISIONS);
+
+        assertTrue(m.isDead());
+        assertEquals(lives, player.getLives(), "a dead enemy's body contact must not cost a life");
+    }
+}
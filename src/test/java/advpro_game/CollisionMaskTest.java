@@ -0,0 +1,87 @@
+package advpro_game;
+
+import advpro_game.model.Boss;
+import advpro_game.model.CollisionMask;
+import advpro_game.model.MutableAabb;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(HeadlessExtension.class)
+class CollisionMaskTest {
+
+    /** 150 x 40 sheet (three words per row): opaque disc in the middle, a 1 px line at x = 140. */
+    private static WritableImage sheet() {
+        WritableImage img = new WritableImage(150, 40);
+        for (int y = 0; y < 40; y++) {
+            for (int x = 0; x < 150; x++) {
+                boolean disc = (x - 70) * (x - 70) + (y - 20) * (y - 20) <= 15 * 15;
+                img.getPixelWriter().setArgb(x, y, disc || x == 140 ? 0xFF00FF00 : 0x10FF0000);
+            }
+        }
+        return img;
+    }
+
+    @Test
+    void rectangleQueriesMatchThePixels() {
+        WritableImage img = sheet();
+        CollisionMask m = CollisionMask.fromAlpha(img, 0, 0, 150, 40, 150, 40);
+        assertNotNull(m);
+
+        Random rnd = new Random(18);
+        for (int q = 0; q < 2000; q++) {
+            int x0 = rnd.nextInt(170) - 10, y0 = rnd.nextInt(50) - 5;
+            int x1 = x0 + rnd.nextInt(70), y1 = y0 + rnd.nextInt(20);
+            boolean expected = false;
+            for (int y = Math.max(0, y0); y < Math.min(40, y1) && !expected; y++)
+                for (int x = Math.max(0, x0); x < Math.min(150, x1) && !expected; x++)
+                    expected = (img.getPixelReader().getArgb(x, y) >>> 24) >= CollisionMask.ALPHA_THRESHOLD;
+            assertEquals(expected, m.anyInRect(x0, y0, x1, y1), x0 + "," + y0 + " .. " + x1 + "," + y1);
+        }
+    }
+
+    @Test
+    void shrinkingKeepsThinDetails() {
+        CollisionMask half = CollisionMask.fromAlpha(sheet(), 0, 0, 150, 40, 75, 20);
+        assertNotNull(half);
+        assertTrue(half.get(70, 10), "the 1 px line at x=140 must survive a 2:1 shrink");
+        assertFalse(half.get(60, 10));
+        assertTrue(half.get(35, 10));
+    }
+
+    @Test
+    void framesAreCachedPerSheet() {
+        Image boss = new Image(Launcher.class.getResourceAsStream("/advpro_game/assets/boss_3.png"));
+        Rectangle2D frame = new Rectangle2D(0, 0, Math.min(64, boss.getWidth()), Math.min(64, boss.getHeight()));
+
+        CollisionMask a = CollisionMask.forFrame(boss, frame, 48, 48);
+        CollisionMask b = CollisionMask.forFrame(boss, new Rectangle2D(0, 0, frame.getWidth(), frame.getHeight()), 48, 48);
+        assertNotNull(a);
+        assertSame(a, b);
+        assertTrue(a.countSolid() < 48 * 48, "boss sheet frames are partly transparent");
+    }
+
+    /** The MaskNarrowphaseBench scatter: the mask must reject some box hits but not all of them. */
+    @Test
+    void bossMaskRejectsPartOfTheBoxHits() {
+        Boss boss = new Boss(500, 50, 200, 200, "/advpro_game/assets/boss_3.png", 8, 8, 1, 80, 71, 1);
+        MutableAabb bb = boss.hitboxInto(new MutableAabb());
+
+        Random rnd = new Random(18);
+        int box = 0, solid = 0;
+        for (int i = 0; i < 1000; i++) {
+            double x = 460 + rnd.nextDouble() * 280, y = 10 + rnd.nextDouble() * 280;
+            if (!MutableAabb.overlaps(x, y, x + 10, y + 10, bb.minX, bb.minY, bb.maxX, bb.maxY)) continue;
+            box++;
+            if (boss.isSolidWithin(x, y, x + 10, y + 10)) solid++;
+        }
+        assertTrue(box > 300, "box hits: " + box);
+        assertTrue(solid > box / 4 && solid < box, solid + " of " + box + " box hits on visible pixels");
+    }
+}
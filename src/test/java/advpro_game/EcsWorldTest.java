@@ -0,0 +1,116 @@
+package advpro_game;
+
+import advpro_game.ecs.Archetype;
+import advpro_game.ecs.ComponentType;
+import advpro_game.ecs.EcsWorld;
+import advpro_game.ecs.Query;
+import advpro_game.model.EnemyComponents.Health;
+import advpro_game.model.EnemyComponents.Shooter;
+import advpro_game.model.EnemyComponents.Transform;
+import advpro_game.model.EnemyComponents.Velocity;
+import advpro_game.model.EnemySystems;
+import advpro_game.model.EntityRegistry;
+import advpro_game.model.Minion;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(HeadlessExtension.class)
+class EcsWorldTest {
+
+    private static final int MOVER = ComponentType.maskOf(Transform.TYPE, Velocity.TYPE);
+
+    @Test
+    void swapRemoveKeepsEveryEntityOnItsRow() {
+        EcsWorld w = new EcsWorld();
+        int[] e = new int[4];
+        for (int i = 0; i < e.length; i++) {
+            e[i] = w.create(MOVER, "e" + i);
+            w.setDouble(e[i], Transform.TYPE, Transform.X, i * 10);
+        }
+        w.destroy(e[1]);
+        assertFalse(w.isAlive(e[1]));
+        assertEquals(3, w.size());
+        assertEquals(1, w.rowOf(e[3]));                      // last row moved into the hole
+        for (int i : new int[]{0, 2, 3}) {
+            assertEquals(i * 10, w.getDouble(e[i], Transform.TYPE, Transform.X));
+            assertEquals("e" + i, w.tableOf(e[i]).owner(w.rowOf(e[i])));
+        }
+
+        int again = w.create(MOVER, "new");                  // slot reused, old id stays dead
+        assertNotEquals(e[1], again);
+        assertFalse(w.isAlive(e[1]));
+    }
+
+    @Test
+    void addingAndRemovingComponentsMovesTheRowAndKeepsItsData() {
+        EcsWorld w = new EcsWorld();
+        int a = w.create(MOVER, null);
+        int b = w.create(MOVER, null);
+        w.setDouble(b, Transform.TYPE, Transform.Y, 42);
+        w.setDouble(b, Velocity.TYPE, Velocity.MOVE_SPEED, 30);
+
+        w.add(b, Health.TYPE);
+        w.setInt(b, Health.TYPE, Health.HP, 5);
+        assertTrue(w.has(b, Health.TYPE));
+        assertNotSame(w.tableOf(a), w.tableOf(b));
+        assertEquals(42, w.getDouble(b, Transform.TYPE, Transform.Y));
+        assertEquals(30, w.getDouble(b, Velocity.TYPE, Velocity.MOVE_SPEED));
+
+        w.remove(b, Velocity.TYPE);
+        assertFalse(w.has(b, Velocity.TYPE));
+        assertEquals(42, w.getDouble(b, Transform.TYPE, Transform.Y));
+        assertEquals(5, w.getInt(b, Health.TYPE, Health.HP));
+        assertEquals(1, w.tableOf(a).size());
+    }
+
+    @Test
+    void queriesFollowArchetypesCreatedLater() {
+        EcsWorld w = new EcsWorld();
+        Query movers = w.query(Transform.TYPE, Velocity.TYPE);
+        Query still = w.query(Transform.TYPE).without(Velocity.TYPE);
+        assertEquals(0, movers.count());
+
+        int m = w.create(MOVER, null);
+        w.create(Transform.TYPE.bit(), null);
+        w.create(MOVER | Health.TYPE.bit(), null);
+        assertEquals(2, movers.count());
+        assertEquals(2, movers.tables().length);
+        assertEquals(1, still.count());
+
+        w.remove(m, Velocity.TYPE);
+        assertEquals(1, movers.count());
+        assertEquals(2, still.count());
+        for (Archetype t : movers.tables()) assertTrue(t.has(Velocity.TYPE));
+    }
+
+    @Test
+    void enemiesJoinOnCommitAndTheDeadStopShooting() {
+        EnemySystems systems = new EnemySystems();
+        EntityRegistry<Minion> enemies = new EntityRegistry<>(4);
+        enemies.setColumns(systems);
+
+        Minion m = new Minion(100, 200);
+        m.setHp(2);
+        enemies.add(m);
+        enemies.commit();
+        int e = m.getEntity();
+        assertTrue(systems.world().has(e, Shooter.TYPE));
+        assertFalse(systems.world().has(e, Velocity.TYPE));  // minions stand still
+
+        m.hit(1);
+        assertTrue(systems.world().has(e, Shooter.TYPE));
+        m.hit(1);
+        assertTrue(m.isDead());
+        assertFalse(systems.world().has(e, Shooter.TYPE));
+        assertEquals(100, m.getX());
+
+        enemies.remove(m);
+        enemies.commit();
+        assertEquals(0, systems.world().size());
+        assertEquals(EcsWorld.NONE, m.getEntity());
+        assertTrue(m.isDead());                              // state kept on the object
+        assertEquals(200, m.getY());
+    }
+}
@@ -0,0 +1,96 @@
+package advpro_game;
+
+import advpro_game.model.Boss;
+import advpro_game.model.BulletPattern;
+import advpro_game.model.BulletPool;
+import advpro_game.model.Enemy;
+import advpro_game.model.EnemyPool;
+import advpro_game.model.EnemySpec;
+import advpro_game.model.EnemySystems;
+import advpro_game.model.EntityRegistry;
+import advpro_game.model.Minion;
+import advpro_game.model.SpriteSheets;
+import advpro_game.model.StageRoster;
+import advpro_game.view.WorldSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(HeadlessExtension.class)
+class EnemyPoolTest {
+
+    private static final EnemySpec MINION = EnemySpec.minion(60, 60, "/advpro_game/assets/minion_3-2.png", 3, 3, 1, 24, 16);
+
+    @Test
+    void reusedEnemiesStartFromTheirSpawnState() {
+        EnemyPool pool = new EnemyPool();
+        EntityRegistry<Enemy> enemies = new EntityRegistry<>(4);
+        enemies.setColumns(new EnemySystems());
+        enemies.setRemovalListener(pool::release);
+
+        Enemy first = pool.acquire(MINION, 100, 50);
+        assertInstanceOf(Minion.class, first);
+        int renderId = first.getRenderId();
+        enemies.add(first);
+        enemies.commit();
+        first.hit(5);
+        assertTrue(first.isDead());
+
+        enemies.remove(first);
+        enemies.commit();
+        assertEquals(1, pool.idleCount(MINION));
+
+        Enemy again = pool.acquire(MINION, 300, 80);
+        assertSame(first, again);
+        assertEquals(renderId, again.getRenderId());
+        assertEquals(1, again.getHp());
+        assertEquals(300, again.getX());
+        assertEquals(80, again.getY());
+        WorldSnapshot s = new WorldSnapshot().reset(1);
+        s.add(again);
+        assertEquals(1.0, s.getOpacity(0));                // no longer dimmed as dead
+        assertEquals(300, s.lerpX(0, 0.0));                // no interpolation from the old spot
+        assertEquals(1, pool.getCreated());
+        assertEquals(1, pool.getReused());
+    }
+
+    @Test
+    void releaseIgnoresUnpooledAndRepeatedReleases() {
+        EnemyPool pool = new EnemyPool();
+        pool.release(new Minion(0, 0));
+        Enemy e = pool.acquire(MINION, 0, 0);
+        pool.release(e);
+        pool.release(e);
+        assertEquals(1, pool.idleCount(MINION));
+        assertEquals(0, pool.outstanding(MINION));
+    }
+
+    @Test
+    void prewarmedStageSpawnsWithoutBuildingOrDecoding() {
+        EnemyPool pool = new EnemyPool();
+        BulletPool bullets = new BulletPool();
+        StageRoster.prewarm(pool, bullets, 3);
+        long built = pool.getCreated();
+        int sheets = SpriteSheets.size();
+
+        List<StageRoster.Spawn> minions = StageRoster.minions(3);
+        Enemy[] wave = new Enemy[minions.size()];
+        for (int i = 0; i < wave.length; i++) wave[i] = minions.get(i).acquire(pool);
+        for (Enemy e : wave) pool.release(e);                // wave cleared before the boss
+        List<StageRoster.Spawn> bossWave = StageRoster.bossWave(3);
+        Enemy boss = null;
+        for (StageRoster.Spawn s : bossWave) boss = s.acquire(pool);
+
+        assertEquals(built, pool.getCreated());
+        assertEquals(sheets, SpriteSheets.size());
+        assertInstanceOf(Boss.class, boss);
+        assertEquals(20, boss.getHp());                      // base 12 + the roster's bonus 8
+        BulletPattern pattern = boss.getPattern();
+        assertNotNull(pattern);
+        assertTrue(bullets.idleCount(pattern.config()) >= pattern.peakLive(), "boss pattern bullets ready before it spawns");
+        assertTrue(bullets.idleCount(boss.getBulletConfig()) > 0);
+    }
+}
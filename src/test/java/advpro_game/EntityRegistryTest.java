@@ -0,0 +1,100 @@
+package advpro_game;
+
+import advpro_game.model.EntityRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityRegistryTest {
+
+    private static final class Thing implements EntityRegistry.Member {
+        private int handle = EntityRegistry.NONE;
+        @Override public int getRegistryHandle() { return handle; }
+        @Override public void setRegistryHandle(int h) { handle = h; }
+    }
+
+    @Test
+    void changesBecomeVisibleOnlyOnCommit() {
+        EntityRegistry<Thing> reg = new EntityRegistry<>();
+        Thing a = new Thing();
+
+        assertTrue(reg.add(a));
+        assertFalse(reg.add(a), "duplicate add must be ignored");
+        assertEquals(0, reg.size());
+        assertEquals(1, reg.expectedSize());
+
+        reg.commit();
+        assertEquals(1, reg.size());
+        assertSame(a, reg.get(0));
+        assertTrue(reg.contains(a));
+
+        assertTrue(reg.remove(a));
+        assertFalse(reg.remove(a), "duplicate remove must be ignored");
+        assertEquals(1, reg.size(), "removal is deferred");
+        assertFalse(reg.contains(a));
+
+        reg.commit();
+        assertEquals(0, reg.size());
+        assertEquals(EntityRegistry.NONE, a.getRegistryHandle());
+    }
+
+    @Test
+    void staleHandlesDoNotResolveAfterSlotReuse() {
+        EntityRegistry<Thing> reg = new EntityRegistry<>();
+        Thing a = new Thing();
+        reg.add(a);
+        reg.commit();
+        int staleHandle = a.getRegistryHandle();
+
+        reg.remove(a);
+        reg.commit();
+
+        Thing b = new Thing();
+        reg.add(b);
+        reg.commit();
+
+        assertNull(reg.resolveHandle(staleHandle));
+        assertSame(b, reg.resolveHandle(b.getRegistryHandle()));
+        assertNotEquals(staleHandle, b.getRegistryHandle());
+    }
+
+    @Test
+    void swapRemoveKeepsStorageDense() {
+        EntityRegistry<Thing> reg = new EntityRegistry<>(8);
+        Thing[] things = new Thing[100];
+        for (int i = 0; i < things.length; i++) reg.add(things[i] = new Thing());
+        reg.commit();
+        assertEquals(100, reg.size());
+
+        for (int i = 0; i < things.length; i += 2) reg.remove(things[i]);
+        reg.commit();
+        assertEquals(50, reg.size());
+        for (int i = 0; i < reg.size(); i++) {
+            Thing t = reg.get(i);
+            assertSame(t, reg.resolveHandle(t.getRegistryHandle()));
+        }
+        for (int i = 1; i < things.length; i += 2) assertTrue(reg.contains(things[i]));
+    }
+
+    @Test
+    void clearAndCancelledAddsFollowCallOrder() {
+        EntityRegistry<Thing> reg = new EntityRegistry<>();
+        Thing old = new Thing(), cancelled = new Thing(), fresh = new Thing();
+        reg.add(old);
+        reg.commit();
+
+        reg.add(cancelled);
+        reg.remove(cancelled);          // cancels the queued add
+        reg.clear();                    // drops 'old'
+        reg.add(fresh);                 // queued after the clear, survives it
+        assertEquals(1, reg.expectedSize());
+        assertTrue(reg.anyExpected(t -> t == fresh));
+        assertFalse(reg.anyExpected(t -> t == old));
+
+        reg.commit();
+        assertEquals(1, reg.size());
+        assertSame(fresh, reg.get(0));
+        assertEquals(EntityRegistry.NONE, cancelled.getRegistryHandle());
+        assertEquals(EntityRegistry.NONE, old.getRegistryHandle());
+    }
+}
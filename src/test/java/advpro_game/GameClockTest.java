@@ -0,0 +1,54 @@
+package advpro_game;
+
+import advpro_game.util.GameClock;
+import advpro_game.util.GameClock.Domain;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameClockTest {
+
+    private static final long STEP = 10_000_000L; // 10 ms
+
+    @Test
+    void domainsAdvanceByTheirOwnScale() {
+        GameClock clock = new GameClock();
+        clock.setScale(Domain.ENEMIES, 0.5);
+
+        for (int i = 0; i < 100; i++) clock.advance(STEP);
+
+        assertEquals(1000, clock.nowMillis(Domain.PLAYER));
+        assertEquals(500, clock.nowMillis(Domain.ENEMIES));
+        assertEquals(0.005, clock.dtSeconds(Domain.ENEMIES), 1e-9);
+        assertEquals(100, clock.getTicks());
+    }
+
+    @Test
+    void pausedDomainOnlyMovesOnSingleStep() {
+        GameClock clock = new GameClock();
+        clock.setPaused(Domain.WORLD, true);
+
+        clock.advance(STEP);
+        assertEquals(0, clock.nowMillis(Domain.WORLD));
+        assertEquals(0.0, clock.dtSeconds(Domain.WORLD));
+        assertEquals(10, clock.nowMillis(Domain.UI));
+
+        clock.step(Domain.WORLD);
+        clock.advance(STEP);
+        clock.advance(STEP);
+        assertEquals(10, clock.nowMillis(Domain.WORLD));
+
+        clock.setPaused(Domain.WORLD, false);
+        clock.advance(STEP);
+        assertEquals(20, clock.nowMillis(Domain.WORLD));
+    }
+
+    @Test
+    void fractionalScalesDoNotDrift() {
+        GameClock clock = new GameClock();
+        clock.setScale(Domain.ENEMIES, 0.55);
+        long step = 1_000_000_000L / 60;
+        for (int i = 0; i < 60 * 60; i++) clock.advance(step);
+        assertEquals(60 * step * 60 * 0.55 / 1e6, clock.nowMillis(Domain.ENEMIES), 1.0);
+    }
+}
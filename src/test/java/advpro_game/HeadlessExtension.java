@@ -0,0 +1,34 @@
+package advpro_game;
+
+import advpro_game.util.Headless;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Runs a test class with {@link Headless} enabled, then puts the switch and the
+ * {@code prism.order} property back the way the class found them so the setting
+ * does not leak into whichever class the runner picks next.
+ */
+class HeadlessExtension implements BeforeAllCallback, AfterAllCallback {
+
+    private static final ExtensionContext.Namespace NS =
+            ExtensionContext.Namespace.create(HeadlessExtension.class);
+
+    private record Saved(boolean enabled, String prismOrder) {}
+
+    @Override
+    public void beforeAll(ExtensionContext ctx) {
+        ctx.getStore(NS).put(Saved.class, new Saved(Headless.isEnabled(), System.getProperty("prism.order")));
+        Headless.setEnabled(true);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext ctx) {
+        Saved saved = ctx.getStore(NS).remove(Saved.class, Saved.class);
+        if (saved == null) return;
+        Headless.setEnabled(saved.enabled());
+        if (saved.prismOrder() == null) System.clearProperty("prism.order");
+        else System.setProperty("prism.order", saved.prismOrder());
+    }
+}
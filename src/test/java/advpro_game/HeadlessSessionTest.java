@@ -0,0 +1,32 @@
+package advpro_game;
+
+import advpro_game.controller.BotInput;
+import advpro_game.controller.GameLoop;
+import advpro_game.controller.HeadlessSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(HeadlessExtension.class)
+class HeadlessSessionTest {
+
+    @Test
+    void botClearsAllThreeStagesWithinTheTickBudget() {
+        long maxTicks = 60L * 60 * 10;
+        HeadlessSession.Result r = new HeadlessSession()
+                .tickRate(GameLoop.TickRate.HZ_60)
+                .input(new BotInput())
+                .maxTicks(maxTicks)
+                .run();
+
+        assertTrue(r.allStagesCleared(), "bot should clear every stage: " + r);
+        assertEquals(3, r.stageReached());
+        assertTrue(r.ticks() > 0 && r.ticks() < maxTicks, "should stop on clear, not on the budget: " + r);
+        // the clock advances in whole nanoseconds, so allow one ns of truncation per step
+        assertEquals(r.ticks() / 60.0, r.simulatedSeconds(), r.ticks() * 1e-9, "one fixed step per tick");
+        assertFalse(r.gameOver());
+        assertTrue(r.livesLeft() > 0);
+        assertTrue(r.score() > 0);
+    }
+}
@@ -0,0 +1,85 @@
+package advpro_game;
+
+import advpro_game.model.Platform;
+import advpro_game.model.PlatformIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlatformIndexTest {
+
+    private static List<Platform> randomLevel(Random rnd, int n) {
+        List<Platform> out = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            double x = rnd.nextInt(4000) - 200;
+            double y = 100 + rnd.nextInt(400);
+            double w = 8 + rnd.nextInt(rnd.nextInt(10) == 0 ? 1500 : 200);
+            out.add(rnd.nextBoolean() ? Platform.solid(x, y, w, 20) : Platform.oneWay(x, y, w, 20));
+        }
+        return out;
+    }
+
+    @Test
+    void spanQueryReturnsExactlyTheOverlappingPlatforms() {
+        Random rnd = new Random(15);
+        List<Platform> level = randomLevel(rnd, 500);
+        PlatformIndex index = new PlatformIndex(level);
+        int[] out = new int[level.size()];
+
+        for (int q = 0; q < 300; q++) {
+            double minX = rnd.nextInt(4200) - 300, maxX = minX + 1 + rnd.nextInt(120);
+            List<Platform> expected = new ArrayList<>();
+            for (Platform p : level) if (p.getRight() > minX && p.getLeft() < maxX) expected.add(p);
+
+            int count = index.queryX(minX, maxX, out);
+            List<Platform> actual = new ArrayList<>();
+            for (int i = 0; i < count; i++) actual.add(index.get(out[i]));
+
+            assertEquals(expected.size(), count);
+            assertTrue(actual.containsAll(expected));
+        }
+    }
+
+    @Test
+    void landingPicksTheHighestCrossedTopLikeTheLinearScan() {
+        Random rnd = new Random(16);
+        List<Platform> level = randomLevel(rnd, 400);
+        PlatformIndex index = new PlatformIndex(level);
+
+        int landed = 0;
+        for (int q = 0; q < 2000; q++) {
+            double minX = rnd.nextInt(4000), maxX = minX + 40;
+            int prevBottom = 80 + rnd.nextInt(440), currBottom = prevBottom + rnd.nextInt(60) - 10;
+            boolean skipOneWay = rnd.nextInt(4) == 0;
+
+            int expectedTop = Integer.MAX_VALUE;
+            if (currBottom > prevBottom) {
+                for (Platform p : level) {
+                    if (!p.isSolid() && skipOneWay) continue;
+                    if (p.getRight() <= minX || p.getLeft() >= maxX) continue;
+                    int top = (int) p.getTop();
+                    if (prevBottom <= top + 1 && currBottom >= top) expectedTop = Math.min(expectedTop, top);
+                }
+            }
+
+            int hit = index.findLanding(minX, maxX, prevBottom, currBottom, skipOneWay);
+            if (expectedTop == Integer.MAX_VALUE) {
+                assertEquals(-1, hit);
+            } else {
+                assertEquals(expectedTop, (int) index.get(hit).getTop());
+                landed++;
+            }
+        }
+        assertTrue(landed > 100, "too few landings to be a meaningful check: " + landed);
+    }
+
+    @Test
+    void emptyIndexNeverLands() {
+        assertEquals(-1, PlatformIndex.EMPTY.findLanding(0, 100, 0, 50, false));
+        assertEquals(0, PlatformIndex.EMPTY.queryX(0, 100, new int[4]));
+    }
+}
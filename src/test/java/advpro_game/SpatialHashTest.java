@@ -0,0 +1,116 @@
+package advpro_game;
+
+import advpro_game.util.SpatialHash;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialHashTest {
+
+    @Test
+    void queryMatchesBruteForceOverlap() {
+        Random rnd = new Random(7);
+        SpatialHash grid = new SpatialHash(800, 400, 64);
+        double[][] boxes = new double[300][];
+
+        for (int round = 0; round < 3; round++) {       // rebuilt like every tick
+            grid.clear();
+            for (int i = 0; i < boxes.length; i++) {
+                double x = rnd.nextDouble() * 900 - 50, y = rnd.nextDouble() * 500 - 50;
+                double w = 4 + rnd.nextDouble() * 170, h = 4 + rnd.nextDouble() * 170;
+                boxes[i] = new double[]{x, y, x + w, y + h};
+                grid.insert(i, x, y, x + w, y + h);
+            }
+            for (int q = 0; q < 500; q++) {
+                double x = rnd.nextDouble() * 900 - 50, y = rnd.nextDouble() * 500 - 50;
+                double x2 = x + 1 + rnd.nextDouble() * 40, y2 = y + 1 + rnd.nextDouble() * 40;
+
+                Set<Integer> expected = new TreeSet<>();
+                for (int i = 0; i < boxes.length; i++) {
+                    double[] b = boxes[i];
+                    if (x2 > b[0] && x < b[2] && y2 > b[1] && y < b[3]) expected.add(i);
+                }
+                Set<Integer> actual = new TreeSet<>();
+                int n = grid.query(x, y, x2, y2);
+                for (int k = 0; k < n; k++) assertTrue(actual.add(grid.hit(k)), "duplicate hit");
+                assertEquals(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    void touchingEdgesDoNotOverlapAndClearForgetsEverything() {
+        SpatialHash grid = new SpatialHash(800, 400, 64);
+        grid.insert(3, 100, 100, 150, 150);
+        assertEquals(0, grid.query(150, 100, 170, 120));
+        assertEquals(1, grid.query(149, 149, 170, 170));
+        assertEquals(3, grid.hit(0));
+
+        grid.clear();
+        assertEquals(0, grid.query(0, 0, 800, 400));
+    }
+
+    @Test
+    void raycastReturnsTheBruteForceHitsOrderedByDistance() {
+        Random rnd = new Random(11);
+        SpatialHash grid = new SpatialHash(800, 400, 64);
+        double[][] boxes = new double[200][];
+        for (int i = 0; i < boxes.length; i++) {
+            double x = rnd.nextDouble() * 780, y = rnd.nextDouble() * 380;
+            double w = 10 + rnd.nextDouble() * 60, h = 10 + rnd.nextDouble() * 80;
+            boxes[i] = new double[]{x, y, x + w, y + h};
+            grid.insert(i, x, y, x + w, y + h);
+        }
+        SpatialHash.RayHits hits = new SpatialHash.RayHits();
+
+        for (int q = 0; q < 300; q++) {
+            double x0 = rnd.nextDouble() * 800, y0 = rnd.nextDouble() * 400;
+            double a = rnd.nextDouble() * Math.PI * 2, len = 50 + rnd.nextDouble() * 900;
+            double x1 = x0 + Math.cos(a) * len, y1 = y0 + Math.sin(a) * len;
+            double thick = (q % 3) * 15.0;
+            int limit = switch (q % 4) { case 0 -> 3; case 1 -> 20; default -> Integer.MAX_VALUE; };
+
+            List<double[]> expected = new ArrayList<>();          // {t, id}
+            for (int i = 0; i < boxes.length; i++) {
+                if (i % 5 == 0) continue;                          // filtered out below
+                double[] b = boxes[i];
+                double t = SpatialHash.segmentEntry(x0, y0, x1, y1, thick, thick, b[0], b[1], b[2], b[3]);
+                if (t >= 0) expected.add(new double[]{t, i});
+            }
+            expected.sort(Comparator.<double[]>comparingDouble(e -> e[0]).thenComparingDouble(e -> e[1]));
+            if (expected.size() > limit) expected = expected.subList(0, limit);
+
+            int n = grid.raycast(x0, y0, x1, y1, thick, limit, id -> id % 5 != 0, hits);
+            assertEquals(expected.size(), n, "query " + q);
+            for (int k = 0; k < n; k++) {
+                assertEquals((int) expected.get(k)[1], hits.id(k), "query " + q + " hit " + k);
+                assertEquals(expected.get(k)[0], hits.t(k), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void lineOfSightStopsAtTheFirstBlocker() {
+        SpatialHash grid = new SpatialHash(800, 400, 64);
+        grid.insert(0, 300, 180, 340, 220);
+        grid.insert(1, 500, 180, 540, 220);
+        SpatialHash.RayHits hits = new SpatialHash.RayHits();
+
+        assertFalse(grid.lineOfSight(20, 200, 780, 200, 0, null, hits));
+        assertEquals(1, hits.size());
+        assertEquals(0, hits.id(0));
+        assertTrue(grid.lineOfSight(20, 100, 780, 100, 0, null, hits));
+        assertTrue(grid.lineOfSight(20, 200, 780, 200, 0, id -> false, hits));
+
+        assertEquals(2, grid.raycast(780, 200, 20, 200, 0, Integer.MAX_VALUE, null, hits));
+        assertEquals(1, hits.id(0));                                // from the right: nearest first
+        assertEquals(520, hits.x(0), 1e-9);
+    }
+}
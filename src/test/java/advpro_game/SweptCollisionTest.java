@@ -0,0 +1,117 @@
+package advpro_game;
+
+import advpro_game.controller.CollisionSystem;
+import advpro_game.controller.GameLoop;
+import advpro_game.model.AnimatedSprite;
+import advpro_game.model.Bullet;
+import advpro_game.model.ContactBuffer;
+import advpro_game.model.Enemy;
+import advpro_game.model.Minion;
+import advpro_game.model.MutableAabb;
+import advpro_game.view.GameStage;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(HeadlessExtension.class)
+class SweptCollisionTest {
+
+    private final MutableAabb minion = new MutableAabb().setRect(400, 300, 24, 40);
+
+    @Test
+    void sweepReportsEarliestImpactEvenWhenTheEndPointIsPastTheBox() {
+        // 60 px step over a 24 px box: the end position no longer overlaps
+        double t = MutableAabb.sweep(380, 320, 440, 320, 6, 6, minion);
+        assertEquals((400 - 6 - 380) / 60.0, t, 1e-9);
+
+        assertEquals(0.0, MutableAabb.sweep(410, 320, 470, 320, 6, 6, minion));   // starts inside
+        assertEquals(-1.0, MutableAabb.sweep(380, 200, 440, 200, 6, 6, minion));  // passes above
+        assertEquals(-1.0, MutableAabb.sweep(380, 294, 440, 294, 6, 6, minion));  // grazes the top edge
+        assertEquals(-1.0, MutableAabb.sweep(300, 320, 380, 320, 6, 6, minion));  // stops short
+    }
+
+    @Test
+    void lowTickRateBulletStillHitsAThinMinion() {
+        GameStage stage = new GameStage();
+        GameLoop loop = new GameLoop(stage);
+
+        Minion m = new Minion(400, 300);          // 24 x 40
+        Bullet b = new Bullet(380, 320, 1, 0, 480.0, 1, 1.6, false);
+        stage.addEnemy(m);
+        stage.addBullet(b);
+        stage.commitEntityChanges();
+
+        b.update(0.125);                          // 60 px in one (very long) step
+        assertFalse(b.hitboxInto(new MutableAabb()).intersects(m.hitboxInto(new MutableAabb())));
+
+        loop.runStage(GameLoop.TickStage.COLLISIONS);
+        assertTrue(m.isDead(), "bullet tunnelled through the minion");
+        assertFalse(stage.getBullets().contains(b));
+    }
+
+    /** 40 x 40 enemy whose sprite is an opaque disc of radius 18: the box corners are transparent. */
+    private static final class DiscEnemy extends Enemy {
+        DiscEnemy(double x, double y) {
+            super(x, y, 40, 40);
+            WritableImage img = new WritableImage(40, 40);
+            for (int py = 0; py < 40; py++)
+                for (int px = 0; px < 40; px++)
+                    img.getPixelWriter().setArgb(px, py,
+                            (px - 20) * (px - 20) + (py - 20) * (py - 20) <= 18 * 18 ? 0xFF00FF00 : 0x00000000);
+            sprite = new AnimatedSprite(img, 1, 1, 1, 0, 0, 40, 40);
+            moveSpeed = 0;
+            shoots = false;
+        }
+    }
+
+    /** Commit both, move the shot {@code stepPx} along each axis in one update, and collect the contacts. */
+    private static ContactBuffer shoot(GameStage stage, Enemy e, Bullet b, double stepPx) {
+        stage.addEnemy(e);
+        stage.addBullet(b);
+        stage.commitEntityChanges();
+        b.update(Math.hypot(stepPx, stepPx) / 480.0);
+        ContactBuffer out = new ContactBuffer();
+        new CollisionSystem().detect(stage, out);
+        return out;
+    }
+
+    @Test
+    void diagonalShotThroughATransparentCornerHitsWhereThePixelsStart() {
+        GameStage stage = new GameStage();
+        DiscEnemy e = new DiscEnemy(400, 300);
+        MutableAabb shot = new Bullet(0, 0, 1, 1, 480.0, 1, 1.6, false).hitboxInto(new MutableAabb());
+        double hw = shot.width() / 2, hh = shot.height() / 2;
+        // Box corner starts 6 px outside the enemy's top-left corner and ends 24 px inside
+        Bullet b = new Bullet(400 - hw - 6, 300 - hh - 6, 1, 1, 480.0, 1, 1.6, false);
+
+        ContactBuffer out = shoot(stage, e, b, 30);
+        double boxToi = b.timeOfImpact(e.hitboxInto(new MutableAabb()));
+        assertEquals(6 / 30.0, boxToi, 1e-6);
+        assertEquals(1, out.size());
+        assertSame(e, out.target(0));
+
+        double toi = out.timeOfImpact(0);
+        assertTrue(toi > boxToi + 0.1, "contact reported at the box corner, not at the disc: " + toi);
+        double cx = out.x(0), cy = out.y(0);
+        assertTrue(e.isSolidWithin(cx - hw, cy - hh, cx + hw, cy + hh));
+        double ex = cx - 2, ey = cy - 2;            // 2 px earlier along the diagonal
+        assertFalse(e.isSolidWithin(ex - hw, ey - hh, ex + hw, ey + hh));
+    }
+
+    @Test
+    void shotClippingOnlyTheTransparentCornerMisses() {
+        GameStage stage = new GameStage();
+        DiscEnemy e = new DiscEnemy(400, 300);
+        MutableAabb shot = new Bullet(0, 0, 1, -1, 480.0, 1, 1.6, false).hitboxInto(new MutableAabb());
+        double hw = shot.width() / 2, hh = shot.height() / 2;
+        // Box corner slides up-right along x + y = 6 (enemy-local) across the top-left corner
+        Bullet b = new Bullet(400 - hw - 4, 300 - hh + 10, 1, -1, 480.0, 1, 1.6, false);
+
+        ContactBuffer out = shoot(stage, e, b, 14);
+        assertTrue(b.timeOfImpact(e.hitboxInto(new MutableAabb())) >= 0, "the boxes do overlap");
+        assertEquals(0, out.size());
+        assertFalse(e.isDead());
+    }
+}
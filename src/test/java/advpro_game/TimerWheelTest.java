@@ -0,0 +1,76 @@
+package advpro_game;
+
+import advpro_game.util.TimerWheel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerWheelTest {
+
+    @Test
+    void firesOnlyOnceEnoughSimulatedTimeHasPassed() {
+        TimerWheel wheel = new TimerWheel(8, 10.0);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(25, () -> fired.add("a"));
+
+        wheel.advance(20);
+        assertTrue(fired.isEmpty());
+        wheel.advance(5);                       // slow-mo sized steps accumulate
+        wheel.advance(5);
+        assertEquals(List.of("a"), fired);
+        assertEquals(0, wheel.pendingCount());
+    }
+
+    @Test
+    void delaysLongerThanOneRevolutionWaitTheirRounds() {
+        TimerWheel wheel = new TimerWheel(4, 1.0);
+        List<Integer> fired = new ArrayList<>();
+        wheel.schedule(3, () -> fired.add(3));
+        wheel.schedule(11, () -> fired.add(11));
+        wheel.schedule(11, () -> fired.add(-11)); // same tick: scheduling order
+
+        for (int t = 1; t <= 12; t++) {
+            wheel.advance(1);
+            if (t == 10) assertEquals(List.of(3), fired);
+        }
+        assertEquals(List.of(3, 11, -11), fired);
+    }
+
+    @Test
+    void cancelledTimersNeverRunIncludingWholeScopes() {
+        TimerWheel wheel = new TimerWheel(16, 1.0);
+        TimerWheel.Scope scope = wheel.newScope();
+        int[] runs = new int[1];
+
+        TimerWheel.Timer single = wheel.schedule(2, () -> runs[0] += 100);
+        scope.schedule(1, () -> runs[0]++);
+        scope.schedule(5, () -> runs[0]++);
+
+        assertTrue(single.cancel());
+        assertFalse(single.cancel());
+        assertTrue(single.isCancelled());
+
+        wheel.advance(1);
+        assertEquals(1, runs[0]);
+        scope.cancelAll();
+        wheel.advance(10);
+        assertEquals(1, runs[0]);
+        assertEquals(0, wheel.pendingCount());
+    }
+
+    @Test
+    void tasksMayCancelTimersDueOnTheSameTick() {
+        TimerWheel wheel = new TimerWheel(8, 1.0);
+        List<String> fired = new ArrayList<>();
+        TimerWheel.Timer[] second = new TimerWheel.Timer[1];
+        wheel.schedule(1, () -> { fired.add("first"); second[0].cancel(); });
+        second[0] = wheel.schedule(1, () -> fired.add("second"));
+
+        wheel.advance(1);
+        assertEquals(List.of("first"), fired);
+        assertFalse(second[0].isPending());
+    }
+}
@@ -0,0 +1,138 @@
+package advpro_game;
+
+import advpro_game.model.Bullet;
+import advpro_game.view.ViewBinding;
+import advpro_game.view.WorldSnapshot;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(HeadlessExtension.class)
+class ViewBindingTest {
+
+    private static Image sheet() {
+        Image img = new Bullet(0, 0, 1).getImage();
+        assertNotNull(img);
+        return img;
+    }
+
+    private static WorldSnapshot frame(long tick, Pane layer, Image img, int... ids) {
+        WorldSnapshot s = new WorldSnapshot().reset(tick).layer(layer);
+        for (int id : ids) s.add(id, img, 8, 8, Color.RED, 0, 0, id, id, 1, 1, null);
+        return s;
+    }
+
+    @Test
+    void nodesFollowTheIdsInTheFrame() {
+        Image img = sheet();
+        Pane layer = new Pane();
+        ViewBinding binding = new ViewBinding();
+
+        binding.sync(frame(1, layer, img, 1, 2, 3));
+        assertEquals(3, layer.getChildren().size());
+        Node two = binding.nodeOf(2);
+        assertInstanceOf(ImageView.class, two);
+
+        binding.sync(frame(2, layer, img, 2, 3, 4));      // 1 left, 4 joined: its view is recycled
+        assertNull(binding.nodeOf(1));
+        assertSame(two, binding.nodeOf(2));
+        assertEquals(3, layer.getChildren().size());
+        assertEquals(3, binding.getCreatedNodes());
+        assertEquals(1, binding.getReusedNodes());
+
+        binding.sync(frame(3, layer, null, 2));           // look changed: box instead of sheet
+        assertInstanceOf(Rectangle.class, binding.nodeOf(2));
+        assertEquals(1, layer.getChildren().size());
+
+        binding.clear();
+        assertEquals(0, binding.size());
+        assertTrue(layer.getChildren().isEmpty());
+    }
+
+    @Test
+    void applyWritesInterpolatedStateToTheNodes() {
+        Image img = sheet();
+        Pane layer = new Pane();
+        ViewBinding binding = new ViewBinding();
+        Rectangle2D vp = new Rectangle2D(0, 0, 4, 4);
+        WorldSnapshot s = new WorldSnapshot().reset(1).layer(layer);
+        s.add(7, img, 20, 30, null, 0, 10, 100, 20, -1, 0.5, vp);
+        s.add(8, null, 24, 40, Color.GRAY, 5, 5, 5, 5, 1, 0.0, null);
+
+        binding.sync(s);
+        binding.apply(s, 0.5);
+        ImageView iv = (ImageView) binding.nodeOf(7);
+        assertEquals(50, iv.getTranslateX());
+        assertEquals(15, iv.getTranslateY());
+        assertEquals(-1, iv.getScaleX());
+        assertEquals(0.5, iv.getOpacity());
+        assertSame(vp, iv.getViewport());
+        assertEquals(20, iv.getFitWidth());
+        assertEquals(30, iv.getFitHeight());
+
+        Rectangle box = (Rectangle) binding.nodeOf(8);
+        assertEquals(24, box.getWidth());
+        assertEquals(Color.GRAY, box.getFill());
+        assertFalse(box.isVisible());                     // opacity 0 hides the node
+    }
+
+    @Test
+    void bindingsSurviveChurn() {
+        Image img = sheet();
+        Pane layer = new Pane();
+        ViewBinding binding = new ViewBinding();
+        Random rnd = new Random(21);
+        Set<Integer> live = new HashSet<>();
+
+        for (int tick = 1; tick <= 200; tick++) {
+            for (int k = 0; k < 20; k++) {
+                int id = 1 + rnd.nextInt(600);
+                if (!live.remove(id)) live.add(id);
+            }
+            binding.sync(frame(tick, layer, img, live.stream().mapToInt(Integer::intValue).toArray()));
+            assertEquals(live.size(), binding.size());
+            assertEquals(live.size(), layer.getChildren().size());
+            for (int id : live) assertNotNull(binding.nodeOf(id), "id " + id);
+        }
+    }
+
+    /**
+     * The simulation side must stay free of the scene graph; only values may come from JavaFX.
+     * It must not reach into the view package either, which would bring scene-graph types in
+     * through the back door.
+     */
+    @Test
+    void modelOwnsNoSceneGraph() throws IOException {
+        Pattern sceneGraph = Pattern.compile(
+                "javafx\\.(application|animation|scene\\.(Node|Parent|Group|layout|shape|canvas|control|image\\.ImageView))"
+                        + "|extends\\s+(Pane|ImageView|Region|Group)\\b"
+                        + "|advpro_game\\.view\\b");
+        try (Stream<Path> files = Files.list(Path.of("src/main/java/advpro_game/model"))) {
+            List<Path> offenders = files
+                    .filter(p -> {
+                        try { return sceneGraph.matcher(Files.readString(p)).find(); }
+                        catch (IOException e) { throw new RuntimeException(e); }
+                    })
+                    .toList();
+            assertEquals(List.of(), offenders);
+        }
+    }
+}